@@ -6,6 +6,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.checkout.payment.gateway.configuration.PaymentJsonModule;
 import com.checkout.payment.gateway.domain.port.BankClient;
 import com.checkout.payment.gateway.domain.port.PaymentIdGenerator;
 import com.checkout.payment.gateway.exception.BankClientException;
@@ -167,6 +168,11 @@ class PaymentGatewayContractTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  void contractIsServedByStreamingCodecs() {
+    assertThat(objectMapper.getRegisteredModuleIds()).contains(new PaymentJsonModule().getTypeId());
+  }
+
   private String readResource(String path) throws IOException {
     ClassPathResource resource = new ClassPathResource(path);
     return new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
@@ -0,0 +1,166 @@
+package com.checkout.payment.gateway.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.application.PaymentGatewayService;
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "payment.processing.mode=accepted")
+@AutoConfigureMockMvc
+class AcceptedPaymentGatewayControllerTest {
+  private static final String PAYLOAD = "{" +
+      "\"card_number\":\"4242424242424242\"," +
+      "\"expiry_month\":12," +
+      "\"expiry_year\":2035," +
+      "\"currency\":\"USD\"," +
+      "\"amount\":100," +
+      "\"cvv\":\"123\"" +
+      "}";
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @SpyBean
+  private PaymentGatewayService paymentGatewayService;
+
+  @Test
+  void whenPaymentAcceptedThenReturnsPendingAndLaterTheOutcome() throws Exception {
+    CountDownLatch bank = new CountDownLatch(1);
+    when(bankClient.authorize(any())).thenAnswer(invocation -> {
+      bank.await(5, TimeUnit.SECONDS);
+      return true;
+    });
+
+    String body = mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.status").value("Pending"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"))
+        .andReturn().getResponse().getContentAsString();
+    String id = objectMapper.readTree(body).get("id").asText();
+
+    mvc.perform(get("/payments/{id}", id))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("Pending"))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+    bank.countDown();
+    assertThat(awaitStatus(id)).isEqualTo("Authorized");
+    mvc.perform(get("/payments/{id}", id))
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+  }
+
+  @Test
+  void whenBankUnavailableThenPaymentEndsFailed() throws Exception {
+    when(bankClient.authorize(any())).thenThrow(new BankUnavailableException("Bank unavailable"));
+
+    String body = mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD))
+        .andExpect(status().isAccepted())
+        .andReturn().getResponse().getContentAsString();
+
+    assertThat(awaitStatus(objectMapper.readTree(body).get("id").asText()))
+        .isEqualTo("Failed");
+  }
+
+  @Test
+  void whenPaymentInvalidThenRejectsWithoutAccepting() throws Exception {
+    mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD.replace("4242424242424242", "42")))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value("Rejected"));
+  }
+
+  @Test
+  void whenIdempotencyKeyRepeatedThenReturnsThePaymentAsItStands() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(false);
+
+    String body = mvc.perform(post("/payments")
+            .header("Idempotency-Key", "accepted-replay")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD))
+        .andExpect(status().isAccepted())
+        .andReturn().getResponse().getContentAsString();
+    String id = objectMapper.readTree(body).get("id").asText();
+    assertThat(awaitStatus(id)).isEqualTo("Declined");
+
+    mvc.perform(post("/payments")
+            .header("Idempotency-Key", "accepted-replay")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(id))
+        .andExpect(jsonPath("$.status").value("Declined"));
+  }
+
+  @Test
+  void whenReplayedPaymentLeftTheStoreThenReplaysItAsAccepted() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+
+    String body = mvc.perform(post("/payments")
+            .header("Idempotency-Key", "accepted-evicted")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD))
+        .andExpect(status().isAccepted())
+        .andReturn().getResponse().getContentAsString();
+    String id = objectMapper.readTree(body).get("id").asText();
+    assertThat(awaitStatus(id)).isEqualTo("Authorized");
+    doReturn(Optional.empty()).when(paymentGatewayService).findPaymentById(UUID.fromString(id));
+
+    mvc.perform(post("/payments")
+            .header("Idempotency-Key", "accepted-evicted")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD))
+        .andExpect(status().isAccepted())
+        .andExpect(jsonPath("$.id").value(id))
+        .andExpect(jsonPath("$.status").value("Pending"));
+  }
+
+  private String awaitStatus(String id) throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    String status;
+    do {
+      String body = mvc.perform(get("/payments/{id}", id))
+          .andReturn().getResponse().getContentAsString();
+      status = objectMapper.readTree(body).get("status").asText();
+      if (!status.equals("Pending")) {
+        return status;
+      }
+      Thread.sleep(10);
+    } while (System.currentTimeMillis() < deadline);
+    return status;
+  }
+}
@@ -0,0 +1,112 @@
+package com.checkout.payment.gateway.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.api.validation.CreatePaymentRequestValidator;
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import com.checkout.payment.gateway.domain.validation.PreValidatedPaymentRequestValidator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "payment.validation.mode=fused")
+@AutoConfigureMockMvc
+class FusedValidationControllerTest {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private PaymentRequestValidator paymentRequestValidator;
+
+  @SpyBean
+  private CreatePaymentRequestValidator createPaymentRequestValidator;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @Test
+  void domainValidatorSkipsTheRecheck() {
+    assertThat(paymentRequestValidator).isInstanceOf(PreValidatedPaymentRequestValidator.class);
+  }
+
+  @Test
+  void whenPaymentValidThenAuthorizes() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+
+    mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payment("4242424242424242", "USD", 100)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("Authorized"));
+
+    verify(createPaymentRequestValidator, atLeastOnce()).validate(any(), any());
+  }
+
+  @Test
+  void whenPaymentInvalidThenRejectsWithSnakeCaseFields() throws Exception {
+    mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payment("123", "USD", 100)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value("Rejected"))
+        .andExpect(jsonPath("$.message").value("Validation failed"))
+        .andExpect(jsonPath("$.errors.length()").value(1))
+        .andExpect(jsonPath("$.errors[0].field").value("card_number"))
+        .andExpect(jsonPath("$.errors[0].message").value("must match \"\\d{14,19}\""));
+
+    verifyNoInteractions(bankClient);
+  }
+
+  @Test
+  void whenExpiryInPastThenRejectsWithGlobalError() throws Exception {
+    String payload = payment("4242424242424242", "USD", 100).replace("2035", "2000");
+
+    mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("create_payment_request"))
+        .andExpect(jsonPath("$.errors[0].message").value("Expiry date must be in the future"));
+  }
+
+  @Test
+  void whenBatchItemInvalidThenOnlyThatItemIsRejected() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+
+    mvc.perform(post("/payments/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + payment("4242424242424242", "USD", 100) + ","
+                + payment("4242424242424242", "XYZ", 100) + "]"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].status").value("Authorized"))
+        .andExpect(jsonPath("$[1].status").value("Rejected"))
+        .andExpect(jsonPath("$[1].errors[0].field").value("currency"))
+        .andExpect(jsonPath("$[1].errors[0].message").value("Unsupported currency"));
+  }
+
+  private static String payment(String cardNumber, String currency, int amount) {
+    return "{" +
+        "\"card_number\":\"" + cardNumber + "\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"" + currency + "\"," +
+        "\"amount\":" + amount + "," +
+        "\"cvv\":\"123\"" +
+        "}";
+  }
+}
@@ -0,0 +1,116 @@
+package com.checkout.payment.gateway.api.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.domain.port.AsyncBankClient;
+import com.checkout.payment.gateway.exception.BankClientException;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "payment.processing.mode=non-blocking")
+@AutoConfigureMockMvc
+class NonBlockingPaymentGatewayControllerTest {
+  private static final String PAYLOAD = "{" +
+      "\"card_number\":\"4242424242424242\"," +
+      "\"expiry_month\":12," +
+      "\"expiry_year\":2035," +
+      "\"currency\":\"USD\"," +
+      "\"amount\":100," +
+      "\"cvv\":\"123\"" +
+      "}";
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private AsyncBankClient asyncBankClient;
+
+  @Test
+  void whenPaymentAuthorizedThenCanRetrieveIt() throws Exception {
+    when(asyncBankClient.authorize(any())).thenReturn(CompletableFuture.completedFuture(true));
+
+    MvcResult result = mvc.perform(asyncDispatch(startPayment()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("Authorized"))
+        .andExpect(jsonPath("$.card_number_last_four").value("4242"))
+        .andReturn();
+
+    JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+
+    mvc.perform(get("/payments/{id}", body.get("id").asText()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("Authorized"));
+  }
+
+  @Test
+  void whenPaymentDeclinedThenReturnsDeclinedStatus() throws Exception {
+    when(asyncBankClient.authorize(any())).thenReturn(CompletableFuture.completedFuture(false));
+
+    mvc.perform(asyncDispatch(startPayment()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("Declined"));
+  }
+
+  @Test
+  void whenBankUnavailableThen503IsReturned() throws Exception {
+    when(asyncBankClient.authorize(any())).thenReturn(CompletableFuture.failedFuture(
+        new BankUnavailableException("Bank unavailable", new RuntimeException("down"))));
+
+    mvc.perform(asyncDispatch(startPayment()))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(jsonPath("$.code").value("BANK_UNAVAILABLE"))
+        .andExpect(jsonPath("$.message").value("Bank unavailable"));
+  }
+
+  @Test
+  void whenBankErrorsThen502IsReturned() throws Exception {
+    when(asyncBankClient.authorize(any())).thenReturn(CompletableFuture.failedFuture(
+        new BankClientException("Bank error")));
+
+    mvc.perform(asyncDispatch(startPayment()))
+        .andExpect(status().isBadGateway())
+        .andExpect(jsonPath("$.code").value("BANK_ERROR"))
+        .andExpect(jsonPath("$.message").value("Bank error"));
+  }
+
+  @Test
+  void whenRequestInvalidThenRejectedWithoutAsyncDispatch() throws Exception {
+    mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD.replace("4242424242424242", "123")))
+        .andExpect(request().asyncNotStarted())
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value("Rejected"));
+
+    verifyNoInteractions(asyncBankClient);
+  }
+
+  private MvcResult startPayment() throws Exception {
+    return mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(PAYLOAD))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+  }
+}
@@ -0,0 +1,202 @@
+package com.checkout.payment.gateway.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest(properties = "payment.batch.max-size=3")
+@AutoConfigureMockMvc
+class PaymentBatchControllerTest {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @Test
+  void whenBatchSubmittedThenReturnsOneResultPerItemInOrder() throws Exception {
+    when(bankClient.authorize(argThat(request -> request != null && request.amount() == 100)))
+        .thenReturn(true);
+    when(bankClient.authorize(argThat(request -> request != null && request.amount() == 200)))
+        .thenThrow(new BankUnavailableException("Bank unavailable"));
+
+    String payload = "[" +
+        payment("4242424242424242", 100) + "," +
+        payment("42", 100) + "," +
+        payment("4242424242424242", 200) +
+        "]";
+
+    MvcResult result = mvc.perform(post("/payments/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(3))
+        .andExpect(jsonPath("$[0].status").value("Authorized"))
+        .andExpect(jsonPath("$[0].card_number_last_four").value("4242"))
+        .andExpect(jsonPath("$[1].status").value("Rejected"))
+        .andExpect(jsonPath("$[1].message").value("Validation failed"))
+        .andExpect(jsonPath("$[1].errors[0].field").value("card_number"))
+        .andExpect(jsonPath("$[2].status").value("Failed"))
+        .andExpect(jsonPath("$[2].code").value("BANK_UNAVAILABLE"))
+        .andExpect(jsonPath("$[2].message").value("Bank unavailable"))
+        .andReturn();
+
+    JsonNode body = objectMapper.readTree(result.getResponse().getContentAsString());
+    mvc.perform(get("/payments/{id}", body.get(0).get("id").asText()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("Authorized"));
+  }
+
+  @Test
+  void whenBatchExceedsMaxSizeThenRejectsWithoutCallingBank() throws Exception {
+    String payload = objectMapper.writeValueAsString(
+        Collections.nCopies(4, objectMapper.readTree(payment("4242424242424242", 100))));
+
+    mvc.perform(post("/payments/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value("Rejected"))
+        .andExpect(jsonPath("$.errors[0].field").value("payments"));
+
+    verifyNoInteractions(bankClient);
+  }
+
+  @Test
+  void whenBatchIsEmptyThenRejects() throws Exception {
+    mvc.perform(post("/payments/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[]"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("payments"));
+  }
+
+  @Test
+  void whenBatchIsNotAnArrayThenRejectsAsMalformed() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+
+    mvc.perform(post("/payments/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payment("4242424242424242", 100)))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.message").value("Malformed request"));
+  }
+
+  @Test
+  void whenStreamIngestedThenAnswersEveryLineByNumber() throws Exception {
+    when(bankClient.authorize(argThat(request -> request != null && request.amount() == 100)))
+        .thenReturn(true);
+    when(bankClient.authorize(argThat(request -> request != null && request.amount() == 200)))
+        .thenReturn(false);
+    when(bankClient.authorize(argThat(request -> request != null && request.amount() == 300)))
+        .thenThrow(new BankUnavailableException("Bank unavailable"));
+
+    String payload = payment("4242424242424242", 100) + "\n" +
+        "\n" +
+        "{\"card_number\":\n" +
+        payment("42", 100) + "\n" +
+        payment("4242424242424242", 200) + "\n" +
+        payment("4242424242424242", 300);
+
+    MvcResult result = mvc.perform(post("/payments/ingest")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    assertThat(result.getResponse().getContentType()).startsWith(MediaType.APPLICATION_NDJSON_VALUE);
+    Map<Long, JsonNode> results = new HashMap<>();
+    for (String line : result.getResponse().getContentAsString().split("\n")) {
+      JsonNode node = objectMapper.readTree(line);
+      results.put(node.get("line").asLong(), node.get("result"));
+    }
+    assertThat(results).containsOnlyKeys(1L, 3L, 4L, 5L, 6L);
+    assertThat(results.get(1L).get("status").asText()).isEqualTo("Authorized");
+    assertThat(results.get(3L).get("message").asText()).isEqualTo("Malformed request");
+    assertThat(results.get(4L).get("errors").get(0).get("field").asText())
+        .isEqualTo("card_number");
+    assertThat(results.get(5L).get("status").asText()).isEqualTo("Declined");
+    assertThat(results.get(6L).get("status").asText()).isEqualTo("Failed");
+    assertThat(results.get(6L).get("code").asText()).isEqualTo("BANK_UNAVAILABLE");
+
+    mvc.perform(get("/payments/{id}", results.get(1L).get("id").asText()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("Authorized"));
+  }
+
+  @Test
+  void whenIngestedLineIsTooLongThenRejectsItAndReadsOn() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+    String payload = "{\"card_number\":\"" + "4".repeat(10_000) + "\"}\n" +
+        payment("4242424242424242", 100) + "\n";
+
+    MvcResult result = mvc.perform(post("/payments/ingest")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    Map<Long, JsonNode> results = new HashMap<>();
+    for (String line : result.getResponse().getContentAsString().split("\n")) {
+      JsonNode node = objectMapper.readTree(line);
+      results.put(node.get("line").asLong(), node.get("result"));
+    }
+    assertThat(results).containsOnlyKeys(1L, 2L);
+    assertThat(results.get(1L).get("message").asText()).isEqualTo("Line too long");
+    assertThat(results.get(2L).get("status").asText()).isEqualTo("Authorized");
+  }
+
+  @Test
+  void whenIngestedStreamIsLongerThanMaxBatchSizeThenProcessesEveryLine() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+    StringBuilder payload = new StringBuilder();
+    for (int amount = 1; amount <= 10; amount++) {
+      payload.append(payment("4242424242424242", amount)).append('\n');
+    }
+
+    MvcResult result = mvc.perform(post("/payments/ingest")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .content(payload.toString()))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    assertThat(result.getResponse().getContentAsString().split("\n")).hasSize(10);
+  }
+
+  private static String payment(String cardNumber, int amount) {
+    return "{" +
+        "\"card_number\":\"" + cardNumber + "\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"USD\"," +
+        "\"amount\":" + amount + "," +
+        "\"cvv\":\"123\"" +
+        "}";
+  }
+}
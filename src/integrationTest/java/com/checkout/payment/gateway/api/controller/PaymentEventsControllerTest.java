@@ -0,0 +1,151 @@
+package com.checkout.payment.gateway.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PaymentEventsControllerTest {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @Test
+  void streamsSavedPaymentsMatchingTheFilters() throws Exception {
+    MvcResult stream = mvc.perform(get("/payments/events")
+            .param("status", "Authorized")
+            .param("currency", "gbp"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    createPayment(false, "GBP", 1);
+    createPayment(true, "USD", 2);
+    String authorized = createPayment(true, "GBP", 3);
+
+    List<Event> events = awaitEvents(stream, 1);
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).name()).isEqualTo("payment");
+    assertThat(objectMapper.readTree(events.get(0).data()).get("id").asText())
+        .isEqualTo(authorized);
+    assertThat(stream.getResponse().getContentType())
+        .startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+  }
+
+  @Test
+  void resumesAfterTheLastEventId() throws Exception {
+    MvcResult first = mvc.perform(get("/payments/events").param("currency", "EUR"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+    String seen = createPayment(true, "EUR", 10);
+    String missed = createPayment(false, "EUR", 11);
+    List<Event> events = awaitEvents(first, 2);
+
+    MvcResult resumed = mvc.perform(get("/payments/events")
+            .param("currency", "EUR")
+            .header("Last-Event-ID", events.get(0).id()))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    List<Event> replayed = awaitEvents(resumed, 1);
+    assertThat(objectMapper.readTree(events.get(0).data()).get("id").asText()).isEqualTo(seen);
+    assertThat(replayed).hasSize(1);
+    assertThat(replayed.get(0).id()).isEqualTo(events.get(1).id());
+    assertThat(objectMapper.readTree(replayed.get(0).data()).get("id").asText())
+        .isEqualTo(missed);
+  }
+
+  @Test
+  void rejectsInvalidFilters() throws Exception {
+    mvc.perform(get("/payments/events").param("status", "Settled"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("status"));
+    mvc.perform(get("/payments/events").param("currency", "EURO"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.errors[0].field").value("currency"));
+  }
+
+  private record Event(String id, String name, String data) {
+  }
+
+  /**
+   * Waits for at least {@code count} events on the stream, then returns all received so far.
+   */
+  private static List<Event> awaitEvents(MvcResult stream, int count) throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    List<Event> events;
+    do {
+      events = parse(stream.getResponse().getContentAsString());
+      if (events.size() >= count) {
+        Thread.sleep(50);
+        return parse(stream.getResponse().getContentAsString());
+      }
+      Thread.sleep(10);
+    } while (System.currentTimeMillis() < deadline);
+    return events;
+  }
+
+  private static List<Event> parse(String body) {
+    List<Event> events = new ArrayList<>();
+    for (String block : body.split("\n\n")) {
+      String id = null;
+      String name = null;
+      String data = null;
+      for (String line : block.split("\n")) {
+        if (line.startsWith("id:")) {
+          id = line.substring(3);
+        } else if (line.startsWith("event:")) {
+          name = line.substring(6);
+        } else if (line.startsWith("data:")) {
+          data = line.substring(5);
+        }
+      }
+      if (data != null) {
+        events.add(new Event(id, name, data));
+      }
+    }
+    return events;
+  }
+
+  private String createPayment(boolean authorized, String currency, int amount) throws Exception {
+    when(bankClient.authorize(any())).thenReturn(authorized);
+    String payload = "{" +
+        "\"card_number\":\"4242424242424242\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"" + currency + "\"," +
+        "\"amount\":" + amount + "," +
+        "\"cvv\":\"123\"" +
+        "}";
+    String body = mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body).get("id").asText();
+  }
+}
@@ -0,0 +1,131 @@
+package com.checkout.payment.gateway.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PaymentExportControllerTest {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @Test
+  void exportsEveryMatchingPaymentAsNdjson() throws Exception {
+    List<String> created = new ArrayList<>();
+    for (int amount = 1; amount <= 3; amount++) {
+      created.add(createPayment(true, "7303", "USD", amount));
+    }
+    createPayment(false, "7303", "USD", 4);
+
+    MockHttpServletResponse response = mvc.perform(get("/payments/export")
+            .param("last4", "7303")
+            .param("status", "Authorized"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_TYPE,
+            startsWith(MediaType.APPLICATION_NDJSON_VALUE)))
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+        .andReturn().getResponse();
+
+    assertThat(exportedIds(response.getContentAsString()))
+        .containsExactlyInAnyOrderElementsOf(created);
+  }
+
+  @Test
+  void gzipsTheExportWhenAccepted() throws Exception {
+    String created = createPayment(true, "7304", "EUR", 10);
+
+    MockHttpServletResponse response = mvc.perform(get("/payments/export")
+            .param("last4", "7304")
+            .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+        .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+        .andReturn().getResponse();
+
+    try (GZIPInputStream in = new GZIPInputStream(
+        new ByteArrayInputStream(response.getContentAsByteArray()))) {
+      assertThat(exportedIds(new String(in.readAllBytes(), StandardCharsets.UTF_8)))
+          .containsExactly(created);
+    }
+
+    mvc.perform(get("/payments/export")
+            .param("last4", "7304")
+            .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING));
+  }
+
+  @Test
+  void rejectsInvalidExportFilters() throws Exception {
+    assertRejected(get("/payments/export").param("currency", "US"), "currency");
+    assertRejected(get("/payments/export").param("status", "Settled"), "status");
+  }
+
+  private List<String> exportedIds(String ndjson) throws Exception {
+    assertThat(ndjson).endsWith("\n");
+    List<String> ids = new ArrayList<>();
+    for (String line : ndjson.split("\n")) {
+      ids.add(objectMapper.readTree(line).get("id").asText());
+    }
+    return ids;
+  }
+
+  private void assertRejected(MockHttpServletRequestBuilder request, String field)
+      throws Exception {
+    mvc.perform(request)
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value("Rejected"))
+        .andExpect(jsonPath("$.errors[0].field").value(field));
+  }
+
+  private String createPayment(boolean authorized, String lastFour, String currency, int amount)
+      throws Exception {
+    when(bankClient.authorize(any())).thenReturn(authorized);
+    String payload = "{" +
+        "\"card_number\":\"424242424242" + lastFour + "\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"" + currency + "\"," +
+        "\"amount\":" + amount + "," +
+        "\"cvv\":\"123\"" +
+        "}";
+    String body = mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body).get("id").asText();
+  }
+}
@@ -1,10 +1,15 @@
 package com.checkout.payment.gateway.api.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,6 +25,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
@@ -251,6 +257,48 @@ class PaymentGatewayControllerTest {
         + "}");
   }
 
+  @Test
+  void whenPaymentRetrievedThenResponseCarriesStrongEtagAndCacheHeaders() throws Exception {
+    String id = createPayment();
+
+    MvcResult result = mvc.perform(get("/payments/{id}", id))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, private, immutable"))
+        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+        .andExpect(jsonPath("$.id").value(id))
+        .andReturn();
+
+    String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+    assertThat(etag).matches("\"[0-9a-f]{8}\"");
+    mvc.perform(get("/payments/{id}", id))
+        .andExpect(header().string(HttpHeaders.ETAG, etag));
+  }
+
+  @Test
+  void whenIfNoneMatchesEtagThen304IsReturnedWithoutBody() throws Exception {
+    String id = createPayment();
+    String etag = mvc.perform(get("/payments/{id}", id))
+        .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+    MvcResult result = mvc.perform(get("/payments/{id}", id)
+            .header(HttpHeaders.IF_NONE_MATCH, etag))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andReturn();
+
+    assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+  }
+
+  @Test
+  void whenIfNoneMatchIsStaleThenFullResponseIsReturned() throws Exception {
+    String id = createPayment();
+
+    mvc.perform(get("/payments/{id}", id)
+            .header(HttpHeaders.IF_NONE_MATCH, "\"00000000\""))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.id").value(id));
+  }
+
   @Test
   void whenPaymentDoesNotExistThen404IsReturned() throws Exception {
     mvc.perform(get("/payments/{id}", UUID.randomUUID()))
@@ -303,6 +351,102 @@ class PaymentGatewayControllerTest {
         .andExpect(jsonPath("$.message").value("Bank error"));
   }
 
+  @Test
+  void whenIdempotencyKeyRepeatedThenOriginalPaymentIsReplayed() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+    String idempotencyKey = UUID.randomUUID().toString();
+
+    String payload = "{" +
+        "\"card_number\":\"4242424242424242\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"USD\"," +
+        "\"amount\":100," +
+        "\"cvv\":\"123\"" +
+        "}";
+
+    MvcResult first = mvc.perform(post("/payments")
+            .header("Idempotency-Key", idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    MvcResult second = mvc.perform(post("/payments")
+            .header("Idempotency-Key", idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andReturn();
+
+    Map<String, Object> firstBody = objectMapper.readValue(
+        first.getResponse().getContentAsString(), new TypeReference<>() {});
+    Map<String, Object> secondBody = objectMapper.readValue(
+        second.getResponse().getContentAsString(), new TypeReference<>() {});
+    assertThat(secondBody).isEqualTo(firstBody);
+    verify(bankClient, times(1)).authorize(any());
+  }
+
+  @Test
+  void whenIdempotencyKeyReusedForDifferentPaymentThenUnprocessable() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+    String idempotencyKey = UUID.randomUUID().toString();
+
+    String payload = "{" +
+        "\"card_number\":\"4242424242424242\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"USD\"," +
+        "\"amount\":100," +
+        "\"cvv\":\"123\"" +
+        "}";
+
+    mvc.perform(post("/payments")
+            .header("Idempotency-Key", idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk());
+
+    mvc.perform(post("/payments")
+            .header("Idempotency-Key", idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload.replace("\"amount\":100", "\"amount\":10000")))
+        .andExpect(status().isUnprocessableEntity())
+        .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REUSED"));
+    verify(bankClient, times(1)).authorize(any());
+  }
+
+  @Test
+  void whenIdempotentRequestFailsThenRetryCallsBankAgain() throws Exception {
+    when(bankClient.authorize(any()))
+        .thenThrow(new BankUnavailableException("Bank unavailable"))
+        .thenReturn(true);
+    String idempotencyKey = UUID.randomUUID().toString();
+
+    String payload = "{" +
+        "\"card_number\":\"4242424242424242\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"USD\"," +
+        "\"amount\":100," +
+        "\"cvv\":\"123\"" +
+        "}";
+
+    mvc.perform(post("/payments")
+            .header("Idempotency-Key", idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isServiceUnavailable());
+
+    mvc.perform(post("/payments")
+            .header("Idempotency-Key", idempotencyKey)
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.status").value("Authorized"));
+    verify(bankClient, times(2)).authorize(any());
+  }
+
   @Test
   void whenMalformedJsonThenRejected() throws Exception {
     mvc.perform(post("/payments")
@@ -325,6 +469,24 @@ class PaymentGatewayControllerTest {
         .andExpect(jsonPath("$.message").value("Invalid request"));
   }
 
+  private String createPayment() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true);
+    String payload = "{" +
+        "\"card_number\":\"4242424242424242\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"USD\"," +
+        "\"amount\":100," +
+        "\"cvv\":\"123\"" +
+        "}";
+    MvcResult result = mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andReturn();
+    return objectMapper.readTree(result.getResponse().getContentAsString()).get("id").asText();
+  }
+
   private void assertRejected(String payload) throws Exception {
     mvc.perform(post("/payments")
             .contentType(MediaType.APPLICATION_JSON)
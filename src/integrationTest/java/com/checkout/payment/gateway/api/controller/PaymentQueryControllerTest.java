@@ -0,0 +1,135 @@
+package com.checkout.payment.gateway.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+@SpringBootTest(properties = "payment.query.enabled=true")
+@AutoConfigureMockMvc
+class PaymentQueryControllerTest {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @Test
+  void pagesThroughEveryMatchingPaymentOnce() throws Exception {
+    List<String> created = new ArrayList<>();
+    for (int amount = 1; amount <= 5; amount++) {
+      created.add(createPayment(true, "7301", "EUR", amount));
+    }
+
+    List<String> listed = new ArrayList<>();
+    String cursor = null;
+    do {
+      MockHttpServletRequestBuilder request = get("/payments")
+          .param("last4", "7301")
+          .param("limit", "2");
+      if (cursor != null) {
+        request.param("cursor", cursor);
+      }
+      JsonNode page = objectMapper.readTree(mvc.perform(request)
+          .andExpect(status().isOk())
+          .andReturn().getResponse().getContentAsString());
+      page.get("payments").forEach(payment -> listed.add(payment.get("id").asText()));
+      cursor = page.get("next_cursor").isNull() ? null : page.get("next_cursor").asText();
+    } while (cursor != null);
+
+    assertThat(listed).containsExactlyInAnyOrderElementsOf(created);
+  }
+
+  @Test
+  void filtersByStatusCurrencyAmountAndTime() throws Exception {
+    Instant from = Instant.now().minusSeconds(1);
+    createPayment(true, "7302", "GBP", 150);
+    String declined = createPayment(false, "7302", "GBP", 250);
+    createPayment(false, "7302", "USD", 250);
+    createPayment(false, "7302", "GBP", 5_000);
+
+    mvc.perform(get("/payments")
+            .param("status", "declined")
+            .param("currency", "gbp")
+            .param("last4", "7302")
+            .param("min_amount", "200")
+            .param("max_amount", "300")
+            .param("from", from.toString())
+            .param("to", Instant.now().plusSeconds(60).toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.payments.length()").value(1))
+        .andExpect(jsonPath("$.payments[0].id").value(declined))
+        .andExpect(jsonPath("$.payments[0].status").value("Declined"))
+        .andExpect(jsonPath("$.payments[0].card_number_last_four").value("7302"))
+        .andExpect(jsonPath("$.next_cursor").isEmpty());
+
+    mvc.perform(get("/payments")
+            .param("last4", "7302")
+            .param("to", from.toString()))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.payments").isEmpty());
+  }
+
+  @Test
+  void rejectsInvalidParameters() throws Exception {
+    assertRejected(get("/payments").param("limit", "0"), "limit");
+    assertRejected(get("/payments").param("limit", "1001"), "limit");
+    assertRejected(get("/payments").param("status", "Settled"), "status");
+    assertRejected(get("/payments").param("currency", "US"), "currency");
+    assertRejected(get("/payments").param("last4", "12a4"), "last4");
+    assertRejected(get("/payments").param("cursor", "not-a-cursor"), "cursor");
+
+    mvc.perform(get("/payments").param("from", "yesterday"))
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.code").value("INVALID_REQUEST"));
+  }
+
+  private void assertRejected(MockHttpServletRequestBuilder request, String field)
+      throws Exception {
+    mvc.perform(request)
+        .andExpect(status().isBadRequest())
+        .andExpect(jsonPath("$.status").value("Rejected"))
+        .andExpect(jsonPath("$.errors[0].field").value(field));
+  }
+
+  private String createPayment(boolean authorized, String lastFour, String currency, int amount)
+      throws Exception {
+    when(bankClient.authorize(any())).thenReturn(authorized);
+    String payload = "{" +
+        "\"card_number\":\"424242424242" + lastFour + "\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"" + currency + "\"," +
+        "\"amount\":" + amount + "," +
+        "\"cvv\":\"123\"" +
+        "}";
+    String body = mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString();
+    return objectMapper.readTree(body).get("id").asText();
+  }
+}
@@ -0,0 +1,113 @@
+package com.checkout.payment.gateway.api.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class PaymentStatsControllerTest {
+
+  @Autowired
+  private MockMvc mvc;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @Test
+  void statsCountProcessedPaymentsInEveryWindow() throws Exception {
+    JsonNode before = stats();
+    when(bankClient.authorize(any())).thenReturn(false);
+    mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload("GBP", 700)))
+        .andExpect(status().isOk());
+
+    JsonNode after = awaitStats(tally(before, "total", "count") + 1);
+
+    assertThat(tally(after, "total", "count") - tally(before, "total", "count")).isEqualTo(1);
+    assertThat(tally(after, "total", "amount") - tally(before, "total", "amount"))
+        .isEqualTo(700);
+    for (String window : new String[] {"last_minute", "last_five_minutes", "last_hour"}) {
+      assertThat(tally(after, window, "count")).as(window).isPositive();
+      assertThat(tally(after, window, "amount")).as(window).isGreaterThanOrEqualTo(700);
+    }
+  }
+
+  @Test
+  void statsCountRequestsRejectedByValidation() throws Exception {
+    long before = tally(stats(), "total", "count", "Rejected");
+    mvc.perform(post("/payments")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(payload("GBP", 0)))
+        .andExpect(status().isBadRequest());
+    mvc.perform(post("/payments/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("[" + payload("GBP", -5) + "]"))
+        .andExpect(status().isOk());
+
+    assertThat(tally(stats(), "total", "count", "Rejected") - before).isEqualTo(2);
+  }
+
+  private JsonNode stats() throws Exception {
+    return objectMapper.readTree(mvc.perform(get("/payments/stats"))
+        .andExpect(status().isOk())
+        .andReturn().getResponse().getContentAsString());
+  }
+
+  /**
+   * Statistics are recorded off the request thread; waits until the total count reaches
+   * {@code count}.
+   */
+  private JsonNode awaitStats(long count) throws Exception {
+    long deadline = System.currentTimeMillis() + 5_000;
+    JsonNode stats = stats();
+    while (tally(stats, "total", "count") < count && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      stats = stats();
+    }
+    return stats;
+  }
+
+  private static long tally(JsonNode stats, String window, String field) {
+    return tally(stats, window, field, "Declined");
+  }
+
+  private static long tally(JsonNode stats, String window, String field, String status) {
+    for (JsonNode tally : stats.get(window)) {
+      if (tally.get("status").asText().equals(status)
+          && tally.get("currency").asText().equals("GBP")) {
+        return tally.get(field).asLong();
+      }
+    }
+    return 0;
+  }
+
+  private static String payload(String currency, int amount) {
+    return "{" +
+        "\"card_number\":\"4000000000000002\"," +
+        "\"expiry_month\":12," +
+        "\"expiry_year\":2035," +
+        "\"currency\":\"" + currency + "\"," +
+        "\"amount\":" + amount + "," +
+        "\"cvv\":\"123\"" +
+        "}";
+  }
+}
@@ -0,0 +1,81 @@
+package com.checkout.payment.gateway.api.metrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class PrometheusEndpointTest {
+  private static final String PAYMENT = "{" +
+      "\"card_number\":\"4242424242424242\"," +
+      "\"expiry_month\":12," +
+      "\"expiry_year\":2035," +
+      "\"currency\":\"USD\"," +
+      "\"amount\":100," +
+      "\"cvv\":\"123\"" +
+      "}";
+
+  @Autowired
+  private MockMvc mvc;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @Test
+  void exposesPaymentStageTimersAndCounters() throws Exception {
+    when(bankClient.authorize(any())).thenReturn(true)
+        .thenThrow(new BankUnavailableException("Bank unavailable", new RuntimeException()));
+
+    mvc.perform(post("/payments").contentType(MediaType.APPLICATION_JSON).content(PAYMENT))
+        .andExpect(status().isOk());
+    mvc.perform(post("/payments").contentType(MediaType.APPLICATION_JSON).content(PAYMENT))
+        .andExpect(status().isServiceUnavailable());
+
+    mvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString(
+            "payment_stage_seconds_bucket{stage=\"bank\"")))
+        .andExpect(content().string(containsString(
+            "payment_processed_total{currency=\"USD\",status=\"authorized\",} 1.0")))
+        .andExpect(content().string(containsString(
+            "payment_bank_errors_total{exception=\"BankUnavailableException\",} 1.0")));
+  }
+
+  @Test
+  void countsRequestsRejectedBeforeTheService() throws Exception {
+    mvc.perform(post("/payments").contentType(MediaType.APPLICATION_JSON)
+            .content(PAYMENT.replace("\"USD\"", "\"GBP\"").replace("\"amount\":100",
+                "\"amount\":0")))
+        .andExpect(status().isBadRequest());
+    mvc.perform(post("/payments").contentType(MediaType.APPLICATION_JSON).content("{"))
+        .andExpect(status().isBadRequest());
+    mvc.perform(post("/payments/batch").contentType(MediaType.APPLICATION_JSON)
+            .content("[" + PAYMENT.replace("\"USD\"", "\"GBP\"").replace("\"cvv\":\"123\"",
+                "\"cvv\":\"1\"") + "]"))
+        .andExpect(status().isOk());
+
+    mvc.perform(get("/actuator/prometheus"))
+        .andExpect(status().isOk())
+        .andExpect(content().string(containsString(
+            "payment_processed_total{currency=\"GBP\",status=\"rejected\",} 2.0")))
+        .andExpect(content().string(containsString(
+            "payment_processed_total{currency=\"other\",status=\"rejected\",} 1.0")));
+  }
+}
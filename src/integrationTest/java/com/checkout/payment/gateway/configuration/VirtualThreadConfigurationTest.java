@@ -0,0 +1,71 @@
+package com.checkout.payment.gateway.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.checkout.payment.gateway.domain.port.BankClient;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "payment.virtual-threads.enabled=true")
+class VirtualThreadConfigurationTest {
+  private static final String PAYMENT = "{" +
+      "\"card_number\":\"4242424242424242\"," +
+      "\"expiry_month\":12," +
+      "\"expiry_year\":2035," +
+      "\"currency\":\"USD\"," +
+      "\"amount\":100," +
+      "\"cvv\":\"123\"" +
+      "}";
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Autowired
+  @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+  private AsyncTaskExecutor applicationTaskExecutor;
+
+  @MockBean
+  private BankClient bankClient;
+
+  @Test
+  void requestsAreServedOnVirtualThreads() {
+    AtomicReference<Thread> requestThread = new AtomicReference<>();
+    when(bankClient.authorize(any())).thenAnswer(invocation -> {
+      requestThread.set(Thread.currentThread());
+      return true;
+    });
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+
+    ResponseEntity<String> response = restTemplate.postForEntity("/payments",
+        new HttpEntity<>(PAYMENT, headers), String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(requestThread.get().isVirtual()).isTrue();
+  }
+
+  @Test
+  void applicationTaskExecutorRunsOnVirtualThreads() throws Exception {
+    CompletableFuture<Boolean> virtual =
+        applicationTaskExecutor.submitCompletable(() -> Thread.currentThread().isVirtual());
+
+    assertThat(virtual.get(5, TimeUnit.SECONDS)).isTrue();
+  }
+}
@@ -0,0 +1,131 @@
+package com.checkout.payment.gateway;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.YearMonth;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * End-to-end POST /payments throughput against a stub bank that answers after a fixed delay.
+ * 400 concurrent callers exceed Tomcat's default 200 platform threads, so once the bank is slow
+ * the platform mode is capped at roughly 200 / latency requests per second while virtual threads
+ * keep scaling with the number of callers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.maxIdleConnections=1000")
+@Threads(400)
+public class VirtualThreadThroughputBenchmark {
+  private static final byte[] AUTHORIZED =
+      "{\"authorized\":true,\"authorization_code\":\"0bb07405\"}".getBytes(StandardCharsets.UTF_8);
+
+  @Param({"50", "200", "1000"})
+  public int bankLatencyMillis;
+
+  @Param({"platform", "virtual"})
+  public String threads;
+
+  private HttpServer bank;
+  private ExecutorService bankExecutor;
+  private ConfigurableApplicationContext gateway;
+  private ExecutorService clientExecutor;
+  private HttpClient client;
+  private HttpRequest payment;
+
+  @Setup(Level.Trial)
+  public void start() throws IOException {
+    bankExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    bank = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+    bank.setExecutor(bankExecutor);
+    bank.createContext("/payments", exchange -> {
+      exchange.getRequestBody().readAllBytes();
+      sleep(bankLatencyMillis);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, AUTHORIZED.length);
+      try (OutputStream body = exchange.getResponseBody()) {
+        body.write(AUTHORIZED);
+      }
+    });
+    bank.start();
+
+    gateway = new SpringApplicationBuilder(PaymentGatewayApplication.class)
+        .properties(
+            "server.port=0",
+            "spring.main.banner-mode=off",
+            "logging.level.root=WARN",
+            "bank.base-url=http://localhost:" + bank.getAddress().getPort(),
+            "bank.pool.max-connections=1000",
+            "bank.pool.max-connections-per-route=1000",
+            "payment.virtual-threads.enabled=" + "virtual".equals(threads))
+        .run();
+    int port = ((ServletWebServerApplicationContext) gateway).getWebServer().getPort();
+
+    clientExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(clientExecutor)
+        .build();
+    String body = "{"
+        + "\"card_number\":\"4242424242424241\","
+        + "\"expiry_month\":12,"
+        + "\"expiry_year\":" + YearMonth.now().plusYears(1).getYear() + ","
+        + "\"currency\":\"USD\","
+        + "\"amount\":100,"
+        + "\"cvv\":\"123\""
+        + "}";
+    payment = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/payments"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void stop() {
+    gateway.close();
+    bank.stop(0);
+    bankExecutor.shutdownNow();
+    clientExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public int authorize() throws IOException, InterruptedException {
+    return client.send(payment, HttpResponse.BodyHandlers.discarding()).statusCode();
+  }
+
+  private static void sleep(int millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
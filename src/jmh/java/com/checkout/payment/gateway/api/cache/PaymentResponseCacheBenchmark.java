@@ -0,0 +1,60 @@
+package com.checkout.payment.gateway.api.cache;
+
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.api.mapper.DefaultApiPaymentMapper;
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.checkout.payment.gateway.configuration.PaymentJsonModule;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Body cost of {@code GET /payments/{id}} once the payment is loaded: mapping and serializing it
+ * on every read against returning the bytes cached when it was saved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentResponseCacheBenchmark {
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+      .modulesToInstall(new PaymentJsonModule())
+      .build();
+  private final ApiPaymentMapper mapper = new DefaultApiPaymentMapper();
+  private final ObjectWriter writer = objectMapper.writerFor(PaymentResponse.class);
+  private final PaymentResponseCache cache =
+      new PaymentResponseCache(mapper, objectMapper, 1000, Duration.ofDays(365));
+  private final Payment payment =
+      new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "8877", 4, 2030, "GBP", 100);
+
+  public PaymentResponseCacheBenchmark() {
+    cache.put(payment);
+  }
+
+  @Benchmark
+  public byte[] serializeOnRead() throws JsonProcessingException {
+    return writer.writeValueAsBytes(mapper.toResponse(payment));
+  }
+
+  @Benchmark
+  public byte[] cached() {
+    return cache.get(payment.id(), id -> payment).body();
+  }
+}
@@ -0,0 +1,87 @@
+package com.checkout.payment.gateway.api.error;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.checkout.payment.gateway.application.PaymentMetrics;
+import com.checkout.payment.gateway.application.PaymentRejections;
+import com.checkout.payment.gateway.application.PaymentStatistics;
+import com.checkout.payment.gateway.configuration.ConfiguredSupportedCurrencies;
+import com.checkout.payment.gateway.configuration.PaymentConfigurationProperties;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import com.checkout.payment.gateway.exception.PaymentNotFoundException;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Cost of rejecting a request, from the throw to the handler's {@link ResponseEntity}, next to the
+ * cost of validating a request that passes. Add {@code -prof gc} for allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionPathBenchmark {
+  private final SupportedCurrencies currencies =
+      new ConfiguredSupportedCurrencies(new PaymentConfigurationProperties());
+  private final PaymentRequestValidator validator = new PaymentRequestValidator(currencies);
+  private final CommonExceptionHandler handler = new CommonExceptionHandler(
+      new PaymentRejections(new PaymentMetrics(new SimpleMeterRegistry(), currencies),
+          new PaymentStatistics(currencies)));
+  private final PaymentRequest valid =
+      new PaymentRequest("2222405343248877", 4, 2030, "GBP", 100, "123");
+  private final PaymentRequest zeroAmount =
+      new PaymentRequest("2222405343248877", 4, 2030, "GBP", 0, "123");
+
+  @Setup
+  public void setUp() {
+    // the handler logs every rejection; keep console output out of the measurement
+    ((Logger) LoggerFactory.getLogger(CommonExceptionHandler.class)).setLevel(Level.ERROR);
+  }
+
+  @Benchmark
+  public PaymentRequest accepted() {
+    validator.validate(valid);
+    return valid;
+  }
+
+  @Benchmark
+  public ResponseEntity<?> rejected() {
+    try {
+      validator.validate(zeroAmount);
+      throw new IllegalStateException("Expected the request to be rejected");
+    } catch (PaymentValidationException ex) {
+      return handler.handleDomainValidationException(ex);
+    }
+  }
+
+  @Benchmark
+  public ResponseEntity<?> notFound() {
+    try {
+      throw new PaymentNotFoundException("Payment not found");
+    } catch (PaymentNotFoundException ex) {
+      return handler.handleNotFound(ex);
+    }
+  }
+
+  @Benchmark
+  public String snakeCaseField() {
+    return ValidationErrors.toSnakeCase("cardNumberLastFour");
+  }
+}
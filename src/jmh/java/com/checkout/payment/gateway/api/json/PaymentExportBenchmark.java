@@ -0,0 +1,101 @@
+package com.checkout.payment.gateway.api.json;
+
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.api.mapper.DefaultApiPaymentMapper;
+import com.checkout.payment.gateway.api.model.PaymentPageResponse;
+import com.checkout.payment.gateway.configuration.PaymentJsonModule;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import com.checkout.payment.gateway.infrastructure.repository.InMemoryPaymentsRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Exporting all {@code entries} stored payments to a discarding stream:
+ * <ul>
+ *   <li>{@code ndjson}: what {@code GET /payments/export} does, streaming them from the index
+ *       one line at a time;</li>
+ *   <li>{@code ndjsonGzip}: the same through gzip;</li>
+ *   <li>{@code materialized}: the alternative, loading them as one listing page and serializing
+ *       it whole, which holds every payment and response on the heap at once.</li>
+ * </ul>
+ * Add {@code -prof gc} for allocation per export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PaymentExportBenchmark {
+  private static final String[] CURRENCIES = {"USD", "EUR", "GBP"};
+  private static final OutputStream DISCARD = new OutputStream() {
+    @Override
+    public void write(int b) {
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+    }
+  };
+
+  @Param({"100000"})
+  public int entries;
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+      .modulesToInstall(new PaymentJsonModule())
+      .build();
+  private final ApiPaymentMapper mapper = new DefaultApiPaymentMapper();
+  private final PaymentNdjsonWriter writer = new PaymentNdjsonWriter(mapper, objectMapper);
+  private InMemoryPaymentsRepository payments;
+  private PaymentQuery all;
+
+  @Setup(Level.Trial)
+  public void populate() {
+    payments = new InMemoryPaymentsRepository(true);
+    for (int i = 0; i < entries; i++) {
+      payments.save(new Payment(UUID.randomUUID(), PaymentStatus.values()[i % 3],
+          String.format("%04d", i % 10_000), i % 12 + 1, 2030 + i % 10, CURRENCIES[i % 3],
+          i + 1));
+    }
+    all = new PaymentQuery(null, null, null, null, null, null, null, null, Integer.MAX_VALUE);
+  }
+
+  @Benchmark
+  public long ndjson() throws IOException {
+    return writer.write(payments.stream(all), DISCARD);
+  }
+
+  @Benchmark
+  public long ndjsonGzip() throws IOException {
+    try (GZIPOutputStream out = new GZIPOutputStream(DISCARD, 8192)) {
+      return writer.write(payments.stream(all), out);
+    }
+  }
+
+  @Benchmark
+  public void materialized() throws IOException {
+    objectMapper.writeValue(DISCARD, new PaymentPageResponse(payments.find(all).payments()
+        .stream()
+        .map(mapper::toResponse)
+        .toList(), null));
+  }
+}
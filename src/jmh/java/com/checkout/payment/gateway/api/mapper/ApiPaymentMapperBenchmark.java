@@ -0,0 +1,45 @@
+package com.checkout.payment.gateway.api.mapper;
+
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of mapping between the API and domain models on each side of a payment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiPaymentMapperBenchmark {
+  private final ApiPaymentMapper mapper = new DefaultApiPaymentMapper();
+  private final CreatePaymentRequest request =
+      new CreatePaymentRequest("2222405343248877", 4, 2030, "gbp", 100, "123");
+  private final Payment payment =
+      new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "8877", 4, 2030, "GBP", 100);
+
+  @Benchmark
+  public PaymentRequest toDomain() {
+    return mapper.toDomain(request);
+  }
+
+  @Benchmark
+  public PaymentResponse toResponse() {
+    return mapper.toResponse(payment);
+  }
+}
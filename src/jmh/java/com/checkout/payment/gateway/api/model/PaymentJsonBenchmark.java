@@ -0,0 +1,70 @@
+package com.checkout.payment.gateway.api.model;
+
+import com.checkout.payment.gateway.configuration.PaymentJsonModule;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson cost of reading a {@link CreatePaymentRequest} body and writing a
+ * {@link PaymentResponse}, using an {@link ObjectMapper} configured the way Spring Boot's is, with
+ * Jackson's reflective codecs or {@link PaymentJsonModule}'s streaming ones
+ * ({@code payment.json.codec}). Add {@code -prof gc} for allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentJsonBenchmark {
+  @Param({"reflective", "streaming"})
+  public String codec;
+
+  private ObjectReader requestReader;
+  private ObjectWriter responseWriter;
+  private final byte[] requestJson = """
+      {"card_number":"2222405343248877","expiry_month":4,"expiry_year":2030,\
+      "currency":"GBP","amount":100,"cvv":"123"}"""
+      .getBytes(StandardCharsets.UTF_8);
+  private final PaymentResponse response = new PaymentResponse(UUID.randomUUID(), "Authorized",
+      "8877", 4, 2030, "GBP", 100);
+
+  @Setup
+  public void setUp() {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    if ("streaming".equals(codec)) {
+      builder.modulesToInstall(new PaymentJsonModule());
+    }
+    ObjectMapper objectMapper = builder.build();
+    requestReader = objectMapper.readerFor(CreatePaymentRequest.class);
+    responseWriter = objectMapper.writerFor(PaymentResponse.class);
+  }
+
+  @Benchmark
+  public CreatePaymentRequest readRequest() throws IOException {
+    return requestReader.readValue(requestJson);
+  }
+
+  @Benchmark
+  public byte[] writeResponse() throws JsonProcessingException {
+    return responseWriter.writeValueAsBytes(response);
+  }
+}
@@ -0,0 +1,91 @@
+package com.checkout.payment.gateway.api.validation;
+
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.api.mapper.DefaultApiPaymentMapper;
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.configuration.ConfiguredSupportedCurrencies;
+import com.checkout.payment.gateway.configuration.PaymentConfigurationProperties;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.domain.validation.CardExpiry;
+import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+/**
+ * Validation cost of one {@code POST /payments} body in each {@code payment.validation.mode}:
+ * Bean Validation plus the domain re-check after mapping, against the fused single pass. Includes
+ * the binding result MVC creates per request. Add {@code -prof gc} for allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CreatePaymentRequestValidationBenchmark {
+  private final SupportedCurrencies supportedCurrencies =
+      new ConfiguredSupportedCurrencies(new PaymentConfigurationProperties());
+  private final ApiPaymentMapper mapper = new DefaultApiPaymentMapper();
+  private final PaymentRequestValidator domainValidator =
+      new PaymentRequestValidator(supportedCurrencies);
+  private final Validator fusedValidator =
+      new CreatePaymentRequestValidator(supportedCurrencies, new CardExpiry());
+
+  @Param({"valid", "invalid"})
+  public String request;
+
+  private ValidatorFactory validatorFactory;
+  private Validator beanValidator;
+  private CreatePaymentRequest body;
+
+  @Setup
+  public void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    beanValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+    body = "valid".equals(request)
+        ? new CreatePaymentRequest("2222405343248877", 4, 2030, "GBP", 100, "123")
+        : new CreatePaymentRequest("2222", 13, 2030, "XYZ", 0, "12");
+  }
+
+  @TearDown
+  public void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Benchmark
+  public Errors beanValidation() {
+    Errors errors = validate(beanValidator);
+    if (!errors.hasErrors()) {
+      domainValidator.validate(mapper.toDomain(body));
+    }
+    return errors;
+  }
+
+  @Benchmark
+  public Errors fused() {
+    return validate(fusedValidator);
+  }
+
+  private Errors validate(Validator validator) {
+    Errors errors = new BeanPropertyBindingResult(body, "createPaymentRequest");
+    validator.validate(body, errors);
+    return errors;
+  }
+}
@@ -0,0 +1,105 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.configuration.ConfiguredSupportedCurrencies;
+import com.checkout.payment.gateway.configuration.PaymentConfigurationProperties;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.domain.port.PaymentIdGenerator;
+import com.checkout.payment.gateway.domain.repository.PaymentsRepository;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import com.checkout.payment.gateway.infrastructure.repository.InMemoryPaymentsRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link PaymentMetrics} and of publishing to a {@link PaymentPipeline} with no handlers
+ * on {@link PaymentGatewayService#processPayment}, with a bank that answers immediately so nothing
+ * hides the instrumentation:
+ * <ul>
+ *   <li>{@code uninstrumented}: the same validate, authorize, generate and save sequence with no
+ *       metrics at all;</li>
+ *   <li>{@code instrumented} with {@code registry=noop}: clock reads only, meters discard;</li>
+ *   <li>{@code instrumented} with {@code registry=prometheus}: what the application runs.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PaymentMetricsOverheadBenchmark {
+  private static final int IDS = 1024;
+
+  @Param({"noop", "prometheus"})
+  public String registry;
+
+  private final PaymentRequest request =
+      new PaymentRequest("2222405343248877", 4, 2030, "GBP", 100, "123");
+  private final UUID[] ids = new UUID[IDS];
+  private int next;
+
+  private PaymentsRepository repository;
+  private BankClient bank;
+  private PaymentIdGenerator idGenerator;
+  private PaymentRequestValidator validator;
+  private PaymentGatewayService service;
+
+  @Setup
+  public void create() {
+    for (int i = 0; i < IDS; i++) {
+      ids[i] = UUID.randomUUID();
+    }
+    MeterRegistry meterRegistry = switch (registry) {
+      case "noop" -> new CompositeMeterRegistry();
+      case "prometheus" -> new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+      default -> throw new IllegalArgumentException(registry);
+    };
+    SupportedCurrencies currencies =
+        new ConfiguredSupportedCurrencies(new PaymentConfigurationProperties());
+    repository = new InMemoryPaymentsRepository();
+    bank = paymentRequest -> true;
+    // cycles through a fixed set so the repository does not grow during the run
+    idGenerator = () -> ids[next++ & (IDS - 1)];
+    validator = new PaymentRequestValidator(currencies);
+    service = new PaymentGatewayService(repository, bank, idGenerator, validator,
+        new PaymentMetrics(meterRegistry, currencies), new PaymentStatistics(currencies),
+        new PaymentPipeline(Map.of(), 1024, 64, PipelineWaitStrategy.BLOCKING));
+  }
+
+  @Benchmark
+  public Payment instrumented() {
+    return service.processPayment(request);
+  }
+
+  @Benchmark
+  public Payment uninstrumented() {
+    validator.validate(request);
+    boolean authorized = bank.authorize(request);
+    Payment payment = new Payment(idGenerator.nextId(),
+        authorized ? PaymentStatus.AUTHORIZED : PaymentStatus.DECLINED,
+        request.cardNumber().substring(request.cardNumber().length() - 4),
+        request.expiryMonth(), request.expiryYear(), request.currency(), request.amount());
+    repository.save(payment);
+    return payment;
+  }
+}
@@ -0,0 +1,57 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.application.PaymentStatistics.Tally;
+import com.checkout.payment.gateway.application.PaymentStatistics.Window;
+import com.checkout.payment.gateway.configuration.ConfiguredSupportedCurrencies;
+import com.checkout.payment.gateway.configuration.PaymentConfigurationProperties;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link PaymentStatistics#record} from eight threads at once, against the same two additions on
+ * a single shared {@link AtomicLong} pair ({@code sharedAtomic}), and the cost of reading every
+ * window. Add {@code -prof gc} for allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentStatisticsBenchmark {
+  private final PaymentStatistics statistics = new PaymentStatistics(
+      new ConfiguredSupportedCurrencies(new PaymentConfigurationProperties()));
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong amount = new AtomicLong();
+
+  @Benchmark
+  @Threads(8)
+  public void record() {
+    statistics.record(PaymentStatus.AUTHORIZED, "GBP", 100);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public long sharedAtomic() {
+    count.incrementAndGet();
+    return amount.addAndGet(100);
+  }
+
+  @Benchmark
+  public Map<Window, List<Tally>> snapshot() {
+    return statistics.snapshot();
+  }
+}
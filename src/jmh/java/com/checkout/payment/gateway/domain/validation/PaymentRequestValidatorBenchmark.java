@@ -0,0 +1,52 @@
+package com.checkout.payment.gateway.domain.validation;
+
+import com.checkout.payment.gateway.configuration.ConfiguredSupportedCurrencies;
+import com.checkout.payment.gateway.configuration.PaymentConfigurationProperties;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of {@link PaymentRequestValidator#validate} for a valid request, which runs every check,
+ * and for one rejected on its last check. Add {@code -prof gc} for allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentRequestValidatorBenchmark {
+  private final PaymentRequestValidator validator =
+      new PaymentRequestValidator(
+          new ConfiguredSupportedCurrencies(new PaymentConfigurationProperties()));
+  private final PaymentRequest valid =
+      new PaymentRequest("2222405343248877", 4, 2030, "GBP", 100, "123");
+  private final PaymentRequest zeroAmount =
+      new PaymentRequest("2222405343248877", 4, 2030, "GBP", 0, "123");
+
+  @Benchmark
+  public PaymentRequest valid() {
+    validator.validate(valid);
+    return valid;
+  }
+
+  @Benchmark
+  public PaymentValidationException invalid() {
+    try {
+      validator.validate(zeroAmount);
+      throw new IllegalStateException("Expected the request to be rejected");
+    } catch (PaymentValidationException ex) {
+      return ex;
+    }
+  }
+}
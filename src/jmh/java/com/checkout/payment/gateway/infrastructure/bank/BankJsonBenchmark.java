@@ -0,0 +1,69 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import com.checkout.payment.gateway.configuration.PaymentJsonModule;
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentRequest;
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson cost of writing the bank's request body and reading its response, with reflective or
+ * streaming codecs ({@code payment.json.codec}). Add {@code -prof gc} for allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankJsonBenchmark {
+  @Param({"reflective", "streaming"})
+  public String codec;
+
+  private final BankPaymentRequest request =
+      new BankPaymentRequest("2222405343248877", "04/2030", "GBP", 100, "123");
+  private final byte[] responseJson = """
+      {"authorized":true,"authorization_code":"0bb07405-6d44-4b50-a8b3-8a0d4f1a7bce"}"""
+      .getBytes(StandardCharsets.UTF_8);
+
+  private ObjectWriter requestWriter;
+  private ObjectReader responseReader;
+
+  @Setup
+  public void setUp() {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+    if ("streaming".equals(codec)) {
+      builder.modulesToInstall(new PaymentJsonModule());
+    }
+    ObjectMapper objectMapper = builder.build();
+    requestWriter = objectMapper.writerFor(BankPaymentRequest.class);
+    responseReader = objectMapper.readerFor(BankPaymentResponse.class);
+  }
+
+  @Benchmark
+  public byte[] writeRequest() throws JsonProcessingException {
+    return requestWriter.writeValueAsBytes(request);
+  }
+
+  @Benchmark
+  public BankPaymentResponse readResponse() throws IOException {
+    return responseReader.readValue(responseJson);
+  }
+}
@@ -0,0 +1,33 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentRequest;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of building the bank's request body, dominated by formatting the expiry date.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BankRequestBenchmark {
+  private final PaymentRequest request =
+      new PaymentRequest("2222405343248877", 4, 2030, "GBP", 100, "123");
+
+  @Benchmark
+  public BankPaymentRequest toBankRequest() {
+    return RestTemplateBankClient.toBankRequest(request);
+  }
+}
@@ -0,0 +1,62 @@
+package com.checkout.payment.gateway.infrastructure.id;
+
+import com.checkout.payment.gateway.domain.port.PaymentIdGenerator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link UUID#randomUUID()} against the time-ordered generator as the number of
+ * concurrent callers grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PaymentIdGeneratorBenchmark {
+
+  @Param({"random", "time-ordered"})
+  public String generator;
+
+  private PaymentIdGenerator ids;
+
+  @Setup
+  public void create() {
+    ids = switch (generator) {
+      case "random" -> new UuidPaymentIdGenerator();
+      case "time-ordered" -> new TimeOrderedPaymentIdGenerator();
+      default -> throw new IllegalArgumentException(generator);
+    };
+  }
+
+  @Benchmark
+  @Threads(1)
+  public UUID threads1() {
+    return ids.nextId();
+  }
+
+  @Benchmark
+  @Threads(8)
+  public UUID threads8() {
+    return ids.nextId();
+  }
+
+  @Benchmark
+  @Threads(64)
+  public UUID threads64() {
+    return ids.nextId();
+  }
+}
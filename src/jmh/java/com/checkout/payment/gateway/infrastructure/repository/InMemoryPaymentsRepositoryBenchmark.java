@@ -0,0 +1,72 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@code save}/{@code findById} on the in-memory repository with six readers and two writers
+ * hitting it at once, for both the unbounded map the application uses by default and the store
+ * bounded by {@code payment.repository.max-entries}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryPaymentsRepositoryBenchmark {
+  private static final int ENTRIES = 100_000;
+
+  @Param({"unbounded", "bounded"})
+  public String repository;
+
+  private InMemoryPaymentsRepository payments;
+  private Payment[] stored;
+
+  @Setup(Level.Trial)
+  public void populate() {
+    payments = switch (repository) {
+      case "unbounded" -> new InMemoryPaymentsRepository();
+      case "bounded" -> new InMemoryPaymentsRepository(ENTRIES * 2L, null, false);
+      default -> throw new IllegalArgumentException(repository);
+    };
+    stored = new Payment[ENTRIES];
+    for (int i = 0; i < ENTRIES; i++) {
+      stored[i] = new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED,
+          String.format("%04d", i % 10_000), i % 12 + 1, 2030, "GBP", i + 1);
+      payments.save(stored[i]);
+    }
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(6)
+  public Optional<Payment> findById() {
+    return payments.findById(stored[ThreadLocalRandom.current().nextInt(ENTRIES)].id());
+  }
+
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(2)
+  public void save() {
+    payments.save(stored[ThreadLocalRandom.current().nextInt(ENTRIES)]);
+  }
+}
@@ -0,0 +1,71 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Save latency of the journal-backed repository under each fsync policy, with 8 concurrent
+ * writers so group commit has something to batch. The journal lives under
+ * {@code java.io.tmpdir}; point it at the real data volume with
+ * {@code -jvmArgsAppend -Djava.io.tmpdir=/path} since tmpfs makes every flush free.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(8)
+public class PaymentJournalBenchmark {
+
+  @Param({"PER_WRITE", "PERIODIC", "GROUP_COMMIT"})
+  public FsyncPolicy fsync;
+
+  private Path directory;
+  private JournalPaymentsRepository repository;
+
+  @Setup(Level.Trial)
+  public void open() throws IOException {
+    directory = Files.createTempDirectory("payment-journal-bench");
+    repository = new JournalPaymentsRepository(new InMemoryPaymentsRepository(),
+        new PaymentJournal(directory, 64 << 20, fsync, Duration.ofMillis(100)));
+  }
+
+  @TearDown(Level.Trial)
+  public void close() throws IOException {
+    repository.close();
+    try (Stream<Path> files = Files.walk(directory)) {
+      for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
+  @Benchmark
+  public void save() {
+    repository.save(new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "4242", 12, 2035,
+        "USD", 100));
+  }
+}
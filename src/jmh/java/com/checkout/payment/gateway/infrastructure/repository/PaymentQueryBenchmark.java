@@ -0,0 +1,86 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentCursor;
+import com.checkout.payment.gateway.domain.repository.PaymentPage;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Fetching one page of {@value #PAGE} payments {@code depth} payments into a listing of
+ * {@code entries}:
+ * <ul>
+ *   <li>{@code keysetPage}: seeks straight to the previous page's cursor;</li>
+ *   <li>{@code offsetPage}: what offset paging costs, reading and discarding {@code depth}
+ *       payments first;</li>
+ *   <li>{@code filteredPage}: first page of one card's declined payments, served from the
+ *       last-four index.</li>
+ * </ul>
+ * Add {@code -prof gc} for allocation per call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PaymentQueryBenchmark {
+  private static final int PAGE = 50;
+  private static final String[] CURRENCIES = {"USD", "EUR", "GBP"};
+
+  @Param({"1000000"})
+  public int entries;
+
+  @Param({"1000", "100000"})
+  public int depth;
+
+  private InMemoryPaymentsRepository payments;
+  private PaymentCursor cursor;
+
+  @Setup(Level.Trial)
+  public void populate() {
+    payments = new InMemoryPaymentsRepository(true);
+    for (int i = 0; i < entries; i++) {
+      payments.save(new Payment(UUID.randomUUID(), PaymentStatus.values()[i % 3],
+          String.format("%04d", i % 10_000), i % 12 + 1, 2030 + i % 10, CURRENCIES[i % 3],
+          i + 1));
+    }
+    cursor = payments.find(query(null, null, depth)).next();
+  }
+
+  @Benchmark
+  public PaymentPage keysetPage() {
+    return payments.find(query(null, cursor, PAGE));
+  }
+
+  @Benchmark
+  public List<Payment> offsetPage() {
+    List<Payment> all = payments.find(query(null, null, depth + PAGE)).payments();
+    return all.subList(depth, all.size());
+  }
+
+  @Benchmark
+  public PaymentPage filteredPage() {
+    return payments.find(new PaymentQuery(PaymentStatus.DECLINED, null, "0042", null, null,
+        null, null, null, PAGE));
+  }
+
+  private static PaymentQuery query(PaymentStatus status, PaymentCursor after, int limit) {
+    return new PaymentQuery(status, null, null, null, null, null, null, after, limit);
+  }
+}
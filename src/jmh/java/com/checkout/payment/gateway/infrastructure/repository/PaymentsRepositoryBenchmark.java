@@ -0,0 +1,110 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentsRepository;
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@code ConcurrentHashMap}-backed and off-heap repositories holding
+ * {@code entries} payments:
+ * <ul>
+ *   <li>heap retained by the repository, printed once the store is populated;</li>
+ *   <li>{@code fullGc}: duration of a full collection, which grows with the live heap the
+ *       collector has to trace;</li>
+ *   <li>{@code findById}/{@code save}: lookup and insert latency distribution. Add
+ *       {@code -prof gc} for allocation rate and GC counts, {@code -t 8} for contention.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g", "-XX:MaxDirectMemorySize=2g"})
+public class PaymentsRepositoryBenchmark {
+  private static final String[] CURRENCIES = {"USD", "EUR", "GBP"};
+
+  @Param({"concurrent-hash-map", "off-heap"})
+  public String repository;
+
+  @Param({"1000000"})
+  public int entries;
+
+  private PaymentsRepository payments;
+  private UUID[] ids;
+
+  @Setup(Level.Trial)
+  public void populate() {
+    ids = new UUID[entries];
+    for (int i = 0; i < entries; i++) {
+      ids[i] = UUID.randomUUID();
+    }
+    long heapBefore = usedHeapAfterGc();
+
+    payments = switch (repository) {
+      case "concurrent-hash-map" -> new InMemoryPaymentsRepository();
+      case "off-heap" -> new OffHeapPaymentsRepository(entries, false);
+      default -> throw new IllegalArgumentException(repository);
+    };
+    for (int i = 0; i < entries; i++) {
+      payments.save(payment(ids[i], i));
+    }
+
+    long heapBytes = usedHeapAfterGc() - heapBefore;
+    System.out.printf("%n%s: %,d payments, heap %,d bytes (%.1f bytes/entry)%n",
+        repository, entries, heapBytes, (double) heapBytes / entries);
+    if (payments instanceof OffHeapPaymentsRepository offHeap) {
+      System.out.printf("%s: off-heap %,d bytes (%.1f bytes/entry)%n",
+          repository, offHeap.allocatedBytes(), offHeap.bytesPerEntry());
+    }
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  public Optional<Payment> findById() {
+    return payments.findById(ids[ThreadLocalRandom.current().nextInt(entries)]);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SampleTime)
+  public void save() {
+    int i = ThreadLocalRandom.current().nextInt(entries);
+    payments.save(payment(ids[i], i));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 10)
+  public void fullGc() {
+    System.gc();
+  }
+
+  private static Payment payment(UUID id, int i) {
+    return new Payment(id, PaymentStatus.values()[i % 3], String.format("%04d", i % 10_000),
+        i % 12 + 1, 2030 + i % 10, CURRENCIES[i % 3], i + 1);
+  }
+
+  private static long usedHeapAfterGc() {
+    System.gc();
+    System.gc();
+    return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+  }
+}
@@ -0,0 +1,88 @@
+package com.checkout.payment.gateway.load;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Results of a reference run, checked in next to the harness, and how far a later run may
+ * drift from them. A latency regresses when it exceeds the baseline by more than
+ * {@code latencyTolerance} (a fraction) plus {@code latencySlackMillis}; the slack keeps
+ * sub-millisecond noise from failing the run. A metric missing from a baseline endpoint fails
+ * the run until the baseline is recorded again.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+record Baseline(
+    double rate,
+    String duration,
+    String bankLatency,
+    Thresholds thresholds,
+    Map<String, Endpoint> endpoints
+) {
+
+  @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+  record Thresholds(double latencyTolerance, double latencySlackMillis,
+                    double throughputTolerance) {
+  }
+
+  @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+  record Endpoint(Double throughput, Double p50Millis, Double p99Millis, Double p999Millis) {
+  }
+
+  /**
+   * Returns one message per endpoint metric that regressed or is missing from the baseline, or
+   * per endpoint missing from the run; empty when the run is within thresholds.
+   */
+  List<String> regressions(Map<String, EndpointStats.Result> results) {
+    List<String> regressions = new ArrayList<>();
+    endpoints.forEach((endpoint, expected) -> {
+      EndpointStats.Result actual = results.get(endpoint);
+      if (actual == null) {
+        regressions.add(endpoint + ": no requests were sent");
+        return;
+      }
+      checkLatency(regressions, endpoint, "p50", expected.p50Millis(), actual.p50Millis());
+      checkLatency(regressions, endpoint, "p99", expected.p99Millis(), actual.p99Millis());
+      checkLatency(regressions, endpoint, "p99.9", expected.p999Millis(), actual.p999Millis());
+      if (expected.throughput() == null) {
+        regressions.add(endpoint + ": throughput missing from the baseline");
+        return;
+      }
+      double minThroughput = expected.throughput() * (1 - thresholds.throughputTolerance());
+      if (actual.throughput() < minThroughput) {
+        regressions.add(String.format("%s: throughput %.1f/s below %.1f/s (baseline %.1f/s)",
+            endpoint, actual.throughput(), minThroughput, expected.throughput()));
+      }
+    });
+    return regressions;
+  }
+
+  Baseline withResults(Map<String, EndpointStats.Result> results) {
+    Map<String, Endpoint> updated = new TreeMap<>();
+    results.forEach((endpoint, result) -> updated.put(endpoint, new Endpoint(
+        round(result.throughput()), round(result.p50Millis()), round(result.p99Millis()),
+        round(result.p999Millis()))));
+    return new Baseline(rate, duration, bankLatency, thresholds, updated);
+  }
+
+  private void checkLatency(List<String> regressions, String endpoint, String percentile,
+                            Double expected, double actual) {
+    if (expected == null) {
+      regressions.add(endpoint + ": " + percentile + " missing from the baseline");
+      return;
+    }
+    double limit = expected * (1 + thresholds.latencyTolerance())
+        + thresholds.latencySlackMillis();
+    if (actual > limit) {
+      regressions.add(String.format("%s: %s %.2f ms above %.2f ms (baseline %.2f ms)",
+          endpoint, percentile, actual, limit, expected));
+    }
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 100) / 100.0;
+  }
+}
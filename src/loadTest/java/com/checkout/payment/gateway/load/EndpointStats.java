@@ -0,0 +1,58 @@
+package com.checkout.payment.gateway.load;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Response times of one endpoint. Each value is measured from the moment the request was
+ * scheduled to be sent, not from when it actually left, so a stalled gateway is charged for the
+ * requests that queued up behind the stall (coordinated-omission correction).
+ */
+final class EndpointStats {
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+  private final Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+  private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+  private final LongAdder failures = new LongAdder();
+
+  void record(long intendedStartNanos, long endNanos, int status) {
+    latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(endNanos - intendedStartNanos),
+        HIGHEST_TRACKABLE_MICROS));
+    if (status < 0) {
+      failures.increment();
+    } else {
+      statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+  }
+
+  Result result(double elapsedSeconds) {
+    Map<Integer, Long> counts = new TreeMap<>();
+    statuses.forEach((status, count) -> counts.put(status, count.sum()));
+    return new Result(
+        latencies.getTotalCount(),
+        failures.sum(),
+        latencies.getTotalCount() / elapsedSeconds,
+        millis(latencies.getValueAtPercentile(50)),
+        millis(latencies.getValueAtPercentile(99)),
+        millis(latencies.getValueAtPercentile(99.9)),
+        millis(latencies.getMaxValue()),
+        counts);
+  }
+
+  private static double millis(long micros) {
+    return micros / 1000.0;
+  }
+
+  @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+  record Result(long requests, long failures, double throughput, double p50Millis,
+                double p99Millis, double p999Millis, double maxMillis,
+                Map<Integer, Long> statuses) {
+  }
+}
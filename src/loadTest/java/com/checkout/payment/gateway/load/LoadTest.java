@@ -0,0 +1,238 @@
+package com.checkout.payment.gateway.load;
+
+import com.checkout.payment.gateway.PaymentGatewayApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Starts the gateway against a {@link StandInBank} and replays a {@link TrafficSample} at a
+ * constant arrival rate. Requests are sent on schedule whether or not earlier ones have
+ * completed (an open model), so a slow gateway builds a queue instead of slowing the load down.
+ * After a warm-up, response times are recorded per endpoint and compared with a checked-in
+ * {@link Baseline}; the run exits non-zero on a regression, or when it was not run with the
+ * settings the baseline was recorded with.
+ *
+ * <p>Settings are system properties, defaulting to those the baseline was recorded with:
+ * {@code loadTest.rate} (requests per second), {@code loadTest.duration},
+ * {@code loadTest.bankLatency}, plus {@code loadTest.warmup}, {@code loadTest.traffic},
+ * {@code loadTest.baseline}, {@code loadTest.report} and {@code loadTest.updateBaseline}.
+ * Program arguments are passed to the gateway, e.g. {@code --payment.processing.mode=non-blocking}.
+ */
+public final class LoadTest {
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+  private static final int REMEMBERED_IDS = 1024;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+  private final AtomicReferenceArray<String> createdIds = new AtomicReferenceArray<>(REMEMBERED_IDS);
+  private final AtomicLong created = new AtomicLong();
+  private final LongAdder inFlight = new LongAdder();
+
+  private LoadTest() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    System.exit(new LoadTest().run(args));
+  }
+
+  private int run(String[] gatewayArgs) throws Exception {
+    Path baselinePath = Path.of(System.getProperty("loadTest.baseline", "src/loadTest/baseline.json"));
+    Baseline baseline = objectMapper.readValue(baselinePath.toFile(), Baseline.class);
+    double rate = Double.parseDouble(
+        System.getProperty("loadTest.rate", String.valueOf(baseline.rate())));
+    String duration = System.getProperty("loadTest.duration", baseline.duration());
+    String bankLatency = System.getProperty("loadTest.bankLatency", baseline.bankLatency());
+    Duration warmup = DurationStyle.detectAndParse(System.getProperty("loadTest.warmup", "10s"));
+    TrafficSample sample = TrafficSample.load(
+        System.getProperty("loadTest.traffic", "classpath:requests.jsonl"), objectMapper);
+
+    Duration measured = DurationStyle.detectAndParse(duration);
+    Map<String, EndpointStats.Result> results;
+    try (StandInBank bank = new StandInBank(DurationStyle.detectAndParse(bankLatency));
+         ConfigurableApplicationContext gateway = startGateway(bank.baseUrl(), gatewayArgs)) {
+      int port = ((ServletWebServerApplicationContext) gateway).getWebServer().getPort();
+      System.out.printf("Replaying %d requests at %.0f/s for %s after a %s warm-up (bank latency %s)%n",
+          sample.entries().size(), rate, measured, warmup, bankLatency);
+      replay(sample, URI.create("http://localhost:" + port), rate, warmup, measured);
+      results = new TreeMap<>();
+      stats.forEach((endpoint, endpointStats) ->
+          results.put(endpoint, endpointStats.result(measured.toNanos() / 1e9)));
+    }
+
+    print(results);
+    writeReport(Path.of(System.getProperty("loadTest.report", "build/reports/load-test/results.json")),
+        rate, duration, bankLatency, results);
+
+    if (Boolean.getBoolean("loadTest.updateBaseline")) {
+      Baseline updated = new Baseline(rate, duration, bankLatency, baseline.thresholds(), Map.of())
+          .withResults(results);
+      objectMapper.writerWithDefaultPrettyPrinter().writeValue(baselinePath.toFile(), updated);
+      System.out.println("Baseline updated: " + baselinePath);
+      return 0;
+    }
+    if (rate != baseline.rate() || !duration.equals(baseline.duration())
+        || !bankLatency.equals(baseline.bankLatency())) {
+      System.out.printf("Baseline was recorded at %.0f/s for %s with bank latency %s; "
+          + "run with those settings or record a new baseline%n", baseline.rate(),
+          baseline.duration(), baseline.bankLatency());
+      return 1;
+    }
+    List<String> regressions = new ArrayList<>(baseline.regressions(results));
+    results.forEach((endpoint, result) -> {
+      if (result.failures() > 0) {
+        regressions.add(endpoint + ": " + result.failures() + " requests failed without a response");
+      }
+    });
+    if (regressions.isEmpty()) {
+      System.out.println("Within baseline thresholds");
+      return 0;
+    }
+    System.out.println("Regressed against " + baselinePath + ":");
+    regressions.forEach(regression -> System.out.println("  " + regression));
+    return 1;
+  }
+
+  private static ConfigurableApplicationContext startGateway(String bankUrl, String[] args) {
+    return new SpringApplicationBuilder(PaymentGatewayApplication.class)
+        .properties(
+            "spring.main.banner-mode=off",
+            "logging.level.root=WARN",
+            "logging.level.org.apache.catalina.loader=ERROR",
+            "logging.level.com.checkout.payment.gateway=ERROR",
+            "bank.base-url=" + bankUrl,
+            "bank.pool.max-connections=1000",
+            "bank.pool.max-connections-per-route=1000")
+        .run(Stream.concat(Stream.of("--server.port=0"), Arrays.stream(args))
+            .toArray(String[]::new));
+  }
+
+  private void replay(TrafficSample sample, URI gateway, double rate, Duration warmup,
+                      Duration duration) throws InterruptedException {
+    List<TrafficSample.Entry> entries = sample.entries();
+    long interval = (long) (1_000_000_000L / rate);
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      HttpClient client = HttpClient.newBuilder()
+          .version(HttpClient.Version.HTTP_1_1)
+          .executor(executor)
+          .build();
+      long start = System.nanoTime();
+      long measureFrom = start + warmup.toNanos();
+      long end = measureFrom + duration.toNanos();
+      for (long i = 0; ; i++) {
+        long intendedStart = start + i * interval;
+        if (intendedStart >= end) {
+          break;
+        }
+        long delay;
+        while ((delay = intendedStart - System.nanoTime()) > 0) {
+          LockSupport.parkNanos(delay);
+        }
+        send(client, gateway, entries.get((int) (i % entries.size())), intendedStart,
+            intendedStart >= measureFrom);
+      }
+      long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+      while (inFlight.sum() > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+    }
+  }
+
+  private void send(HttpClient client, URI gateway, TrafficSample.Entry entry, long intendedStart,
+                    boolean measured) {
+    String path = entry.path().replace(TrafficSample.ID_PLACEHOLDER, createdId());
+    HttpRequest.Builder request = HttpRequest.newBuilder(gateway.resolve(path))
+        .timeout(REQUEST_TIMEOUT);
+    if (entry.body() != null) {
+      request.header("Content-Type", "application/json")
+          .method(entry.method(), HttpRequest.BodyPublishers.ofString(entry.body()));
+    } else {
+      request.method(entry.method(), HttpRequest.BodyPublishers.noBody());
+    }
+    inFlight.increment();
+    client.sendAsync(request.build(), HttpResponse.BodyHandlers.ofString())
+        .whenComplete((response, failure) -> {
+          long end = System.nanoTime();
+          try {
+            if (response != null && response.statusCode() == 200
+                && "POST".equals(entry.method()) && "/payments".equals(entry.path())) {
+              rememberId(response.body());
+            }
+            if (measured) {
+              stats.computeIfAbsent(entry.endpoint(), endpoint -> new EndpointStats())
+                  .record(intendedStart, end, response == null ? -1 : response.statusCode());
+            }
+          } finally {
+            inFlight.decrement();
+          }
+        });
+  }
+
+  private void rememberId(String body) {
+    try {
+      JsonNode id = objectMapper.readTree(body).get("id");
+      if (id != null) {
+        createdIds.set((int) (created.getAndIncrement() % REMEMBERED_IDS), id.asText());
+      }
+    } catch (IOException ex) {
+      // not a payment response; nothing to remember
+    }
+  }
+
+  private String createdId() {
+    long count = Math.min(created.get(), REMEMBERED_IDS);
+    String id = count == 0 ? null
+        : createdIds.get(ThreadLocalRandom.current().nextInt((int) count));
+    return id != null ? id : UUID.randomUUID().toString();
+  }
+
+  private static void print(Map<String, EndpointStats.Result> results) {
+    System.out.printf("%n%-22s %9s %9s %12s %9s %9s %9s %9s  %s%n", "Endpoint", "Requests",
+        "Failures", "Throughput/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms", "Statuses");
+    results.forEach((endpoint, result) -> System.out.printf(
+        "%-22s %9d %9d %12.1f %9.2f %9.2f %9.2f %9.2f  %s%n", endpoint, result.requests(),
+        result.failures(), result.throughput(), result.p50Millis(), result.p99Millis(),
+        result.p999Millis(), result.maxMillis(), result.statuses()));
+  }
+
+  private void writeReport(Path report, double rate, String duration, String bankLatency,
+                           Map<String, EndpointStats.Result> results) throws IOException {
+    Map<String, Object> content = new LinkedHashMap<>();
+    content.put("rate", rate);
+    content.put("duration", duration);
+    content.put("bank_latency", bankLatency);
+    content.put("endpoints", results);
+    Files.createDirectories(report.toAbsolutePath().getParent());
+    objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT)
+        .writeValue(report.toFile(), content);
+    System.out.println("Report written to " + report);
+  }
+}
@@ -0,0 +1,92 @@
+package com.checkout.payment.gateway.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * In-process replacement for the mountebank bank simulator ({@code imposters/bank_simulator.ejs})
+ * with the same rules: a card number ending in an odd digit is authorized, an even digit is
+ * declined and {@code 0} answers 503. Every response is delayed by a fixed latency.
+ */
+final class StandInBank implements AutoCloseable {
+  private static final Pattern CARD_NUMBER = Pattern.compile("\"card_number\"\\s*:\\s*\"\\d*(\\d)\"");
+  private static final byte[] DECLINED =
+      "{\"authorized\":false,\"authorization_code\":\"\"}".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] BAD_REQUEST =
+      "{\"error_message\":\"Not all required properties were sent in the request\"}"
+          .getBytes(StandardCharsets.UTF_8);
+
+  static {
+    // read once when the first HttpServer is created; without TCP_NODELAY small responses wait
+    // for the client's delayed ACK and every bank call gains ~40 ms
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    System.setProperty("sun.net.httpserver.maxIdleConnections", "1000");
+  }
+
+  private final HttpServer server;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final long latencyMillis;
+
+  StandInBank(Duration latency) throws IOException {
+    this.latencyMillis = latency.toMillis();
+    this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 1024);
+    server.setExecutor(executor);
+    server.createContext("/payments", this::handle);
+    server.start();
+  }
+
+  String baseUrl() {
+    return "http://localhost:" + server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    sleep(latencyMillis);
+    Matcher cardNumber = CARD_NUMBER.matcher(body);
+    if (!cardNumber.find()) {
+      respond(exchange, 400, BAD_REQUEST);
+      return;
+    }
+    int lastDigit = cardNumber.group(1).charAt(0) - '0';
+    if (lastDigit == 0) {
+      respond(exchange, 503, "{}".getBytes(StandardCharsets.UTF_8));
+    } else if (lastDigit % 2 == 1) {
+      respond(exchange, 200, ("{\"authorized\":true,\"authorization_code\":\"" + UUID.randomUUID()
+          + "\"}").getBytes(StandardCharsets.UTF_8));
+    } else {
+      respond(exchange, 200, DECLINED);
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
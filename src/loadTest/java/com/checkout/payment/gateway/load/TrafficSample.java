@@ -0,0 +1,61 @@
+package com.checkout.payment.gateway.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Requests to replay, one JSON object per line:
+ * {@code {"method":"POST","path":"/payments","body":{...}}}. A {@code {id}} in the path is
+ * replaced at send time with the id of a payment created earlier in the run.
+ */
+record TrafficSample(List<Entry> entries) {
+  static final String ID_PLACEHOLDER = "{id}";
+
+  record Entry(String method, String path, String body) {
+    String endpoint() {
+      return method + " " + path;
+    }
+  }
+
+  static TrafficSample load(String location, ObjectMapper objectMapper) throws IOException {
+    try (InputStream in = open(location)) {
+      BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+      List<Entry> entries = new ArrayList<>();
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank()) {
+          continue;
+        }
+        JsonNode node = objectMapper.readTree(line);
+        JsonNode body = node.get("body");
+        entries.add(new Entry(node.get("method").asText(), node.get("path").asText(),
+            body == null ? null : objectMapper.writeValueAsString(body)));
+      }
+      if (entries.isEmpty()) {
+        throw new IllegalArgumentException("Traffic sample " + location + " has no requests");
+      }
+      return new TrafficSample(List.copyOf(entries));
+    }
+  }
+
+  private static InputStream open(String location) throws IOException {
+    if (location.startsWith("classpath:")) {
+      String resource = location.substring("classpath:".length());
+      InputStream in = TrafficSample.class.getClassLoader().getResourceAsStream(resource);
+      if (in == null) {
+        throw new IllegalArgumentException("No traffic sample on the classpath at " + resource);
+      }
+      return in;
+    }
+    return Files.newInputStream(Path.of(location));
+  }
+}
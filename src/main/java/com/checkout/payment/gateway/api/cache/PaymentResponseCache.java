@@ -0,0 +1,130 @@
+package com.checkout.payment.gateway.api.cache;
+
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.zip.CRC32C;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Keeps each payment's JSON response body, serialized once when the payment is created, so that
+ * {@code GET /payments/{id}} writes cached bytes instead of mapping and serializing again. A
+ * payment never changes once saved, so its entity tag is strong and the response may be cached
+ * by the client for {@code maxAge}. Bounded independently of the payment store: a payment that
+ * is no longer cached here is serialized again on its next read, and one the store has evicted
+ * is not served from here, since every read still looks the payment up. Pending
+ * payments are the exception: they are serialized on every read, never cached, and served with
+ * {@code no-cache}.
+ */
+public class PaymentResponseCache implements MeterBinder {
+  private final Cache<UUID, SerializedPaymentResponse> cache;
+  private final ApiPaymentMapper paymentMapper;
+  private final ObjectWriter writer;
+  private final CacheControl cacheControl;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  public PaymentResponseCache(ApiPaymentMapper paymentMapper, ObjectMapper objectMapper,
+                              long maximumSize, Duration maxAge) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .build();
+    this.paymentMapper = paymentMapper;
+    this.writer = objectMapper.writerFor(PaymentResponse.class);
+    this.cacheControl = CacheControl.maxAge(maxAge).cachePrivate().immutable();
+  }
+
+  /**
+   * Serializes a newly saved payment and caches the result, unless it is pending.
+   */
+  public SerializedPaymentResponse put(Payment payment) {
+    SerializedPaymentResponse response = serialize(payment);
+    if (response.immutable()) {
+      cache.put(payment.id(), response);
+    }
+    return response;
+  }
+
+  /**
+   * Loads the payment for {@code id}, so a payment gone from the store fails as the loader does,
+   * and returns its cached response, serializing and caching it on a miss.
+   */
+  public SerializedPaymentResponse get(UUID id, Function<UUID, Payment> loader) {
+    Payment payment = loader.apply(id);
+    SerializedPaymentResponse response = cache.getIfPresent(id);
+    if (response != null) {
+      hits.increment();
+      return response;
+    }
+    misses.increment();
+    return put(payment);
+  }
+
+  /**
+   * Returns the cached response for a payment already at hand, serializing and caching it if
+   * need be. Not counted as a request.
+   */
+  public SerializedPaymentResponse of(Payment payment) {
+    if (payment.status() == PaymentStatus.PENDING) {
+      return serialize(payment);
+    }
+    return cache.get(payment.id(), id -> serialize(payment));
+  }
+
+  /**
+   * 200 response writing the cached bytes as is. For a GET, Spring MVC answers 304 instead when
+   * {@code If-None-Match} matches the entity tag.
+   */
+  public ResponseEntity<byte[]> ok(SerializedPaymentResponse response) {
+    return ResponseEntity.ok()
+        .eTag(response.etag())
+        .cacheControl(response.immutable() ? cacheControl : CacheControl.noCache())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(response.body());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    counter(registry, "hit", hits);
+    counter(registry, "miss", misses);
+    Gauge.builder("payment.response-cache.size", cache, Cache::estimatedSize)
+        .description("Serialized payment responses currently cached")
+        .register(registry);
+  }
+
+  private SerializedPaymentResponse serialize(Payment payment) {
+    byte[] body;
+    try {
+      body = writer.writeValueAsBytes(paymentMapper.toResponse(payment));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Could not serialize payment " + payment.id(), ex);
+    }
+    CRC32C crc = new CRC32C();
+    crc.update(body);
+    return new SerializedPaymentResponse(body, String.format("\"%08x\"", crc.getValue()),
+        payment.status() != PaymentStatus.PENDING);
+  }
+
+  private static void counter(MeterRegistry registry, String result, LongAdder count) {
+    FunctionCounter.builder("payment.response-cache.requests", count, LongAdder::sum)
+        .description("GET /payments/{id} requests, by response cache result")
+        .tag("result", result)
+        .register(registry);
+  }
+}
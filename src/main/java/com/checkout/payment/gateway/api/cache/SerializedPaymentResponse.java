@@ -0,0 +1,9 @@
+package com.checkout.payment.gateway.api.cache;
+
+/**
+ * A {@link com.checkout.payment.gateway.api.model.PaymentResponse} serialized to JSON once, with
+ * its strong entity tag (quoted, ready for the {@code ETag} header). A pending payment's response
+ * is not {@code immutable}: it changes once the payment is authorized.
+ */
+public record SerializedPaymentResponse(byte[] body, String etag, boolean immutable) {
+}
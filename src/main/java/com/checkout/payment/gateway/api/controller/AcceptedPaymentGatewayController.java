@@ -0,0 +1,94 @@
+package com.checkout.payment.gateway.api.controller;
+
+import com.checkout.payment.gateway.api.cache.PaymentResponseCache;
+import com.checkout.payment.gateway.api.cache.SerializedPaymentResponse;
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.checkout.payment.gateway.application.PaymentGatewayService;
+import com.checkout.payment.gateway.application.PaymentIdempotencyCache;
+import com.checkout.payment.gateway.application.PendingPaymentAuthorizer;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import java.net.URI;
+import java.util.UUID;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * {@code POST /payments} answers {@code 202 Accepted} with the payment still {@code Pending} as
+ * soon as it is validated and stored; it is authorized in the background, and
+ * {@code GET /payments/{id}} shows the outcome once there is one. A repeated
+ * {@code Idempotency-Key} gets the payment as it stands now.
+ */
+@RestController
+@RequestMapping("/payments")
+@ConditionalOnProperty(prefix = "payment.processing", name = "mode", havingValue = "accepted")
+public class AcceptedPaymentGatewayController {
+
+  private final PendingPaymentAuthorizer pendingPaymentAuthorizer;
+  private final PaymentGatewayService paymentGatewayService;
+  private final ApiPaymentMapper paymentMapper;
+  private final PaymentIdempotencyCache idempotencyCache;
+  private final PaymentResponseCache responseCache;
+
+  public AcceptedPaymentGatewayController(PendingPaymentAuthorizer pendingPaymentAuthorizer,
+                                          PaymentGatewayService paymentGatewayService,
+                                          ApiPaymentMapper paymentMapper,
+                                          PaymentIdempotencyCache idempotencyCache,
+                                          PaymentResponseCache responseCache) {
+    this.pendingPaymentAuthorizer = pendingPaymentAuthorizer;
+    this.paymentGatewayService = paymentGatewayService;
+    this.paymentMapper = paymentMapper;
+    this.idempotencyCache = idempotencyCache;
+    this.responseCache = responseCache;
+  }
+
+  @PostMapping
+  @ApiResponse(responseCode = "202",
+      content = @Content(schema = @Schema(implementation = PaymentResponse.class)))
+  public ResponseEntity<byte[]> processPayment(
+      @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+      @Valid @RequestBody CreatePaymentRequest request) {
+    PaymentRequest paymentRequest = paymentMapper.toDomain(request);
+    Payment payment;
+    if (idempotencyKey == null) {
+      payment = pendingPaymentAuthorizer.submit(paymentRequest);
+    } else {
+      Payment accepted = idempotencyCache.execute(idempotencyKey, paymentRequest,
+          () -> pendingPaymentAuthorizer.submit(paymentRequest));
+      // as it stands now, or as accepted once the store has evicted it
+      payment = paymentGatewayService.findPaymentById(accepted.id()).orElse(accepted);
+    }
+    SerializedPaymentResponse response = responseCache.put(payment);
+    if (response.immutable()) {
+      return responseCache.ok(response);
+    }
+    return ResponseEntity.status(HttpStatus.ACCEPTED)
+        .location(URI.create("/payments/" + payment.id()))
+        .cacheControl(CacheControl.noStore())
+        .contentType(MediaType.APPLICATION_JSON)
+        .body(response.body());
+  }
+
+  @GetMapping("/{id}")
+  @ApiResponse(responseCode = "200",
+      content = @Content(schema = @Schema(implementation = PaymentResponse.class)))
+  public ResponseEntity<byte[]> getPaymentById(@PathVariable UUID id) {
+    return responseCache.ok(responseCache.get(id, paymentGatewayService::getPaymentById));
+  }
+}
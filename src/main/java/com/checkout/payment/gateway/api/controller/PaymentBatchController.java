@@ -0,0 +1,285 @@
+package com.checkout.payment.gateway.api.controller;
+
+import com.checkout.payment.gateway.api.error.ValidationErrors;
+import com.checkout.payment.gateway.api.json.NdjsonLineReader;
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.api.model.FailedPaymentResponse;
+import com.checkout.payment.gateway.api.model.IngestedPaymentResult;
+import com.checkout.payment.gateway.api.model.PaymentResult;
+import com.checkout.payment.gateway.api.model.RejectedPaymentResponse;
+import com.checkout.payment.gateway.api.model.ValidationError;
+import com.checkout.payment.gateway.api.validation.CreatePaymentRequestValidator;
+import com.checkout.payment.gateway.application.PaymentBatchService;
+import com.checkout.payment.gateway.application.PaymentOutcome;
+import com.checkout.payment.gateway.application.PaymentRejections;
+import com.checkout.payment.gateway.configuration.PaymentConfigurationProperties;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.exception.BankClientException;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/payments")
+public class PaymentBatchController {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PaymentBatchController.class);
+  private static final List<ValidationError> MALFORMED_JSON =
+      List.of(new ValidationError("body", "Malformed JSON"));
+  private final PaymentBatchService paymentBatchService;
+  private final PaymentRejections paymentRejections;
+  private final ApiPaymentMapper paymentMapper;
+  private final ObjectMapper objectMapper;
+  private final ObjectReader requestReader;
+  private final ObjectWriter resultWriter;
+  private final org.springframework.validation.Validator validator;
+  private final int maxBatchSize;
+  private final int maxLineLength;
+  private final List<ValidationError> lineTooLong;
+
+  public PaymentBatchController(PaymentBatchService paymentBatchService,
+                                PaymentRejections paymentRejections,
+                                ApiPaymentMapper paymentMapper,
+                                ObjectMapper objectMapper,
+                                Validator validator,
+                                ObjectProvider<CreatePaymentRequestValidator> fusedValidator,
+                                PaymentConfigurationProperties properties) {
+    this.paymentBatchService = paymentBatchService;
+    this.paymentRejections = paymentRejections;
+    this.paymentMapper = paymentMapper;
+    this.objectMapper = objectMapper;
+    this.requestReader = objectMapper.readerFor(CreatePaymentRequest.class);
+    this.resultWriter = objectMapper.writerFor(IngestedPaymentResult.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    CreatePaymentRequestValidator fused = fusedValidator.getIfAvailable();
+    this.validator = fused != null ? fused : new SpringValidatorAdapter(validator);
+    this.maxBatchSize = properties.getBatch().getMaxSize();
+    this.maxLineLength = properties.getBatch().getMaxLineLength();
+    this.lineTooLong = List.of(new ValidationError("body",
+        "Line is longer than " + maxLineLength + " characters"));
+  }
+
+  @PostMapping("/batch")
+  public ResponseEntity<List<PaymentResult>> processPayments(
+      @RequestBody List<CreatePaymentRequest> requests) {
+    if (requests.isEmpty() || requests.size() > maxBatchSize) {
+      throw new PaymentValidationException("payments",
+          "Batch must contain between 1 and " + maxBatchSize + " payments");
+    }
+
+    PaymentResult[] results = new PaymentResult[requests.size()];
+    List<Integer> positions = new ArrayList<>(requests.size());
+    List<PaymentRequest> accepted = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      CreatePaymentRequest request = requests.get(i);
+      List<ValidationError> errors = validate(request);
+      if (errors.isEmpty()) {
+        positions.add(i);
+        accepted.add(paymentMapper.toDomain(request));
+      } else {
+        recordRejection(request);
+        results[i] = rejected("Validation failed", errors);
+      }
+    }
+
+    List<PaymentOutcome> outcomes = paymentBatchService.processPayments(accepted);
+    for (int i = 0; i < outcomes.size(); i++) {
+      results[positions.get(i)] = toResult(outcomes.get(i));
+    }
+    return new ResponseEntity<>(Arrays.asList(results), HttpStatus.OK);
+  }
+
+  /**
+   * Ingests newline-delimited payment requests, one JSON object per line, reading each line only
+   * once a bank call slot is free, so an arbitrarily long body is held a line at a time, and at
+   * most {@code payment.batch.max-line-length} characters of any line. Each line is answered
+   * with one {@link IngestedPaymentResult} line as soon as it is decided: overlong, malformed
+   * and invalid lines straight away, the rest when the bank answers. At most
+   * {@code payment.batch.parallelism} bank calls are in flight.
+   */
+  @PostMapping(path = "/ingest", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+  public void ingestPayments(InputStream body, HttpServletResponse response) throws IOException {
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    try (ResultLines results = new ResultLines(response.getOutputStream())) {
+      IngestLines lines = new IngestLines(new NdjsonLineReader(
+          new InputStreamReader(body, StandardCharsets.UTF_8), maxLineLength), results);
+      paymentBatchService.processPayments(lines, IngestLine::request,
+          (line, outcome) -> results.write(line.number(), toResult(outcome)));
+    } catch (UncheckedIOException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  private List<ValidationError> validate(CreatePaymentRequest request) {
+    if (request == null) {
+      return List.of(new ValidationError("payment", "Payment request is required"));
+    }
+    BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "createPaymentRequest");
+    validator.validate(request, errors);
+    return ValidationErrors.from(errors);
+  }
+
+  private void recordRejection(CreatePaymentRequest request) {
+    if (request == null) {
+      paymentRejections.record(null, null);
+    } else {
+      paymentRejections.record(request.currency(), request.amount());
+    }
+  }
+
+  private PaymentResult toResult(PaymentOutcome outcome) {
+    if (outcome.isProcessed()) {
+      return paymentMapper.toResponse(outcome.payment());
+    }
+    RuntimeException failure = outcome.failure();
+    if (failure instanceof PaymentValidationException validationException) {
+      String field = Optional.ofNullable(validationException.getField()).orElse("payment");
+      return rejected("Validation failed",
+          List.of(new ValidationError(field, validationException.getMessage())));
+    }
+    if (failure instanceof BankUnavailableException) {
+      return failed("BANK_UNAVAILABLE", "Bank unavailable");
+    }
+    if (failure instanceof BankClientException) {
+      LOG.error("Bank error", failure);
+      return failed("BANK_ERROR", "Bank error");
+    }
+    LOG.error("Batch payment failed", failure);
+    return failed("PAYMENT_FAILED", "Payment failed");
+  }
+
+  private static RejectedPaymentResponse rejected(String message, List<ValidationError> errors) {
+    return new RejectedPaymentResponse("Rejected", message, errors);
+  }
+
+  private static FailedPaymentResponse failed(String code, String message) {
+    return new FailedPaymentResponse("Failed", code, message);
+  }
+
+  private record IngestLine(long number, PaymentRequest request) {
+  }
+
+  /**
+   * Reads the body a line at a time, answering overlong, malformed and invalid lines itself and
+   * yielding the accepted ones for processing.
+   */
+  private final class IngestLines implements Iterator<IngestLine> {
+    private final NdjsonLineReader reader;
+    private final ResultLines results;
+    private long number;
+    private IngestLine next;
+
+    IngestLines(NdjsonLineReader reader, ResultLines results) {
+      this.reader = reader;
+      this.results = results;
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        String line;
+        while (next == null && (line = reader.readLine()) != null) {
+          number++;
+          if (reader.tooLong()) {
+            paymentRejections.record(null, null);
+            results.write(number, rejected("Line too long", lineTooLong));
+          } else if (!line.isBlank()) {
+            next = accept(number, line);
+          }
+        }
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      return next != null;
+    }
+
+    @Override
+    public IngestLine next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      IngestLine line = next;
+      next = null;
+      return line;
+    }
+
+    private IngestLine accept(long number, String line) {
+      CreatePaymentRequest request;
+      try {
+        request = requestReader.readValue(line);
+      } catch (JsonProcessingException ex) {
+        paymentRejections.record(null, null);
+        results.write(number, rejected("Malformed request", MALFORMED_JSON));
+        return null;
+      }
+      List<ValidationError> errors = validate(request);
+      if (!errors.isEmpty()) {
+        recordRejection(request);
+        results.write(number, rejected("Validation failed", errors));
+        return null;
+      }
+      return new IngestLine(number, paymentMapper.toDomain(request));
+    }
+  }
+
+  /**
+   * Writes result lines from any thread, flushing each so the client sees it as soon as it is
+   * decided; a flush per line costs little next to the bank call behind it.
+   */
+  private final class ResultLines implements AutoCloseable {
+    private final JsonGenerator generator;
+
+    ResultLines(OutputStream out) throws IOException {
+      this.generator = objectMapper.createGenerator(out);
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+      generator.setRootValueSeparator(null);
+    }
+
+    synchronized void write(long line, PaymentResult result) {
+      try {
+        resultWriter.writeValue(generator, new IngestedPaymentResult(line, result));
+        generator.writeRaw('\n');
+        generator.flush();
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+      generator.close();
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.checkout.payment.gateway.api.controller;
+
+import com.checkout.payment.gateway.api.cache.PaymentResponseCache;
+import com.checkout.payment.gateway.application.PaymentEvent;
+import com.checkout.payment.gateway.application.PaymentEventFeed;
+import com.checkout.payment.gateway.configuration.PaymentConfigurationProperties;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Predicate;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes each payment as it is saved, as a Server-Sent Events stream of {@code payment} events
+ * whose data is the payment's response body, so clients need not poll {@code GET /payments/{id}}.
+ * Event IDs are {@code <epoch>-<sequence>}: a reconnecting client's {@code Last-Event-ID} resumes
+ * after that event while it is still in the replay window, or from the oldest one buffered if it
+ * is not, or comes from before a restart. A client that fell behind is sent a {@code missed}
+ * event with the number of events skipped, or disconnected, depending on
+ * {@code payment.events.slow-consumer-policy}.
+ */
+@RestController
+@RequestMapping("/payments")
+public class PaymentEventsController {
+
+  private final PaymentEventFeed paymentEvents;
+  private final PaymentResponseCache responseCache;
+  private final Duration timeout;
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+  public PaymentEventsController(PaymentEventFeed paymentEvents,
+                                 PaymentResponseCache responseCache,
+                                 PaymentConfigurationProperties properties) {
+    this.paymentEvents = paymentEvents;
+    this.responseCache = responseCache;
+    this.timeout = properties.getEvents().getTimeout();
+  }
+
+  @GetMapping("/events")
+  public SseEmitter streamEvents(
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) String currency,
+      @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+    PaymentStatus statusFilter = PaymentQueryController.parseStatus(status);
+    String currencyFilter = PaymentQueryController.parseCurrency(currency);
+    Predicate<Payment> filter = payment ->
+        (statusFilter == null || payment.status() == statusFilter)
+            && (currencyFilter == null || currencyFilter.equals(payment.currency()));
+
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    PaymentEventFeed.Subscription subscription = paymentEvents.subscribe(
+        resumeFrom(lastEventId), filter, new EmitterSubscriber(emitter));
+    emitter.onCompletion(subscription::cancel);
+    emitter.onTimeout(subscription::cancel);
+    emitter.onError(ex -> subscription.cancel());
+    return emitter;
+  }
+
+  private long resumeFrom(String lastEventId) {
+    if (lastEventId == null) {
+      return paymentEvents.nextSequence();
+    }
+    int separator = lastEventId.indexOf('-');
+    if (separator > 0 && lastEventId.substring(0, separator).equals(epoch)) {
+      try {
+        return Long.parseLong(lastEventId.substring(separator + 1)) + 1;
+      } catch (NumberFormatException ex) {
+        return 0;
+      }
+    }
+    return 0;
+  }
+
+  private final class EmitterSubscriber implements PaymentEventFeed.Subscriber {
+    private final SseEmitter emitter;
+
+    EmitterSubscriber(SseEmitter emitter) {
+      this.emitter = emitter;
+    }
+
+    @Override
+    public void onEvent(PaymentEvent event) throws IOException {
+      emitter.send(SseEmitter.event()
+          .id(epoch + "-" + event.sequence())
+          .name("payment")
+          .data(responseCache.of(event.payment()).body(), MediaType.APPLICATION_JSON));
+    }
+
+    @Override
+    public void onMissed(long count) throws IOException {
+      emitter.send(SseEmitter.event().name("missed").data(count));
+    }
+
+    @Override
+    public void onClose() {
+      emitter.complete();
+    }
+  }
+}
@@ -0,0 +1,95 @@
+package com.checkout.payment.gateway.api.controller;
+
+import com.checkout.payment.gateway.api.json.PaymentNdjsonWriter;
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.application.PaymentGatewayService;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Streams every payment matching the listing filters as newline-delimited JSON, gzipped if the
+ * client accepts it. Works whether or not payments are indexed for listing; unindexed, payments
+ * come in storage order rather than newest first.
+ */
+@RestController
+@RequestMapping("/payments")
+public class PaymentExportController {
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
+  private final PaymentGatewayService paymentGatewayService;
+  private final PaymentNdjsonWriter ndjsonWriter;
+
+  public PaymentExportController(PaymentGatewayService paymentGatewayService,
+                                 ApiPaymentMapper paymentMapper,
+                                 ObjectMapper objectMapper) {
+    this.paymentGatewayService = paymentGatewayService;
+    this.ndjsonWriter = new PaymentNdjsonWriter(paymentMapper, objectMapper);
+  }
+
+  @GetMapping("/export")
+  public void exportPayments(
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) String currency,
+      @RequestParam(required = false) String last4,
+      @RequestParam(name = "min_amount", required = false) Integer minAmount,
+      @RequestParam(name = "max_amount", required = false) Integer maxAmount,
+      @RequestParam(required = false) Instant from,
+      @RequestParam(required = false) Instant to,
+      @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+      HttpServletResponse response) throws IOException {
+    PaymentQuery query = PaymentQueryController.query(status, currency, last4, minAmount,
+        maxAmount, from, to, null, Integer.MAX_VALUE);
+
+    boolean gzip = acceptsGzip(acceptEncoding);
+    response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+    response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+    // written as payments are read, so a slow client slows the walk rather than growing the heap
+    try (Stream<Payment> payments = paymentGatewayService.streamPayments(query)) {
+      OutputStream body = response.getOutputStream();
+      if (gzip) {
+        try (GZIPOutputStream compressed = new GZIPOutputStream(body, GZIP_BUFFER_SIZE)) {
+          ndjsonWriter.write(payments, compressed);
+        }
+      } else {
+        ndjsonWriter.write(payments, body);
+      }
+    }
+  }
+
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parts = coding.split(";");
+      if (!parts[0].trim().equalsIgnoreCase("gzip")) {
+        continue;
+      }
+      for (int i = 1; i < parts.length; i++) {
+        String parameter = parts[i].trim();
+        if (parameter.startsWith("q=") && parameter.substring(2).matches("0(\\.0*)?")) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+}
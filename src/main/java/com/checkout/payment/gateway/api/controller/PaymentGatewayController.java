@@ -1,44 +1,67 @@
 package com.checkout.payment.gateway.api.controller;
 
+import com.checkout.payment.gateway.api.cache.PaymentResponseCache;
 import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
 import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
 import com.checkout.payment.gateway.api.model.PaymentResponse;
 import com.checkout.payment.gateway.application.PaymentGatewayService;
+import com.checkout.payment.gateway.application.PaymentIdempotencyCache;
 import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import java.util.UUID;
 import jakarta.validation.Valid;
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/payments")
+@ConditionalOnProperty(prefix = "payment.processing", name = "mode", havingValue = "blocking",
+    matchIfMissing = true)
 public class PaymentGatewayController {
 
   private final PaymentGatewayService paymentGatewayService;
   private final ApiPaymentMapper paymentMapper;
+  private final PaymentIdempotencyCache idempotencyCache;
+  private final PaymentResponseCache responseCache;
 
   public PaymentGatewayController(PaymentGatewayService paymentGatewayService,
-                                  ApiPaymentMapper paymentMapper) {
+                                  ApiPaymentMapper paymentMapper,
+                                  PaymentIdempotencyCache idempotencyCache,
+                                  PaymentResponseCache responseCache) {
     this.paymentGatewayService = paymentGatewayService;
     this.paymentMapper = paymentMapper;
+    this.idempotencyCache = idempotencyCache;
+    this.responseCache = responseCache;
   }
 
   @PostMapping
-  public ResponseEntity<PaymentResponse> processPayment(
+  @ApiResponse(responseCode = "200",
+      content = @Content(schema = @Schema(implementation = PaymentResponse.class)))
+  public ResponseEntity<byte[]> processPayment(
+      @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
       @Valid @RequestBody CreatePaymentRequest request) {
-    Payment payment = paymentGatewayService.processPayment(paymentMapper.toDomain(request));
-    return new ResponseEntity<>(paymentMapper.toResponse(payment), HttpStatus.OK);
+    PaymentRequest paymentRequest = paymentMapper.toDomain(request);
+    Payment payment = idempotencyKey == null
+        ? paymentGatewayService.processPayment(paymentRequest)
+        : idempotencyCache.execute(idempotencyKey, paymentRequest,
+            () -> paymentGatewayService.processPayment(paymentRequest));
+    return responseCache.ok(responseCache.put(payment));
   }
 
   @GetMapping("/{id}")
-  public ResponseEntity<PaymentResponse> getPaymentById(@PathVariable UUID id) {
-    Payment payment = paymentGatewayService.getPaymentById(id);
-    return new ResponseEntity<>(paymentMapper.toResponse(payment), HttpStatus.OK);
+  @ApiResponse(responseCode = "200",
+      content = @Content(schema = @Schema(implementation = PaymentResponse.class)))
+  public ResponseEntity<byte[]> getPaymentById(@PathVariable UUID id) {
+    return responseCache.ok(responseCache.get(id, paymentGatewayService::getPaymentById));
   }
 }
@@ -0,0 +1,127 @@
+package com.checkout.payment.gateway.api.controller;
+
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.api.model.PaymentPageResponse;
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.checkout.payment.gateway.application.PaymentGatewayService;
+import com.checkout.payment.gateway.configuration.PaymentConfigurationProperties;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentCursor;
+import com.checkout.payment.gateway.domain.repository.PaymentPage;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Lists stored payments newest first. Pages are addressed by the opaque {@code next_cursor} of
+ * the previous page rather than by offset, so a deep page is found as quickly as the first. Only
+ * mapped with {@code payment.query.enabled=true}, which makes the repository index payments.
+ */
+@RestController
+@RequestMapping("/payments")
+@ConditionalOnProperty(prefix = "payment.query", name = "enabled", havingValue = "true")
+public class PaymentQueryController {
+  private static final Pattern CURRENCY = Pattern.compile("[A-Za-z]{3}");
+  private static final Pattern LAST_FOUR = Pattern.compile("\\d{4}");
+
+  private final PaymentGatewayService paymentGatewayService;
+  private final ApiPaymentMapper paymentMapper;
+  private final int defaultLimit;
+  private final int maxLimit;
+
+  public PaymentQueryController(PaymentGatewayService paymentGatewayService,
+                                ApiPaymentMapper paymentMapper,
+                                PaymentConfigurationProperties properties) {
+    this.paymentGatewayService = paymentGatewayService;
+    this.paymentMapper = paymentMapper;
+    this.defaultLimit = properties.getQuery().getDefaultLimit();
+    this.maxLimit = properties.getQuery().getMaxLimit();
+  }
+
+  @GetMapping
+  public ResponseEntity<PaymentPageResponse> findPayments(
+      @RequestParam(required = false) String status,
+      @RequestParam(required = false) String currency,
+      @RequestParam(required = false) String last4,
+      @RequestParam(name = "min_amount", required = false) Integer minAmount,
+      @RequestParam(name = "max_amount", required = false) Integer maxAmount,
+      @RequestParam(required = false) Instant from,
+      @RequestParam(required = false) Instant to,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer limit) {
+    int pageSize = limit == null ? Math.min(defaultLimit, maxLimit) : limit;
+    if (pageSize < 1 || pageSize > maxLimit) {
+      throw new PaymentValidationException("limit",
+          "Limit must be between 1 and " + maxLimit);
+    }
+
+    PaymentPage page = paymentGatewayService.findPayments(query(status, currency, last4,
+        minAmount, maxAmount, from, to, parseCursor(cursor), pageSize));
+
+    List<PaymentResponse> payments = page.payments().stream()
+        .map(paymentMapper::toResponse)
+        .toList();
+    return ResponseEntity.ok(new PaymentPageResponse(payments,
+        page.next() == null ? null : page.next().encode()));
+  }
+
+  static PaymentQuery query(String status, String currency, String last4, Integer minAmount,
+                            Integer maxAmount, Instant from, Instant to, PaymentCursor after,
+                            int limit) {
+    if (last4 != null && !LAST_FOUR.matcher(last4).matches()) {
+      throw new PaymentValidationException("last4", "Last four must be 4 digits");
+    }
+    return new PaymentQuery(
+        parseStatus(status),
+        parseCurrency(currency),
+        last4,
+        minAmount,
+        maxAmount,
+        from,
+        to,
+        after,
+        limit);
+  }
+
+  static String parseCurrency(String currency) {
+    if (currency == null) {
+      return null;
+    }
+    if (!CURRENCY.matcher(currency).matches()) {
+      throw new PaymentValidationException("currency", "Currency must be 3 letters");
+    }
+    return currency.toUpperCase(Locale.ROOT);
+  }
+
+  static PaymentStatus parseStatus(String status) {
+    if (status == null) {
+      return null;
+    }
+    for (PaymentStatus candidate : PaymentStatus.values()) {
+      if (candidate.getDisplayName().equalsIgnoreCase(status)) {
+        return candidate;
+      }
+    }
+    throw new PaymentValidationException("status", "Unknown payment status");
+  }
+
+  private static PaymentCursor parseCursor(String cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    try {
+      return PaymentCursor.decode(cursor);
+    } catch (IllegalArgumentException ex) {
+      throw new PaymentValidationException("cursor", "Invalid cursor");
+    }
+  }
+}
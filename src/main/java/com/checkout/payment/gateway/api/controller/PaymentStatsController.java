@@ -0,0 +1,41 @@
+package com.checkout.payment.gateway.api.controller;
+
+import com.checkout.payment.gateway.api.model.PaymentStatsResponse;
+import com.checkout.payment.gateway.api.model.PaymentTallyResponse;
+import com.checkout.payment.gateway.application.PaymentStatistics;
+import com.checkout.payment.gateway.application.PaymentStatistics.Tally;
+import com.checkout.payment.gateway.application.PaymentStatistics.Window;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/payments")
+public class PaymentStatsController {
+
+  private final PaymentStatistics paymentStatistics;
+
+  public PaymentStatsController(PaymentStatistics paymentStatistics) {
+    this.paymentStatistics = paymentStatistics;
+  }
+
+  @GetMapping("/stats")
+  public ResponseEntity<PaymentStatsResponse> getStats() {
+    Map<Window, List<Tally>> windows = paymentStatistics.snapshot();
+    return ResponseEntity.ok(new PaymentStatsResponse(
+        toResponse(windows.get(Window.ONE_MINUTE)),
+        toResponse(windows.get(Window.FIVE_MINUTES)),
+        toResponse(windows.get(Window.ONE_HOUR)),
+        toResponse(windows.get(Window.TOTAL))));
+  }
+
+  private static List<PaymentTallyResponse> toResponse(List<Tally> tallies) {
+    return tallies.stream()
+        .map(tally -> new PaymentTallyResponse(tally.status().getDisplayName(), tally.currency(),
+            tally.count(), tally.amount()))
+        .toList();
+  }
+}
@@ -1,18 +1,18 @@
 package com.checkout.payment.gateway.api.error;
 
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
 import com.checkout.payment.gateway.api.model.ErrorResponse;
 import com.checkout.payment.gateway.api.model.RejectedPaymentResponse;
 import com.checkout.payment.gateway.api.model.ValidationError;
+import com.checkout.payment.gateway.application.PaymentRejections;
 import com.checkout.payment.gateway.exception.BankClientException;
 import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.checkout.payment.gateway.exception.IdempotencyKeyReusedException;
 import com.checkout.payment.gateway.exception.PaymentNotFoundException;
 import com.checkout.payment.gateway.exception.PaymentValidationException;
 import jakarta.validation.ConstraintViolationException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -22,20 +22,38 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.validation.FieldError;
-import org.springframework.validation.ObjectError;
-import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 
 @ControllerAdvice
 public class CommonExceptionHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(CommonExceptionHandler.class);
+  // Fixed error bodies are built once; ResponseEntity and its headers are immutable.
+  private static final ResponseEntity<ErrorResponse> NOT_FOUND = new ResponseEntity<>(
+      new ErrorResponse("PAYMENT_NOT_FOUND", "Payment not found"), HttpStatus.NOT_FOUND);
+  private static final ResponseEntity<ErrorResponse> INVALID_REQUEST = new ResponseEntity<>(
+      new ErrorResponse("INVALID_REQUEST", "Invalid request"), HttpStatus.BAD_REQUEST);
+  private static final ResponseEntity<ErrorResponse> BANK_UNAVAILABLE = new ResponseEntity<>(
+      new ErrorResponse("BANK_UNAVAILABLE", "Bank unavailable"), HttpStatus.SERVICE_UNAVAILABLE);
+  private static final ResponseEntity<ErrorResponse> BANK_ERROR = new ResponseEntity<>(
+      new ErrorResponse("BANK_ERROR", "Bank error"), HttpStatus.BAD_GATEWAY);
+  private static final ResponseEntity<ErrorResponse> IDEMPOTENCY_KEY_REUSED = new ResponseEntity<>(
+      new ErrorResponse("IDEMPOTENCY_KEY_REUSED",
+          "Idempotency key was already used with a different payment"),
+      HttpStatus.UNPROCESSABLE_ENTITY);
+  private static final ResponseEntity<RejectedPaymentResponse> MALFORMED_REQUEST =
+      new ResponseEntity<>(new RejectedPaymentResponse("Rejected", "Malformed request",
+          List.of(new ValidationError("body", "Malformed JSON"))), HttpStatus.BAD_REQUEST);
+
+  private final PaymentRejections paymentRejections;
+
+  public CommonExceptionHandler(PaymentRejections paymentRejections) {
+    this.paymentRejections = paymentRejections;
+  }
 
   @ExceptionHandler(PaymentNotFoundException.class)
   public ResponseEntity<ErrorResponse> handleNotFound(PaymentNotFoundException ex) {
     LOG.info("Payment not found");
-    return new ResponseEntity<>(new ErrorResponse("PAYMENT_NOT_FOUND", "Payment not found"),
-        HttpStatus.NOT_FOUND);
+    return NOT_FOUND;
   }
 
   @ExceptionHandler({MethodArgumentNotValidException.class, ConstraintViolationException.class})
@@ -44,6 +62,9 @@ public class CommonExceptionHandler {
     List<ValidationError> errors = new ArrayList<>();
     if (ex instanceof MethodArgumentNotValidException methodArgumentNotValidException) {
       errors.addAll(validationErrorsFrom(methodArgumentNotValidException));
+      if (methodArgumentNotValidException.getTarget() instanceof CreatePaymentRequest request) {
+        paymentRejections.record(request.currency(), request.amount());
+      }
     }
     if (ex instanceof ConstraintViolationException constraintViolationException) {
       errors.addAll(validationErrorsFrom(constraintViolationException));
@@ -55,59 +76,46 @@ public class CommonExceptionHandler {
   @ExceptionHandler(HttpMessageNotReadableException.class)
   public ResponseEntity<RejectedPaymentResponse> handleMalformedRequest(HttpMessageNotReadableException ex) {
     LOG.warn("Malformed request");
-    List<ValidationError> errors = List.of(new ValidationError("body", "Malformed JSON"));
-    return new ResponseEntity<>(new RejectedPaymentResponse("Rejected", "Malformed request", errors),
-        HttpStatus.BAD_REQUEST);
+    paymentRejections.record(null, null);
+    return MALFORMED_REQUEST;
   }
 
   @ExceptionHandler(MethodArgumentTypeMismatchException.class)
   public ResponseEntity<ErrorResponse> handleTypeMismatch(MethodArgumentTypeMismatchException ex) {
     LOG.warn("Invalid request parameter");
-    return new ResponseEntity<>(new ErrorResponse("INVALID_REQUEST", "Invalid request"),
-        HttpStatus.BAD_REQUEST);
+    return INVALID_REQUEST;
   }
 
   @ExceptionHandler(PaymentValidationException.class)
   public ResponseEntity<RejectedPaymentResponse> handleDomainValidationException(PaymentValidationException ex) {
     LOG.warn("Domain validation failed");
-    String field = Optional.ofNullable(ex.getField()).orElse("payment");
+    String field = ex.getField() != null ? ex.getField() : "payment";
     List<ValidationError> errors = List.of(new ValidationError(field, ex.getMessage()));
     return new ResponseEntity<>(new RejectedPaymentResponse("Rejected", "Validation failed", errors),
         HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(IdempotencyKeyReusedException.class)
+  public ResponseEntity<ErrorResponse> handleIdempotencyKeyReused(
+      IdempotencyKeyReusedException ex) {
+    LOG.warn("Idempotency key reused with a different payment");
+    return IDEMPOTENCY_KEY_REUSED;
+  }
+
   @ExceptionHandler(BankUnavailableException.class)
   public ResponseEntity<ErrorResponse> handleBankUnavailable(BankUnavailableException ex) {
     LOG.warn("Bank unavailable");
-    return new ResponseEntity<>(new ErrorResponse("BANK_UNAVAILABLE", "Bank unavailable"),
-        HttpStatus.SERVICE_UNAVAILABLE);
+    return BANK_UNAVAILABLE;
   }
 
   @ExceptionHandler(BankClientException.class)
   public ResponseEntity<ErrorResponse> handleBankClient(BankClientException ex) {
     LOG.error("Bank error", ex);
-    return new ResponseEntity<>(new ErrorResponse("BANK_ERROR", "Bank error"),
-        HttpStatus.BAD_GATEWAY);
+    return BANK_ERROR;
   }
 
   private List<ValidationError> validationErrorsFrom(MethodArgumentNotValidException ex) {
-    Stream<ValidationError> fieldErrors = ex.getBindingResult().getFieldErrors().stream()
-        .map(this::toValidationError);
-    Stream<ValidationError> globalErrors = ex.getBindingResult().getGlobalErrors().stream()
-        .map(this::toValidationError);
-    return Stream.concat(fieldErrors, globalErrors)
-        .filter(Objects::nonNull)
-        .toList();
-  }
-
-  private ValidationError toValidationError(FieldError error) {
-    String field = toSnakeCase(error.getField());
-    return new ValidationError(field, error.getDefaultMessage());
-  }
-
-  private ValidationError toValidationError(ObjectError error) {
-    String field = toSnakeCase(error.getObjectName());
-    return new ValidationError(field, error.getDefaultMessage());
+    return ValidationErrors.from(ex.getBindingResult());
   }
 
   private List<ValidationError> validationErrorsFrom(ConstraintViolationException ex) {
@@ -116,7 +124,7 @@ public class CommonExceptionHandler {
           String path = violation.getPropertyPath() == null
               ? null
               : violation.getPropertyPath().toString();
-          String field = toSnakeCase(extractFieldName(path));
+          String field = ValidationErrors.toSnakeCase(extractFieldName(path));
           return new ValidationError(field, violation.getMessage());
         })
         .toList();
@@ -132,11 +140,4 @@ public class CommonExceptionHandler {
     }
     return path;
   }
-
-  private String toSnakeCase(String value) {
-    if (value == null || value.isBlank()) {
-      return "request";
-    }
-    return new PropertyNamingStrategies.SnakeCaseStrategy().translate(value);
-  }
 }
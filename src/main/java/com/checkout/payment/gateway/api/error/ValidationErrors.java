@@ -0,0 +1,60 @@
+package com.checkout.payment.gateway.api.error;
+
+import com.checkout.payment.gateway.api.model.ValidationError;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ * Maps Spring binding errors to the API's {@link ValidationError}s with snake_case field names.
+ * Field names come from a small fixed set, so their translations are cached.
+ */
+public final class ValidationErrors {
+  private static final int MAX_CACHED_NAMES = 1024;
+  private static final PropertyNamingStrategies.SnakeCaseStrategy SNAKE_CASE =
+      new PropertyNamingStrategies.SnakeCaseStrategy();
+  private static final Map<String, String> SNAKE_CASE_NAMES = new ConcurrentHashMap<>();
+
+  private ValidationErrors() {
+  }
+
+  public static List<ValidationError> from(Errors errors) {
+    Stream<ValidationError> fieldErrors = errors.getFieldErrors().stream()
+        .map(ValidationErrors::toValidationError);
+    Stream<ValidationError> globalErrors = errors.getGlobalErrors().stream()
+        .map(ValidationErrors::toValidationError);
+    return Stream.concat(fieldErrors, globalErrors)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  static String toSnakeCase(String value) {
+    if (value == null || value.isBlank()) {
+      return "request";
+    }
+    String name = SNAKE_CASE_NAMES.get(value);
+    if (name == null) {
+      name = SNAKE_CASE.translate(value);
+      if (SNAKE_CASE_NAMES.size() < MAX_CACHED_NAMES) {
+        SNAKE_CASE_NAMES.put(value, name);
+      }
+    }
+    return name;
+  }
+
+  private static ValidationError toValidationError(FieldError error) {
+    String field = toSnakeCase(error.getField());
+    return new ValidationError(field, error.getDefaultMessage());
+  }
+
+  private static ValidationError toValidationError(ObjectError error) {
+    String field = toSnakeCase(error.getObjectName());
+    return new ValidationError(field, error.getDefaultMessage());
+  }
+}
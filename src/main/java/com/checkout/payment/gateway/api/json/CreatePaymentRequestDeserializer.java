@@ -0,0 +1,72 @@
+package com.checkout.payment.gateway.api.json;
+
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+
+/**
+ * Reads a {@link CreatePaymentRequest} token by token, without bean introspection. Values of the
+ * expected JSON type are read directly; anything else (a number for a string field, a string for a
+ * number) goes through the context's standard deserializers, so coercion rules and error messages
+ * match the reflective path.
+ */
+public class CreatePaymentRequestDeserializer extends StdDeserializer<CreatePaymentRequest> {
+
+  public CreatePaymentRequestDeserializer() {
+    super(CreatePaymentRequest.class);
+  }
+
+  @Override
+  public CreatePaymentRequest deserialize(JsonParser parser, DeserializationContext context)
+      throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = parser.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (CreatePaymentRequest) context.handleUnexpectedToken(CreatePaymentRequest.class,
+          parser);
+    }
+
+    String cardNumber = null;
+    Integer expiryMonth = null;
+    Integer expiryYear = null;
+    String currency = null;
+    Integer amount = null;
+    String cvv = null;
+    for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String name = parser.currentName();
+      parser.nextToken();
+      switch (name) {
+        case "card_number" -> cardNumber = readString(parser, context);
+        case "expiry_month" -> expiryMonth = readInteger(parser, context);
+        case "expiry_year" -> expiryYear = readInteger(parser, context);
+        case "currency" -> currency = readString(parser, context);
+        case "amount" -> amount = readInteger(parser, context);
+        case "cvv" -> cvv = readString(parser, context);
+        default -> context.handleUnknownProperty(parser, this, CreatePaymentRequest.class, name);
+      }
+    }
+    return new CreatePaymentRequest(cardNumber, expiryMonth, expiryYear, currency, amount, cvv);
+  }
+
+  private static String readString(JsonParser parser, DeserializationContext context)
+      throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_STRING -> parser.getText();
+      case VALUE_NULL -> null;
+      default -> context.readValue(parser, String.class);
+    };
+  }
+
+  private static Integer readInteger(JsonParser parser, DeserializationContext context)
+      throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_NUMBER_INT -> parser.getIntValue();
+      case VALUE_NULL -> null;
+      default -> context.readValue(parser, Integer.class);
+    };
+  }
+}
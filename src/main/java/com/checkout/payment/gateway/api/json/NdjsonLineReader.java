@@ -0,0 +1,90 @@
+package com.checkout.payment.gateway.api.json;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads newline-delimited input a line at a time, holding at most {@code maxLineLength}
+ * characters of any line: the rest of a longer line is skipped up to the next newline, and the
+ * line is reported as {@link #tooLong()} instead of being returned. A trailing {@code \r} is
+ * dropped.
+ */
+public class NdjsonLineReader {
+  private final Reader reader;
+  private final int maxLineLength;
+  private final char[] buffer = new char[8192];
+  private final StringBuilder line = new StringBuilder();
+  private int position;
+  private int limit;
+  private boolean tooLong;
+
+  public NdjsonLineReader(Reader reader, int maxLineLength) {
+    this.reader = reader;
+    this.maxLineLength = maxLineLength;
+  }
+
+  /**
+   * Returns the next line, an empty string for a line over the limit, or {@code null} at the end
+   * of the input.
+   */
+  public String readLine() throws IOException {
+    line.setLength(0);
+    tooLong = false;
+    boolean read = false;
+    while (true) {
+      if (position == limit && !fill()) {
+        return read ? finish() : null;
+      }
+      read = true;
+      int start = position;
+      while (position < limit && buffer[position] != '\n') {
+        position++;
+      }
+      append(start, position);
+      if (position < limit) {
+        position++;
+        return finish();
+      }
+    }
+  }
+
+  /**
+   * Whether the line last read was over the limit.
+   */
+  public boolean tooLong() {
+    return tooLong;
+  }
+
+  private boolean fill() throws IOException {
+    int read = reader.read(buffer, 0, buffer.length);
+    position = 0;
+    limit = Math.max(read, 0);
+    return read > 0;
+  }
+
+  private void append(int from, int to) {
+    if (tooLong) {
+      return;
+    }
+    // one more than the limit, so a line ending in \r\n may use the whole limit
+    int room = maxLineLength + 1 - line.length();
+    if (to - from > room) {
+      tooLong = true;
+      line.setLength(0);
+    } else {
+      line.append(buffer, from, to - from);
+    }
+  }
+
+  private String finish() {
+    int length = line.length();
+    if (length > 0 && line.charAt(length - 1) == '\r') {
+      line.setLength(--length);
+    }
+    if (length > maxLineLength) {
+      tooLong = true;
+      line.setLength(0);
+    }
+    return tooLong ? "" : line.toString();
+  }
+}
@@ -0,0 +1,78 @@
+package com.checkout.payment.gateway.api.json;
+
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Writes a {@link PaymentResponse} field by field straight to the generator. Field names are
+ * pre-encoded and the id is formatted into a char buffer rather than through
+ * {@link UUID#toString()}.
+ */
+public class PaymentResponseSerializer extends StdSerializer<PaymentResponse> {
+  private static final SerializedString ID = new SerializedString("id");
+  private static final SerializedString STATUS = new SerializedString("status");
+  private static final SerializedString CARD_NUMBER_LAST_FOUR =
+      new SerializedString("card_number_last_four");
+  private static final SerializedString EXPIRY_MONTH = new SerializedString("expiry_month");
+  private static final SerializedString EXPIRY_YEAR = new SerializedString("expiry_year");
+  private static final SerializedString CURRENCY = new SerializedString("currency");
+  private static final SerializedString AMOUNT = new SerializedString("amount");
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  public PaymentResponseSerializer() {
+    super(PaymentResponse.class);
+  }
+
+  @Override
+  public void serialize(PaymentResponse value, JsonGenerator generator,
+                        SerializerProvider provider) throws IOException {
+    generator.writeStartObject(value);
+    generator.writeFieldName(ID);
+    writeUuid(value.id(), generator);
+    generator.writeFieldName(STATUS);
+    generator.writeString(value.status());
+    generator.writeFieldName(CARD_NUMBER_LAST_FOUR);
+    generator.writeString(value.cardNumberLastFour());
+    generator.writeFieldName(EXPIRY_MONTH);
+    generator.writeNumber(value.expiryMonth());
+    generator.writeFieldName(EXPIRY_YEAR);
+    generator.writeNumber(value.expiryYear());
+    generator.writeFieldName(CURRENCY);
+    generator.writeString(value.currency());
+    generator.writeFieldName(AMOUNT);
+    generator.writeNumber(value.amount());
+    generator.writeEndObject();
+  }
+
+  private static void writeUuid(UUID id, JsonGenerator generator) throws IOException {
+    if (id == null) {
+      generator.writeNull();
+      return;
+    }
+    char[] chars = new char[36];
+    long msb = id.getMostSignificantBits();
+    long lsb = id.getLeastSignificantBits();
+    hex(msb >>> 32, chars, 0, 8);
+    chars[8] = '-';
+    hex(msb >>> 16, chars, 9, 4);
+    chars[13] = '-';
+    hex(msb, chars, 14, 4);
+    chars[18] = '-';
+    hex(lsb >>> 48, chars, 19, 4);
+    chars[23] = '-';
+    hex(lsb, chars, 24, 12);
+    generator.writeString(chars, 0, chars.length);
+  }
+
+  private static void hex(long value, char[] chars, int offset, int digits) {
+    for (int i = offset + digits - 1; i >= offset; i--) {
+      chars[i] = HEX[(int) value & 0xF];
+      value >>>= 4;
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.checkout.payment.gateway.api.model;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * Batch or ingestion result for a valid payment the bank gave no decision on, carrying the same
+ * code a single {@code POST /payments} would answer with. It can be submitted again.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record FailedPaymentResponse(String status, String code, String message)
+    implements PaymentResult {
+}
@@ -0,0 +1,12 @@
+package com.checkout.payment.gateway.api.model;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+/**
+ * One line of an ingestion response: the result for the request on the given (1-based) line of
+ * the ingested stream. Lines are answered as they complete, not in input order.
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record IngestedPaymentResult(long line, PaymentResult result) {
+}
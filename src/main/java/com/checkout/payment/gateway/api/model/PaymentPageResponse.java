@@ -0,0 +1,9 @@
+package com.checkout.payment.gateway.api.model;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record PaymentPageResponse(List<PaymentResponse> payments, String nextCursor) {
+}
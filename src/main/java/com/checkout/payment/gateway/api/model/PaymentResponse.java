@@ -13,5 +13,5 @@ public record PaymentResponse(
     int expiryYear,
     String currency,
     int amount
-) {
+) implements PaymentResult {
 }
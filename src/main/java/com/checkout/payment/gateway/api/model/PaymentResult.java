@@ -0,0 +1,8 @@
+package com.checkout.payment.gateway.api.model;
+
+/**
+ * Per-item result of a batch submission: a processed payment, a rejection, or a bank failure.
+ */
+public sealed interface PaymentResult
+    permits PaymentResponse, RejectedPaymentResponse, FailedPaymentResponse {
+}
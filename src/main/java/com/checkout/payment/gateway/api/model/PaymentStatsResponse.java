@@ -0,0 +1,14 @@
+package com.checkout.payment.gateway.api.model;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record PaymentStatsResponse(
+    List<PaymentTallyResponse> lastMinute,
+    List<PaymentTallyResponse> lastFiveMinutes,
+    List<PaymentTallyResponse> lastHour,
+    List<PaymentTallyResponse> total
+) {
+}
@@ -0,0 +1,8 @@
+package com.checkout.payment.gateway.api.model;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record PaymentTallyResponse(String status, String currency, long count, long amount) {
+}
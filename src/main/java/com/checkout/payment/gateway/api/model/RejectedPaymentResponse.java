@@ -5,5 +5,6 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import java.util.List;
 
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
-public record RejectedPaymentResponse(String status, String message, List<ValidationError> errors) {
+public record RejectedPaymentResponse(String status, String message, List<ValidationError> errors)
+    implements PaymentResult {
 }
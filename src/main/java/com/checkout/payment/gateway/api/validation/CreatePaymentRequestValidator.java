@@ -0,0 +1,126 @@
+package com.checkout.payment.gateway.api.validation;
+
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.domain.validation.CardExpiry;
+import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Hand-written equivalent of the Bean Validation constraints on {@link CreatePaymentRequest}:
+ * the same field and global errors with the same (English) default messages, in one pass and
+ * without reflection or regex. Because it also covers every check of
+ * {@link PaymentRequestValidator}, a request it accepts needs no further validation.
+ */
+public class CreatePaymentRequestValidator implements Validator {
+  static final String NOT_BLANK = "must not be blank";
+  static final String NOT_NULL = "must not be null";
+  static final String CARD_NUMBER_PATTERN = "must match \"\\d{14,19}\"";
+  static final String CURRENCY_PATTERN = "must match \"[A-Za-z]{3}\"";
+  static final String CVV_PATTERN = "must match \"\\d{3,4}\"";
+  static final String MONTH_MIN = "must be greater than or equal to 1";
+  static final String MONTH_MAX = "must be less than or equal to 12";
+  static final String POSITIVE = "must be greater than 0";
+  static final String UNSUPPORTED_CURRENCY = "Unsupported currency";
+  static final String EXPIRY_IN_PAST = "Expiry date must be in the future";
+
+  private final SupportedCurrencies supportedCurrencies;
+  private final CardExpiry cardExpiry;
+
+  public CreatePaymentRequestValidator(SupportedCurrencies supportedCurrencies,
+                                       CardExpiry cardExpiry) {
+    this.supportedCurrencies = supportedCurrencies;
+    this.cardExpiry = cardExpiry;
+  }
+
+  @Override
+  public boolean supports(Class<?> type) {
+    return CreatePaymentRequest.class.isAssignableFrom(type);
+  }
+
+  @Override
+  public void validate(Object target, Errors errors) {
+    CreatePaymentRequest request = (CreatePaymentRequest) target;
+
+    String cardNumber = request.cardNumber();
+    if (isBlank(cardNumber)) {
+      errors.rejectValue("cardNumber", "NotBlank", NOT_BLANK);
+    }
+    if (cardNumber != null && !PaymentRequestValidator.isDigits(cardNumber, 14, 19)) {
+      errors.rejectValue("cardNumber", "Pattern", CARD_NUMBER_PATTERN);
+    }
+
+    Integer month = request.expiryMonth();
+    if (month == null) {
+      errors.rejectValue("expiryMonth", "NotNull", NOT_NULL);
+    } else if (month < 1) {
+      errors.rejectValue("expiryMonth", "Min", MONTH_MIN);
+    } else if (month > 12) {
+      errors.rejectValue("expiryMonth", "Max", MONTH_MAX);
+    }
+    Integer year = request.expiryYear();
+    if (year == null) {
+      errors.rejectValue("expiryYear", "NotNull", NOT_NULL);
+    }
+
+    String currency = request.currency();
+    if (isBlank(currency)) {
+      errors.rejectValue("currency", "NotBlank", NOT_BLANK);
+    }
+    if (currency != null && !isLetters(currency, 3)) {
+      errors.rejectValue("currency", "Pattern", CURRENCY_PATTERN);
+    }
+    if (!isBlank(currency) && !supportedCurrencies.isSupported(currency)) {
+      errors.rejectValue("currency", "AllowedCurrency", UNSUPPORTED_CURRENCY);
+    }
+
+    Integer amount = request.amount();
+    if (amount == null) {
+      errors.rejectValue("amount", "NotNull", NOT_NULL);
+    } else if (amount <= 0) {
+      errors.rejectValue("amount", "Positive", POSITIVE);
+    }
+
+    String cvv = request.cvv();
+    if (isBlank(cvv)) {
+      errors.rejectValue("cvv", "NotBlank", NOT_BLANK);
+    }
+    if (cvv != null && !PaymentRequestValidator.isDigits(cvv, 3, 4)) {
+      errors.rejectValue("cvv", "Pattern", CVV_PATTERN);
+    }
+
+    if (month != null && year != null && month >= 1 && month <= 12
+        && !cardExpiry.isInFuture(year, month)) {
+      errors.reject("ValidExpiryDate", EXPIRY_IN_PAST);
+    }
+  }
+
+  /**
+   * {@code @NotBlank} semantics: null, or nothing left after {@link String#trim()}.
+   */
+  private static boolean isBlank(String value) {
+    if (value == null) {
+      return true;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > ' ') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isLetters(String value, int length) {
+    if (value.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = value.charAt(i);
+      if ((c < 'A' || c > 'Z') && (c < 'a' || c > 'z')) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,26 @@
+package com.checkout.payment.gateway.api.validation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+
+/**
+ * Replaces Bean Validation with {@link CreatePaymentRequestValidator} for {@code @Valid}
+ * {@link com.checkout.payment.gateway.api.model.CreatePaymentRequest} bodies, so Hibernate
+ * Validator is not invoked for them.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "payment.validation", name = "mode", havingValue = "fused")
+public class FusedValidationAdvice {
+  private final CreatePaymentRequestValidator createPaymentRequestValidator;
+
+  public FusedValidationAdvice(CreatePaymentRequestValidator createPaymentRequestValidator) {
+    this.createPaymentRequestValidator = createPaymentRequestValidator;
+  }
+
+  @InitBinder("createPaymentRequest")
+  public void useFusedValidator(WebDataBinder binder) {
+    binder.setValidator(createPaymentRequestValidator);
+  }
+}
@@ -0,0 +1,38 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.port.AsyncBankClient;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@ConditionalOnProperty(prefix = "payment.processing", name = "mode", havingValue = "non-blocking")
+public class NonBlockingPaymentGatewayService {
+
+  private final PaymentGatewayService paymentGatewayService;
+  private final AsyncBankClient asyncBankClient;
+  private final PaymentMetrics paymentMetrics;
+
+  public NonBlockingPaymentGatewayService(PaymentGatewayService paymentGatewayService,
+                                          AsyncBankClient asyncBankClient,
+                                          PaymentMetrics paymentMetrics) {
+    this.paymentGatewayService = paymentGatewayService;
+    this.asyncBankClient = asyncBankClient;
+    this.paymentMetrics = paymentMetrics;
+  }
+
+  public CompletableFuture<Payment> processPayment(PaymentRequest paymentRequest) {
+    paymentGatewayService.validate(paymentRequest);
+    long start = paymentMetrics.startTime();
+    return asyncBankClient.authorize(paymentRequest)
+        .whenComplete((authorized, failure) -> {
+          paymentMetrics.recordStage(PaymentMetrics.Stage.BANK, start);
+          if (failure != null) {
+            paymentMetrics.recordBankError(failure);
+          }
+        })
+        .thenApply(authorized -> paymentGatewayService.record(paymentRequest, authorized));
+  }
+}
@@ -0,0 +1,24 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs every decided payment at INFO, off the request thread as a {@link PaymentPipeline}
+ * handler.
+ */
+public class PaymentAuditLog implements PaymentPipeline.Handler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PaymentAuditLog.class);
+
+  @Override
+  public void onPayment(Payment payment, boolean endOfBatch) {
+    LOG.info("Payment processed id={} status={} amount={} currency={} last4={}",
+        payment.id(),
+        payment.status().getDisplayName(),
+        payment.amount(),
+        payment.currency(),
+        payment.cardNumberLastFour());
+  }
+}
@@ -0,0 +1,120 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes a batch of payments with at most {@code parallelism} bank calls in flight. Workers
+ * pull the next request from a shared cursor, so a slow authorization only holds up its own
+ * worker; the calling thread takes part as one of the workers. Streams of unknown length are
+ * processed through the same window, with the calling thread feeding it instead.
+ */
+public class PaymentBatchService {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PaymentBatchService.class);
+  private final PaymentGatewayService paymentGatewayService;
+  private final Executor executor;
+  private final int parallelism;
+
+  public PaymentBatchService(PaymentGatewayService paymentGatewayService, Executor executor,
+                             int parallelism) {
+    this.paymentGatewayService = paymentGatewayService;
+    this.executor = executor;
+    this.parallelism = parallelism;
+  }
+
+  public List<PaymentOutcome> processPayments(List<PaymentRequest> requests) {
+    PaymentOutcome[] outcomes = new PaymentOutcome[requests.size()];
+    AtomicInteger cursor = new AtomicInteger();
+    Runnable worker = () -> {
+      int index;
+      while ((index = cursor.getAndIncrement()) < outcomes.length) {
+        outcomes[index] = process(requests.get(index));
+      }
+    };
+
+    int workers = Math.min(parallelism, requests.size());
+    CompletableFuture<?>[] helpers = new CompletableFuture<?>[Math.max(workers - 1, 0)];
+    for (int i = 0; i < helpers.length; i++) {
+      helpers[i] = CompletableFuture.runAsync(worker, executor);
+    }
+    worker.run();
+    CompletableFuture.allOf(helpers).join();
+
+    LOG.info("Payment batch processed size={} parallelism={}", outcomes.length, workers);
+    return Arrays.asList(outcomes);
+  }
+
+  /**
+   * Processes items as the source yields them, with at most {@code parallelism} bank calls in
+   * flight. The calling thread takes the next item only once a call slot is free, and each
+   * outcome goes to the sink as soon as it is decided, so however long the source is only
+   * {@code parallelism} items are held at once, and a slow source or sink slows the other down.
+   * Outcomes arrive in completion order, from worker threads, so the sink must be thread-safe.
+   * Returns once every item taken has reached the sink; if the sink throws, no further items are
+   * taken and the first failure is rethrown.
+   */
+  public <T> long processPayments(Iterator<T> items, Function<? super T, PaymentRequest> request,
+                                  BiConsumer<? super T, PaymentOutcome> sink) {
+    Semaphore slots = new Semaphore(parallelism);
+    AtomicReference<RuntimeException> sinkFailure = new AtomicReference<>();
+    long taken = 0;
+    try {
+      while (true) {
+        slots.acquire();
+        try {
+          if (sinkFailure.get() != null || !items.hasNext()) {
+            slots.release();
+            break;
+          }
+          T item = items.next();
+          PaymentRequest paymentRequest = request.apply(item);
+          executor.execute(() -> {
+            try {
+              sink.accept(item, process(paymentRequest));
+            } catch (RuntimeException ex) {
+              sinkFailure.compareAndSet(null, ex);
+            } finally {
+              slots.release();
+            }
+          });
+        } catch (RuntimeException ex) {
+          slots.release();
+          throw ex;
+        }
+        taken++;
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while processing payment stream", ex);
+    } finally {
+      slots.acquireUninterruptibly(parallelism);
+    }
+
+    RuntimeException failure = sinkFailure.get();
+    if (failure != null) {
+      throw failure;
+    }
+    LOG.info("Payment stream processed size={} parallelism={}", taken, parallelism);
+    return taken;
+  }
+
+  private PaymentOutcome process(PaymentRequest request) {
+    try {
+      return PaymentOutcome.processed(paymentGatewayService.processPayment(request));
+    } catch (RuntimeException ex) {
+      return PaymentOutcome.failed(ex);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+
+/**
+ * A saved payment as published by {@link PaymentEventFeed}, numbered in publication order.
+ */
+public record PaymentEvent(long sequence, Payment payment) {
+}
@@ -0,0 +1,179 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fans saved payments out to subscribers from a shared ring, which is also the replay window.
+ */
+public class PaymentEventFeed implements MeterBinder, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PaymentEventFeed.class);
+
+  public interface Subscriber {
+    // may block while the consumer catches up; throwing ends the subscription
+    void onEvent(PaymentEvent event) throws IOException;
+
+    void onMissed(long count) throws IOException;
+
+    void onClose();
+  }
+
+  private final AtomicReferenceArray<PaymentEvent> ring;
+  private final int capacity;
+  private final SlowConsumerPolicy slowConsumerPolicy;
+  private final AtomicLong sequence = new AtomicLong();
+  private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+  private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+      Thread.ofVirtual().name("payment-events-", 0).factory());
+  private final LongAdder missed = new LongAdder();
+  private final LongAdder disconnected = new LongAdder();
+
+  public PaymentEventFeed(int bufferSize, SlowConsumerPolicy slowConsumerPolicy) {
+    this.ring = new AtomicReferenceArray<>(bufferSize);
+    this.capacity = bufferSize;
+    this.slowConsumerPolicy = slowConsumerPolicy;
+  }
+
+  public void publish(Payment payment) {
+    long next = sequence.getAndIncrement();
+    ring.set(index(next), new PaymentEvent(next, payment));
+    for (Subscription subscription : subscriptions) {
+      subscription.signal();
+    }
+  }
+
+  public long nextSequence() {
+    return sequence.get();
+  }
+
+  // from is clamped to the events still buffered
+  public Subscription subscribe(long from, Predicate<Payment> filter, Subscriber subscriber) {
+    long next = sequence.get();
+    Subscription subscription = new Subscription(
+        Math.min(Math.max(from, Math.max(next - capacity, 0)), next), filter, subscriber);
+    subscriptions.add(subscription);
+    subscription.signal();
+    return subscription;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("payment.events.subscribers", subscriptions, Set::size)
+        .description("Open payment event subscriptions")
+        .register(registry);
+    FunctionCounter.builder("payment.events.missed", missed, LongAdder::sum)
+        .description("Payment events skipped by subscribers that fell behind")
+        .register(registry);
+    FunctionCounter.builder("payment.events.disconnected", disconnected, LongAdder::sum)
+        .description("Subscriptions closed for falling behind")
+        .register(registry);
+  }
+
+  @Override
+  public void close() {
+    for (Subscription subscription : subscriptions) {
+      subscription.close();
+    }
+    executor.shutdownNow();
+  }
+
+  private int index(long sequence) {
+    return (int) (sequence % capacity);
+  }
+
+  // scheduled lets one drain run at a time and orders the accesses to cursor
+  public final class Subscription {
+    private final Predicate<Payment> filter;
+    private final Subscriber subscriber;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean cancelled;
+    private long cursor;
+
+    private Subscription(long cursor, Predicate<Payment> filter, Subscriber subscriber) {
+      this.cursor = cursor;
+      this.filter = filter;
+      this.subscriber = subscriber;
+    }
+
+    public void cancel() {
+      cancelled = true;
+      subscriptions.remove(this);
+    }
+
+    private void run() {
+      do {
+        try {
+          drain();
+        } catch (IOException | RuntimeException ex) {
+          LOG.debug("Payment event subscriber failed", ex);
+          cancel();
+        }
+        scheduled.set(false);
+      } while (!cancelled && pending() && scheduled.compareAndSet(false, true));
+    }
+
+    private void signal() {
+      if (!cancelled && scheduled.compareAndSet(false, true)) {
+        try {
+          executor.execute(this::run);
+        } catch (RejectedExecutionException ex) {
+          scheduled.set(false);
+        }
+      }
+    }
+
+    private void drain() throws IOException {
+      PaymentEvent event;
+      while (!cancelled && (event = ring.get(index(cursor))) != null
+          && event.sequence() >= cursor) {
+        if (event.sequence() > cursor) {
+          fellBehind();
+        } else {
+          if (filter.test(event.payment())) {
+            subscriber.onEvent(event);
+          }
+          cursor++;
+        }
+      }
+    }
+
+    private void fellBehind() throws IOException {
+      if (slowConsumerPolicy == SlowConsumerPolicy.DISCONNECT) {
+        disconnected.increment();
+        close();
+        return;
+      }
+      long oldest = Math.max(sequence.get() - capacity + 1, cursor + 1);
+      missed.add(oldest - cursor);
+      subscriber.onMissed(oldest - cursor);
+      cursor = oldest;
+    }
+
+    private boolean pending() {
+      PaymentEvent event = ring.get(index(cursor));
+      return event != null && event.sequence() >= cursor;
+    }
+
+    private void close() {
+      cancel();
+      subscriber.onClose();
+    }
+  }
+}
@@ -5,10 +5,15 @@ import com.checkout.payment.gateway.domain.model.PaymentRequest;
 import com.checkout.payment.gateway.domain.model.PaymentStatus;
 import com.checkout.payment.gateway.domain.port.BankClient;
 import com.checkout.payment.gateway.domain.port.PaymentIdGenerator;
+import com.checkout.payment.gateway.domain.repository.PaymentPage;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
 import com.checkout.payment.gateway.domain.repository.PaymentsRepository;
 import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
 import com.checkout.payment.gateway.exception.PaymentNotFoundException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -21,15 +26,24 @@ public class PaymentGatewayService {
   private final BankClient bankClient;
   private final PaymentIdGenerator paymentIdGenerator;
   private final PaymentRequestValidator paymentRequestValidator;
+  private final PaymentMetrics paymentMetrics;
+  private final PaymentStatistics paymentStatistics;
+  private final PaymentPipeline paymentPipeline;
 
   public PaymentGatewayService(PaymentsRepository paymentsRepository,
                                BankClient bankClient,
                                PaymentIdGenerator paymentIdGenerator,
-                               PaymentRequestValidator paymentRequestValidator) {
+                               PaymentRequestValidator paymentRequestValidator,
+                               PaymentMetrics paymentMetrics,
+                               PaymentStatistics paymentStatistics,
+                               PaymentPipeline paymentPipeline) {
     this.paymentsRepository = paymentsRepository;
     this.bankClient = bankClient;
     this.paymentIdGenerator = paymentIdGenerator;
     this.paymentRequestValidator = paymentRequestValidator;
+    this.paymentMetrics = paymentMetrics;
+    this.paymentStatistics = paymentStatistics;
+    this.paymentPipeline = paymentPipeline;
   }
 
   public Payment getPaymentById(UUID id) {
@@ -38,15 +52,129 @@ public class PaymentGatewayService {
         .orElseThrow(() -> new PaymentNotFoundException("Payment not found"));
   }
 
+  public Optional<Payment> findPaymentById(UUID id) {
+    return paymentsRepository.findById(id);
+  }
+
+  public PaymentPage findPayments(PaymentQuery query) {
+    LOG.debug("Listing payments matching {}", query);
+    return paymentsRepository.find(query);
+  }
+
+  public Stream<Payment> streamPayments(PaymentQuery query) {
+    LOG.debug("Streaming payments matching {}", query);
+    return paymentsRepository.stream(query);
+  }
+
   public Payment processPayment(PaymentRequest paymentRequest) {
-    paymentRequestValidator.validate(paymentRequest);
-    boolean authorized = bankClient.authorize(paymentRequest);
+    validate(paymentRequest);
+    boolean authorized;
+    long start = paymentMetrics.startTime();
+    try {
+      authorized = bankClient.authorize(paymentRequest);
+    } catch (RuntimeException ex) {
+      paymentMetrics.recordBankError(ex);
+      throw ex;
+    } finally {
+      paymentMetrics.recordStage(PaymentMetrics.Stage.BANK, start);
+    }
+    return record(paymentRequest, authorized);
+  }
+
+  void validate(PaymentRequest paymentRequest) {
+    long start = paymentMetrics.startTime();
+    try {
+      paymentRequestValidator.validate(paymentRequest);
+    } catch (PaymentValidationException ex) {
+      paymentMetrics.recordOutcome(PaymentStatus.REJECTED,
+          paymentRequest == null ? null : paymentRequest.currency());
+      if (paymentRequest != null) {
+        paymentStatistics.record(PaymentStatus.REJECTED, paymentRequest.currency(),
+            paymentRequest.amount());
+      }
+      throw ex;
+    } finally {
+      paymentMetrics.recordStage(PaymentMetrics.Stage.VALIDATION, start);
+    }
+  }
+
+  /**
+   * Validates a payment and stores it as {@link PaymentStatus#PENDING}, to be authorized later
+   * by {@link #authorizePending}.
+   */
+  public Payment acceptPayment(PaymentRequest paymentRequest) {
+    validate(paymentRequest);
+    Payment payment = newPayment(nextId(), PaymentStatus.PENDING, paymentRequest);
+    long start = paymentMetrics.startTime();
+    paymentsRepository.save(payment);
+    paymentMetrics.recordStage(PaymentMetrics.Stage.SAVE, start);
+    LOG.info("Payment accepted id={} amount={} currency={} last4={}",
+        payment.id(),
+        payment.amount(),
+        payment.currency(),
+        payment.cardNumberLastFour());
+    return payment;
+  }
+
+  /**
+   * Authorizes a payment stored by {@link #acceptPayment} and stores the outcome in its place.
+   * There is no caller left to report a bank failure to, so the payment is stored as
+   * {@link PaymentStatus#FAILED}: the bank gave no decision, unlike a {@code REJECTED} request
+   * that failed validation, and the client may submit it again.
+   */
+  public Payment authorizePending(Payment pending, PaymentRequest paymentRequest) {
+    PaymentStatus status;
+    long start = paymentMetrics.startTime();
+    try {
+      status = bankClient.authorize(paymentRequest)
+          ? PaymentStatus.AUTHORIZED
+          : PaymentStatus.DECLINED;
+    } catch (RuntimeException ex) {
+      paymentMetrics.recordBankError(ex);
+      LOG.warn("Bank authorization failed for pending payment id={}", pending.id(), ex);
+      status = PaymentStatus.FAILED;
+    } finally {
+      paymentMetrics.recordStage(PaymentMetrics.Stage.BANK, start);
+    }
+    return store(withStatus(pending, status));
+  }
+
+  /**
+   * Stores a payment accepted by {@link #acceptPayment} as {@link PaymentStatus#FAILED} without
+   * asking the bank, for a payment the gateway stopped before authorizing.
+   */
+  public Payment failPending(Payment pending) {
+    return store(withStatus(pending, PaymentStatus.FAILED));
+  }
+
+  Payment record(PaymentRequest paymentRequest, boolean authorized) {
     PaymentStatus status = authorized ? PaymentStatus.AUTHORIZED : PaymentStatus.DECLINED;
-    String lastFour = paymentRequest.cardNumber()
-        .substring(paymentRequest.cardNumber().length() - 4);
+    return store(newPayment(nextId(), status, paymentRequest));
+  }
+
+  private UUID nextId() {
+    long start = paymentMetrics.startTime();
     UUID id = paymentIdGenerator.nextId();
+    paymentMetrics.recordStage(PaymentMetrics.Stage.ID_GENERATION, start);
+    return id;
+  }
+
+  private static Payment withStatus(Payment payment, PaymentStatus status) {
+    return new Payment(
+        payment.id(),
+        status,
+        payment.cardNumberLastFour(),
+        payment.expiryMonth(),
+        payment.expiryYear(),
+        payment.currency(),
+        payment.amount()
+    );
+  }
 
-    Payment payment = new Payment(
+  private static Payment newPayment(UUID id, PaymentStatus status, PaymentRequest paymentRequest) {
+    String lastFour = paymentRequest.cardNumber()
+        .substring(paymentRequest.cardNumber().length() - 4);
+    return new Payment(
         id,
         status,
         lastFour,
@@ -55,14 +183,18 @@ public class PaymentGatewayService {
         paymentRequest.currency(),
         paymentRequest.amount()
     );
+  }
 
+  /**
+   * Saves a decided payment and hands it to the {@link PaymentPipeline} for the audit log,
+   * statistics and anything else that need not hold up the response.
+   */
+  private Payment store(Payment payment) {
+    long start = paymentMetrics.startTime();
     paymentsRepository.save(payment);
-    LOG.info("Payment processed id={} status={} amount={} currency={} last4={}",
-        payment.id(),
-        payment.status().getDisplayName(),
-        payment.amount(),
-        payment.currency(),
-        payment.cardNumberLastFour());
+    paymentMetrics.recordStage(PaymentMetrics.Stage.SAVE, start);
+    paymentMetrics.recordOutcome(payment.status(), payment.currency());
+    paymentPipeline.publish(payment);
     return payment;
   }
 }
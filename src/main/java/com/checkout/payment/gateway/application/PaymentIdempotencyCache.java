@@ -0,0 +1,212 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.exception.IdempotencyKeyReusedException;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Replays the payment made for an {@code Idempotency-Key}; only successful outcomes are kept.
+ */
+public class PaymentIdempotencyCache implements MeterBinder {
+  static final int MAX_KEY_LENGTH = 255;
+  private static final String FINGERPRINT_ALGORITHM = "HmacSHA256";
+
+  // unbounded, so size eviction cannot let a duplicate of an in-flight request reach the bank
+  private final ConcurrentMap<String, Claim> inFlight = new ConcurrentHashMap<>();
+  private final Cache<String, Claim> completed;
+  private final SecretKeySpec fingerprintKey;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder mismatches = new LongAdder();
+
+  public PaymentIdempotencyCache(long maximumSize, Duration timeToLive) {
+    this(maximumSize, timeToLive, Ticker.systemTicker());
+  }
+
+  PaymentIdempotencyCache(long maximumSize, Duration timeToLive, Ticker ticker) {
+    this.completed = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(timeToLive)
+        .ticker(ticker)
+        .build();
+    byte[] secret = new byte[32];
+    new SecureRandom().nextBytes(secret);
+    this.fingerprintKey = new SecretKeySpec(secret, FINGERPRINT_ALGORITHM);
+  }
+
+  public Payment execute(String key, PaymentRequest request, Supplier<Payment> operation) {
+    validateKey(key);
+    Claim claim = new Claim(fingerprint(request));
+    Claim existing = claim(key, claim);
+    if (existing != null) {
+      return await(recordDuplicate(existing, claim));
+    }
+    misses.increment();
+    try {
+      Payment payment = operation.get();
+      complete(key, claim, payment);
+      return payment;
+    } catch (RuntimeException ex) {
+      release(key, claim, ex);
+      throw ex;
+    }
+  }
+
+  public CompletableFuture<Payment> executeAsync(String key, PaymentRequest request,
+                                                 Supplier<CompletableFuture<Payment>> operation) {
+    validateKey(key);
+    Claim claim = new Claim(fingerprint(request));
+    Claim existing = claim(key, claim);
+    if (existing != null) {
+      return recordDuplicate(existing, claim).copy();
+    }
+    misses.increment();
+    CompletableFuture<Payment> attempt;
+    try {
+      attempt = operation.get();
+    } catch (RuntimeException ex) {
+      attempt = CompletableFuture.failedFuture(ex);
+    }
+    attempt.whenComplete((payment, ex) -> {
+      if (ex == null) {
+        complete(key, claim, payment);
+      } else {
+        release(key, claim, unwrap(ex));
+      }
+    });
+    return claim.payment.copy();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    counter(registry, "hit", hits);
+    counter(registry, "miss", misses);
+    counter(registry, "coalesced", coalesced);
+    counter(registry, "mismatch", mismatches);
+    Gauge.builder("payment.idempotency.size", this,
+            cache -> cache.completed.estimatedSize() + cache.inFlight.size())
+        .description("Idempotency keys currently cached or in flight")
+        .register(registry);
+  }
+
+  private CompletableFuture<Payment> recordDuplicate(Claim existing, Claim duplicate) {
+    if (!MessageDigest.isEqual(existing.fingerprint, duplicate.fingerprint)) {
+      mismatches.increment();
+      throw new IdempotencyKeyReusedException(
+          "Idempotency key was already used with a different payment");
+    }
+    if (existing.payment.isDone() && !existing.payment.isCompletedExceptionally()) {
+      hits.increment();
+    } else {
+      coalesced.increment();
+    }
+    return existing.payment;
+  }
+
+  // under the in-flight map's lock for the key, as is complete, so a moving claim is not missed
+  private Claim claim(String key, Claim claim) {
+    Claim[] existing = new Claim[1];
+    inFlight.compute(key, (k, current) -> {
+      if (current != null) {
+        existing[0] = current;
+        return current;
+      }
+      existing[0] = completed.getIfPresent(k);
+      return existing[0] == null ? claim : null;
+    });
+    return existing[0];
+  }
+
+  private void complete(String key, Claim claim, Payment payment) {
+    claim.payment.complete(payment);
+    inFlight.computeIfPresent(key, (k, current) -> {
+      if (current != claim) {
+        return current;
+      }
+      completed.put(k, claim);
+      return null;
+    });
+  }
+
+  private void release(String key, Claim claim, Throwable failure) {
+    inFlight.remove(key, claim);
+    claim.payment.completeExceptionally(failure);
+  }
+
+  // HMAC under a per-instance key, so no card details are kept
+  private byte[] fingerprint(PaymentRequest request) {
+    String fields = request.cardNumber() + '\u0000'
+        + request.expiryMonth() + '\u0000'
+        + request.expiryYear() + '\u0000'
+        + request.currency() + '\u0000'
+        + request.amount() + '\u0000'
+        + request.cvv();
+    try {
+      Mac mac = Mac.getInstance(FINGERPRINT_ALGORITHM);
+      mac.init(fingerprintKey);
+      return mac.doFinal(fields.getBytes(StandardCharsets.UTF_8));
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException(FINGERPRINT_ALGORITHM + " unavailable", ex);
+    }
+  }
+
+  private static Payment await(CompletableFuture<Payment> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  private static Throwable unwrap(Throwable ex) {
+    return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+  }
+
+  private static void validateKey(String key) {
+    if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new PaymentValidationException("idempotency_key",
+          "Idempotency key must be 1-" + MAX_KEY_LENGTH + " characters");
+    }
+  }
+
+  private static void counter(MeterRegistry registry, String result, LongAdder count) {
+    FunctionCounter.builder("payment.idempotency.requests", count, LongAdder::sum)
+        .description("POST /payments requests carrying an Idempotency-Key, by cache result")
+        .tag("result", result)
+        .register(registry);
+  }
+
+  private static final class Claim {
+    private final byte[] fingerprint;
+    private final CompletableFuture<Payment> payment = new CompletableFuture<>();
+
+    private Claim(byte[] fingerprint) {
+      this.fingerprint = fingerprint;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times each stage of processing a payment ({@code payment.stage}) and counts outcomes by status
+ * and currency ({@code payment.processed}) and bank failures by exception type
+ * ({@code payment.bank.errors}). Meters are registered up front, so recording costs a clock read
+ * and a few atomic adds with no tag lookups. Currencies outside the configured set are counted
+ * under {@code other}, so rejected requests cannot create new time series.
+ */
+@Component
+public class PaymentMetrics {
+  static final String OTHER_CURRENCY = "other";
+
+  public enum Stage {
+    VALIDATION, BANK, ID_GENERATION, SAVE;
+
+    String tag() {
+      return name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+  }
+
+  private final MeterRegistry registry;
+  private final Clock clock;
+  private final Timer[] stages = new Timer[Stage.values().length];
+  private final Map<PaymentStatus, Map<String, Counter>> processed =
+      new EnumMap<>(PaymentStatus.class);
+  private final ConcurrentMap<Class<?>, Counter> bankErrors = new ConcurrentHashMap<>();
+
+  public PaymentMetrics(MeterRegistry registry, SupportedCurrencies supportedCurrencies) {
+    this.registry = registry;
+    this.clock = registry.config().clock();
+    for (Stage stage : Stage.values()) {
+      stages[stage.ordinal()] = Timer.builder("payment.stage")
+          .description("Time spent in each stage of processing a payment")
+          .tag("stage", stage.tag())
+          .publishPercentileHistogram()
+          .minimumExpectedValue(Duration.ofNanos(1_000))
+          .maximumExpectedValue(Duration.ofSeconds(30))
+          .register(registry);
+    }
+    for (PaymentStatus status : PaymentStatus.values()) {
+      Map<String, Counter> byCurrency = new HashMap<>();
+      for (String currency : supportedCurrencies.allowed()) {
+        byCurrency.put(currency, processedCounter(status, currency));
+      }
+      byCurrency.put(OTHER_CURRENCY, processedCounter(status, OTHER_CURRENCY));
+      processed.put(status, Map.copyOf(byCurrency));
+    }
+  }
+
+  /**
+   * Returns the time to pass to {@link #recordStage} when the stage ends.
+   */
+  public long startTime() {
+    return clock.monotonicTime();
+  }
+
+  public void recordStage(Stage stage, long startTime) {
+    stages[stage.ordinal()].record(clock.monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+  }
+
+  public void recordOutcome(PaymentStatus status, String currency) {
+    Map<String, Counter> byCurrency = processed.get(status);
+    Counter counter = currency == null ? null : byCurrency.get(currency);
+    if (counter == null && currency != null) {
+      counter = byCurrency.get(currency.toUpperCase(Locale.ROOT));
+    }
+    (counter != null ? counter : byCurrency.get(OTHER_CURRENCY)).increment();
+  }
+
+  public void recordBankError(Throwable error) {
+    Throwable cause = error instanceof CompletionException && error.getCause() != null
+        ? error.getCause() : error;
+    bankErrors.computeIfAbsent(cause.getClass(), type -> Counter.builder("payment.bank.errors")
+            .description("Failed bank authorizations by exception type")
+            .tag("exception", type.getSimpleName())
+            .register(registry))
+        .increment();
+  }
+
+  private Counter processedCounter(PaymentStatus status, String currency) {
+    return Counter.builder("payment.processed")
+        .description("Payments processed by outcome and currency")
+        .tag("status", status.name().toLowerCase(Locale.ROOT))
+        .tag("currency", currency)
+        .register(registry);
+  }
+}
@@ -0,0 +1,22 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+
+/**
+ * Result of processing one payment of a batch: either the recorded payment or the exception
+ * that stopped it, so one failing item does not fail the whole batch.
+ */
+public record PaymentOutcome(Payment payment, RuntimeException failure) {
+
+  public static PaymentOutcome processed(Payment payment) {
+    return new PaymentOutcome(payment, null);
+  }
+
+  public static PaymentOutcome failed(RuntimeException failure) {
+    return new PaymentOutcome(null, failure);
+  }
+
+  public boolean isProcessed() {
+    return payment != null;
+  }
+}
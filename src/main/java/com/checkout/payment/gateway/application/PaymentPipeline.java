@@ -0,0 +1,271 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ring buffer handing decided payments to off-request handlers, each on its own thread.
+ */
+public class PaymentPipeline implements MeterBinder, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PaymentPipeline.class);
+  private static final int SPINS = 100;
+  private static final int YIELDS = 100;
+  private static final long SLEEP_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+  private static final long CLOSE_TIMEOUT_MILLIS = 5_000;
+
+  public interface Handler {
+    // endOfBatch marks the last payment of a run; a thrown exception is logged and counted
+    void onPayment(Payment payment, boolean endOfBatch) throws Exception;
+  }
+
+  private final Slot[] ring;
+  private final int capacity;
+  private final int batchSize;
+  private final PipelineWaitStrategy waitStrategy;
+  private final AtomicLong claimed = new AtomicLong();
+  private final List<Consumer> consumers = new ArrayList<>();
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition published = lock.newCondition();
+  private final AtomicInteger sleepers = new AtomicInteger();
+  // lowest position of any handler when last looked; publishers only recompute it near a wrap
+  private volatile long gate;
+  private volatile boolean closed;
+
+  public PaymentPipeline(Map<String, ? extends Handler> handlers, int bufferSize, int batchSize,
+                         PipelineWaitStrategy waitStrategy) {
+    this.ring = new Slot[bufferSize];
+    for (int i = 0; i < bufferSize; i++) {
+      ring[i] = new Slot();
+    }
+    this.capacity = bufferSize;
+    this.batchSize = batchSize;
+    this.waitStrategy = waitStrategy;
+    handlers.forEach((name, handler) -> consumers.add(new Consumer(name, handler)));
+    for (Consumer consumer : consumers) {
+      consumer.thread.start();
+    }
+  }
+
+  // waits while the slowest handler is a whole ring behind, so nothing is dropped
+  public void publish(Payment payment) {
+    if (closed) {
+      LOG.debug("Payment pipeline closed, not handling payment id={}", payment.id());
+      return;
+    }
+    long sequence = claimed.getAndIncrement();
+    awaitCapacity(sequence);
+    Slot slot = ring[index(sequence)];
+    slot.payment = payment;
+    slot.sequence = sequence;
+    if (sleepers.get() > 0) {
+      wakeSleepers();
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (Consumer consumer : consumers) {
+      Gauge.builder("payment.pipeline.lag", consumer, this::lag)
+          .description("Payments published but not yet handled")
+          .tag("handler", consumer.name)
+          .register(registry);
+      FunctionCounter.builder("payment.pipeline.failures", consumer.failures, LongAdder::sum)
+          .description("Payments a pipeline handler failed on")
+          .tag("handler", consumer.name)
+          .register(registry);
+    }
+  }
+
+  public long lag(String handler) {
+    for (Consumer consumer : consumers) {
+      if (consumer.name.equals(handler)) {
+        return lag(consumer);
+      }
+    }
+    throw new IllegalArgumentException("No pipeline handler named " + handler);
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    wakeSleepers();
+    long deadline = System.currentTimeMillis() + CLOSE_TIMEOUT_MILLIS;
+    for (Consumer consumer : consumers) {
+      try {
+        consumer.thread.join(Math.max(deadline - System.currentTimeMillis(), 1));
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      if (consumer.thread.isAlive()) {
+        LOG.warn("Payment pipeline handler {} did not finish, {} payments left", consumer.name,
+            lag(consumer));
+        consumer.thread.interrupt();
+      }
+    }
+  }
+
+  private long lag(Consumer consumer) {
+    return Math.max(claimed.get() - consumer.position.get(), 0);
+  }
+
+  private int index(long sequence) {
+    return (int) (sequence % capacity);
+  }
+
+  private void awaitCapacity(long sequence) {
+    long wrap = sequence - capacity;
+    if (wrap < gate) {
+      return;
+    }
+    long lowest;
+    while (wrap >= (lowest = lowestPosition()) && !closed) {
+      LockSupport.parkNanos(SLEEP_NANOS);
+    }
+    gate = lowest;
+  }
+
+  private long lowestPosition() {
+    long lowest = claimed.get();
+    for (Consumer consumer : consumers) {
+      lowest = Math.min(lowest, consumer.position.get());
+    }
+    return lowest;
+  }
+
+  private void wakeSleepers() {
+    lock.lock();
+    try {
+      published.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  // the volatile write of sequence publishes the payment written before it
+  private static final class Slot {
+    private volatile long sequence = -1;
+    private Payment payment;
+  }
+
+  private final class Consumer implements Runnable {
+    private final String name;
+    private final Handler handler;
+    private final Thread thread;
+    // sequence of the next payment to handle; publishers wait on the lowest of these
+    private final AtomicLong position = new AtomicLong();
+    private final LongAdder failures = new LongAdder();
+
+    private Consumer(String name, Handler handler) {
+      this.name = name;
+      this.handler = handler;
+      this.thread = Thread.ofPlatform()
+          .name("payment-pipeline-" + name)
+          .daemon(true)
+          .unstarted(this);
+    }
+
+    @Override
+    public void run() {
+      long next = 0;
+      while (true) {
+        long last;
+        try {
+          last = awaitPublished(next);
+        } catch (InterruptedException ex) {
+          return;
+        }
+        if (last < next) {
+          return;
+        }
+        for (long sequence = next; sequence <= last; sequence++) {
+          handle(ring[index(sequence)].payment, sequence == last);
+        }
+        next = last + 1;
+        position.set(next);
+      }
+    }
+
+    private void handle(Payment payment, boolean endOfBatch) {
+      try {
+        handler.onPayment(payment, endOfBatch);
+      } catch (Exception ex) {
+        failures.increment();
+        LOG.warn("Payment pipeline handler {} failed for payment id={}", name, payment.id(), ex);
+      }
+    }
+
+    // last sequence of the run published from next, at most a batch; next - 1 once closed
+    private long awaitPublished(long next) throws InterruptedException {
+      Slot slot = ring[index(next)];
+      int attempts = 0;
+      while (slot.sequence != next) {
+        if (closed) {
+          return next - 1;
+        }
+        idle(slot, next, attempts++);
+      }
+      long last = next;
+      long limit = next + batchSize - 1;
+      while (last < limit && ring[index(last + 1)].sequence == last + 1) {
+        last++;
+      }
+      return last;
+    }
+
+    private void idle(Slot slot, long next, int attempts) throws InterruptedException {
+      switch (waitStrategy) {
+        case BLOCKING -> sleep(slot, next);
+        case SLEEPING -> {
+          if (attempts < SPINS) {
+            Thread.onSpinWait();
+          } else if (attempts < SPINS + YIELDS) {
+            Thread.yield();
+          } else {
+            LockSupport.parkNanos(SLEEP_NANOS);
+          }
+        }
+        case YIELDING -> {
+          if (attempts < SPINS) {
+            Thread.onSpinWait();
+          } else {
+            Thread.yield();
+          }
+        }
+        case BUSY_SPIN -> Thread.onSpinWait();
+      }
+      if (Thread.interrupted()) {
+        throw new InterruptedException();
+      }
+    }
+
+    // counted in sleepers before rechecking the slot, so a publisher cannot miss waking us
+    private void sleep(Slot slot, long next) throws InterruptedException {
+      lock.lock();
+      sleepers.incrementAndGet();
+      try {
+        while (slot.sequence != next && !closed) {
+          published.await();
+        }
+      } finally {
+        sleepers.decrementAndGet();
+        lock.unlock();
+      }
+    }
+  }
+}
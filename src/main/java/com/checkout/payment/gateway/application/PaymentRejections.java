@@ -0,0 +1,28 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts payment requests turned away by the API before they reach {@link PaymentGatewayService},
+ * as malformed JSON or by request validation.
+ */
+@Component
+public class PaymentRejections {
+  private final PaymentMetrics paymentMetrics;
+  private final PaymentStatistics paymentStatistics;
+
+  public PaymentRejections(PaymentMetrics paymentMetrics, PaymentStatistics paymentStatistics) {
+    this.paymentMetrics = paymentMetrics;
+    this.paymentStatistics = paymentStatistics;
+  }
+
+  /**
+   * @param currency the rejected request's currency, or {@code null} if it could not be read
+   * @param amount the rejected request's amount, or {@code null} if it could not be read
+   */
+  public void record(String currency, Integer amount) {
+    paymentMetrics.recordOutcome(PaymentStatus.REJECTED, currency);
+    paymentStatistics.record(PaymentStatus.REJECTED, currency, amount == null ? 0 : amount);
+  }
+}
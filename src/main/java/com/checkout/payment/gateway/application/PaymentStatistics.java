@@ -0,0 +1,212 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts processed payments and sums their amounts by status and currency, over rolling windows
+ * and since startup. Recording only adds to two {@link LongAdder}s, whose cells are striped per
+ * thread, so concurrent requests never contend, lock or even read the clock.
+ *
+ * <p>Windows come from rings of snapshots of those running totals, one per second for the last
+ * five minutes and one per minute for the last hour: a window's figures are the totals now minus
+ * the snapshot taken as it began. A daemon thread takes the snapshots at each second; reads
+ * catch up on any it has missed. The hour window has one-minute resolution. Currencies outside
+ * the configured set are counted under {@code other}.
+ */
+@Component
+public class PaymentStatistics implements AutoCloseable {
+  static final String OTHER_CURRENCY = PaymentMetrics.OTHER_CURRENCY;
+  private static final PaymentStatus[] STATUSES = PaymentStatus.values();
+  private static final int SECONDS = 300;
+  private static final int MINUTES = 60;
+
+  public enum Window {
+    ONE_MINUTE(60), FIVE_MINUTES(300), ONE_HOUR(3600), TOTAL(0);
+
+    private final int seconds;
+
+    Window(int seconds) {
+      this.seconds = seconds;
+    }
+  }
+
+  private final Clock clock;
+  private final String[] currencies;
+  private final Map<String, Integer> currencyIndexes = new HashMap<>();
+  private final LongAdder[] counts;
+  private final LongAdder[] amounts;
+  private final AtomicReferenceArray<long[]> bySecond = new AtomicReferenceArray<>(SECONDS);
+  private final AtomicReferenceArray<long[]> byMinute = new AtomicReferenceArray<>(MINUTES);
+  private final ReentrantLock rollLock = new ReentrantLock();
+  private final long startSecond;
+  private final long[] start;
+  private final ScheduledExecutorService ticker;
+  // guarded by rollLock
+  private long lastSecond;
+
+  @Autowired
+  public PaymentStatistics(SupportedCurrencies supportedCurrencies) {
+    this(supportedCurrencies, Clock.systemUTC(), true);
+  }
+
+  /**
+   * @param ticking whether to take snapshots on a background thread; if not, they are taken by
+   *                {@link #tick()} and {@link #snapshot()} only
+   */
+  PaymentStatistics(SupportedCurrencies supportedCurrencies, Clock clock, boolean ticking) {
+    this.clock = clock;
+    List<String> codes = new ArrayList<>(supportedCurrencies.allowed().stream().sorted().toList());
+    codes.add(OTHER_CURRENCY);
+    this.currencies = codes.toArray(String[]::new);
+    for (int i = 0; i < currencies.length - 1; i++) {
+      currencyIndexes.put(currencies[i], i);
+    }
+    int series = STATUSES.length * currencies.length;
+    this.counts = new LongAdder[series];
+    this.amounts = new LongAdder[series];
+    for (int i = 0; i < series; i++) {
+      counts[i] = new LongAdder();
+      amounts[i] = new LongAdder();
+    }
+    this.startSecond = clock.millis() / 1000;
+    this.lastSecond = startSecond;
+    this.start = new long[series * 2];
+    this.ticker = ticking ? startTicker() : null;
+  }
+
+  public void record(PaymentStatus status, String currency, long amount) {
+    int series = status.ordinal() * currencies.length + currencyIndex(currency);
+    counts[series].increment();
+    amounts[series].add(amount);
+  }
+
+  /**
+   * Figures per status and currency for the window; combinations with no payments are left
+   * out.
+   */
+  public Map<Window, List<Tally>> snapshot() {
+    long second = tick();
+    long[] now = totals();
+    Map<Window, List<Tally>> windows = new EnumMap<>(Window.class);
+    for (Window window : Window.values()) {
+      windows.put(window, tallies(now, baseline(window, second)));
+    }
+    return windows;
+  }
+
+  @Override
+  public void close() {
+    if (ticker != null) {
+      ticker.shutdownNow();
+    }
+  }
+
+  /**
+   * Snapshots the running totals for every second, and minute, begun since the last call.
+   * Returns the current second.
+   */
+  long tick() {
+    long second = clock.millis() / 1000;
+    rollLock.lock();
+    try {
+      roll(second);
+    } finally {
+      rollLock.unlock();
+    }
+    return second;
+  }
+
+  private void roll(long second) {
+    long last = lastSecond;
+    if (second <= last) {
+      return;
+    }
+    long[] totals = totals();
+    for (long s = Math.max(last + 1, second - SECONDS + 1); s <= second; s++) {
+      bySecond.set((int) (s % SECONDS), totals);
+    }
+    long lastMinute = last / 60;
+    long minute = second / 60;
+    for (long m = Math.max(lastMinute + 1, minute - MINUTES + 1); m <= minute; m++) {
+      byMinute.set((int) (m % MINUTES), totals);
+    }
+    lastSecond = second;
+  }
+
+  private long[] baseline(Window window, long second) {
+    if (window == Window.TOTAL) {
+      return start;
+    }
+    long[] snapshot;
+    if (window.seconds <= SECONDS) {
+      long from = second - window.seconds + 1;
+      snapshot = from <= startSecond ? start : bySecond.get((int) (from % SECONDS));
+    } else {
+      long from = second / 60 - window.seconds / 60 + 1;
+      snapshot = from * 60 <= startSecond ? start : byMinute.get((int) (from % MINUTES));
+    }
+    return snapshot != null ? snapshot : start;
+  }
+
+  private long[] totals() {
+    long[] totals = new long[counts.length * 2];
+    for (int i = 0; i < counts.length; i++) {
+      totals[i * 2] = counts[i].sum();
+      totals[i * 2 + 1] = amounts[i].sum();
+    }
+    return totals;
+  }
+
+  private List<Tally> tallies(long[] now, long[] baseline) {
+    List<Tally> tallies = new ArrayList<>();
+    for (int i = 0; i < counts.length; i++) {
+      long count = now[i * 2] - baseline[i * 2];
+      if (count > 0) {
+        tallies.add(new Tally(STATUSES[i / currencies.length], currencies[i % currencies.length],
+            count, now[i * 2 + 1] - baseline[i * 2 + 1]));
+      }
+    }
+    return tallies;
+  }
+
+  private int currencyIndex(String currency) {
+    if (currency == null) {
+      return currencies.length - 1;
+    }
+    Integer index = currencyIndexes.get(currency);
+    if (index == null) {
+      index = currencyIndexes.get(currency.toUpperCase(Locale.ROOT));
+    }
+    return index != null ? index : currencies.length - 1;
+  }
+
+  private ScheduledExecutorService startTicker() {
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "payment-statistics");
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.scheduleAtFixedRate(this::tick, 1000 - clock.millis() % 1000, 1000,
+        TimeUnit.MILLISECONDS);
+    return executor;
+  }
+
+  public record Tally(PaymentStatus status, String currency, long count, long amount) {
+  }
+}
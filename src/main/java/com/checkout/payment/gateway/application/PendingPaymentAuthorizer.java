@@ -0,0 +1,128 @@
+package com.checkout.payment.gateway.application;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accepts payments as pending and authorizes them on a fixed pool of workers, so the caller
+ * never waits for the bank and the number of workers, not the request rate, sets how many bank
+ * calls are in flight. At most {@code capacity} payments are waiting or being authorized at once;
+ * beyond that new payments are turned away before they are stored, so a slow bank cannot grow
+ * the backlog without bound. Payments still queued when the gateway stops are stored as
+ * {@link com.checkout.payment.gateway.domain.model.PaymentStatus#FAILED}, so they can be
+ * submitted again.
+ */
+public class PendingPaymentAuthorizer implements MeterBinder, AutoCloseable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PendingPaymentAuthorizer.class);
+  private final PaymentGatewayService paymentGatewayService;
+  private final ExecutorService workers;
+  private final Semaphore slots;
+  private final int capacity;
+  private final Duration closeTimeout;
+
+  public PendingPaymentAuthorizer(PaymentGatewayService paymentGatewayService, int workers,
+                                  int capacity) {
+    this(paymentGatewayService, workers, capacity, Duration.ofSeconds(5));
+  }
+
+  PendingPaymentAuthorizer(PaymentGatewayService paymentGatewayService, int workers,
+                           int capacity, Duration closeTimeout) {
+    this.paymentGatewayService = paymentGatewayService;
+    this.workers = Executors.newFixedThreadPool(workers,
+        Thread.ofPlatform().name("payment-authorizer-", 0).daemon().factory());
+    this.slots = new Semaphore(capacity);
+    this.capacity = capacity;
+    this.closeTimeout = closeTimeout;
+  }
+
+  /**
+   * Validates and stores the payment as pending, queues its authorization and returns it.
+   *
+   * @throws BankUnavailableException if {@code capacity} payments are already pending
+   */
+  public Payment submit(PaymentRequest paymentRequest) {
+    if (!slots.tryAcquire()) {
+      throw new BankUnavailableException("Too many payments pending authorization");
+    }
+    try {
+      Payment pending = paymentGatewayService.acceptPayment(paymentRequest);
+      workers.execute(new Authorization(pending, paymentRequest));
+      return pending;
+    } catch (RuntimeException ex) {
+      slots.release();
+      throw ex;
+    }
+  }
+
+  /**
+   * Payments waiting for or undergoing authorization.
+   */
+  public int pending() {
+    return capacity - slots.availablePermits();
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("payment.pending", this, PendingPaymentAuthorizer::pending)
+        .description("Accepted payments waiting for or undergoing authorization")
+        .register(registry);
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    workers.shutdown();
+    if (workers.awaitTermination(closeTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+      return;
+    }
+    List<Runnable> queued = workers.shutdownNow();
+    LOG.warn("Stopped with {} payments pending authorization; storing {} queued as failed",
+        pending(), queued.size());
+    for (Runnable task : queued) {
+      ((Authorization) task).fail();
+    }
+  }
+
+  private final class Authorization implements Runnable {
+    private final Payment pending;
+    private final PaymentRequest paymentRequest;
+
+    Authorization(Payment pending, PaymentRequest paymentRequest) {
+      this.pending = pending;
+      this.paymentRequest = paymentRequest;
+    }
+
+    @Override
+    public void run() {
+      try {
+        paymentGatewayService.authorizePending(pending, paymentRequest);
+      } catch (RuntimeException ex) {
+        LOG.error("Could not complete pending payment id={}", pending.id(), ex);
+      } finally {
+        slots.release();
+      }
+    }
+
+    void fail() {
+      try {
+        paymentGatewayService.failPending(pending);
+      } catch (RuntimeException ex) {
+        LOG.error("Could not fail pending payment id={}", pending.id(), ex);
+      } finally {
+        slots.release();
+      }
+    }
+  }
+}
@@ -0,0 +1,25 @@
+package com.checkout.payment.gateway.application;
+
+/**
+ * How a {@link PaymentPipeline} handler with nothing to do waits for the next payment: the
+ * trade-off between the latency it picks it up with and the CPU it burns meanwhile.
+ */
+public enum PipelineWaitStrategy {
+  /**
+   * Sleeps on a lock until a payment is published. Uses no CPU while idle, but publishing has to
+   * wake the sleeping handlers.
+   */
+  BLOCKING,
+  /**
+   * Spins, then yields, then parks for 50 microseconds at a time.
+   */
+  SLEEPING,
+  /**
+   * Spins, then yields the CPU to other threads between checks; a core per handler while idle.
+   */
+  YIELDING,
+  /**
+   * Spins on the ring; the lowest latency, for a core dedicated to each handler.
+   */
+  BUSY_SPIN
+}
@@ -0,0 +1,16 @@
+package com.checkout.payment.gateway.application;
+
+/**
+ * What {@link PaymentEventFeed} does with a subscriber that has fallen so far behind that events
+ * it has not read yet were overwritten.
+ */
+public enum SlowConsumerPolicy {
+  /**
+   * The subscriber skips to the oldest event still buffered and is told how many it missed.
+   */
+  DROP,
+  /**
+   * The subscriber is closed. It can reconnect from its last event while that is still buffered.
+   */
+  DISCONNECT
+}
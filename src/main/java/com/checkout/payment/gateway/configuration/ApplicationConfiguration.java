@@ -1,21 +1,107 @@
 package com.checkout.payment.gateway.configuration;
 
-import java.time.Duration;
+import com.checkout.payment.gateway.api.cache.PaymentResponseCache;
+import com.checkout.payment.gateway.api.mapper.ApiPaymentMapper;
+import com.checkout.payment.gateway.application.PaymentAuditLog;
+import com.checkout.payment.gateway.application.PaymentBatchService;
+import com.checkout.payment.gateway.application.PaymentEventFeed;
+import com.checkout.payment.gateway.application.PaymentGatewayService;
+import com.checkout.payment.gateway.application.PaymentIdempotencyCache;
+import com.checkout.payment.gateway.application.PaymentPipeline;
+import com.checkout.payment.gateway.application.PaymentStatistics;
+import com.checkout.payment.gateway.application.PendingPaymentAuthorizer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
-@EnableConfigurationProperties(PaymentConfigurationProperties.class)
+@EnableConfigurationProperties({
+    PaymentConfigurationProperties.class,
+    BankConfigurationProperties.class
+})
 public class ApplicationConfiguration {
 
   @Bean
-  public RestTemplate restTemplate(RestTemplateBuilder builder) {
+  public RestTemplate restTemplate(RestTemplateBuilder builder, HttpClient bankHttpClient) {
     return builder
-        .setConnectTimeout(Duration.ofMillis(10000))
-        .setReadTimeout(Duration.ofMillis(10000))
+        .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(bankHttpClient))
         .build();
   }
+
+  @Bean
+  public PaymentBatchService paymentBatchService(
+      PaymentGatewayService paymentGatewayService,
+      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+      Executor applicationTaskExecutor,
+      PaymentConfigurationProperties properties) {
+    return new PaymentBatchService(paymentGatewayService, applicationTaskExecutor,
+        properties.getBatch().getParallelism());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "payment.processing", name = "mode", havingValue = "accepted")
+  public PendingPaymentAuthorizer pendingPaymentAuthorizer(
+      PaymentGatewayService paymentGatewayService, PaymentConfigurationProperties properties) {
+    PaymentConfigurationProperties.Processing processing = properties.getProcessing();
+    return new PendingPaymentAuthorizer(paymentGatewayService, processing.getWorkers(),
+        processing.getCapacity());
+  }
+
+  @Bean
+  public PaymentIdempotencyCache paymentIdempotencyCache(PaymentConfigurationProperties properties) {
+    PaymentConfigurationProperties.Idempotency idempotency = properties.getIdempotency();
+    return new PaymentIdempotencyCache(idempotency.getMaxEntries(), idempotency.getTimeToLive());
+  }
+
+  @Bean
+  public PaymentEventFeed paymentEventFeed(PaymentConfigurationProperties properties) {
+    PaymentConfigurationProperties.Events events = properties.getEvents();
+    return new PaymentEventFeed(events.getBufferSize(), events.getSlowConsumerPolicy());
+  }
+
+  /**
+   * Runs every {@link PaymentPipeline.Handler} bean, each named after its bean.
+   */
+  @Bean
+  public PaymentPipeline paymentPipeline(Map<String, PaymentPipeline.Handler> handlers,
+                                         PaymentConfigurationProperties properties) {
+    PaymentConfigurationProperties.Pipeline pipeline = properties.getPipeline();
+    return new PaymentPipeline(handlers, pipeline.getBufferSize(), pipeline.getBatchSize(),
+        pipeline.getWaitStrategy());
+  }
+
+  @Bean
+  public PaymentPipeline.Handler auditLog() {
+    return new PaymentAuditLog();
+  }
+
+  @Bean
+  public PaymentPipeline.Handler statistics(PaymentStatistics paymentStatistics) {
+    return (payment, endOfBatch) ->
+        paymentStatistics.record(payment.status(), payment.currency(), payment.amount());
+  }
+
+  @Bean
+  public PaymentPipeline.Handler events(PaymentEventFeed paymentEventFeed) {
+    return (payment, endOfBatch) -> paymentEventFeed.publish(payment);
+  }
+
+  @Bean
+  public PaymentResponseCache paymentResponseCache(ApiPaymentMapper paymentMapper,
+                                                   ObjectMapper objectMapper,
+                                                   PaymentConfigurationProperties properties) {
+    PaymentConfigurationProperties.ResponseCache responseCache = properties.getResponseCache();
+    return new PaymentResponseCache(paymentMapper, objectMapper, responseCache.getMaxEntries(),
+        responseCache.getMaxAge());
+  }
 }
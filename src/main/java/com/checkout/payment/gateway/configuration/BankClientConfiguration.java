@@ -0,0 +1,82 @@
+package com.checkout.payment.gateway.configuration;
+
+import com.checkout.payment.gateway.domain.port.AsyncBankClient;
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.infrastructure.bank.BankCircuitBreakerMetrics;
+import com.checkout.payment.gateway.infrastructure.bank.CircuitBreakerAsyncBankClient;
+import com.checkout.payment.gateway.infrastructure.bank.CircuitBreakerBankClient;
+import com.checkout.payment.gateway.infrastructure.bank.HttpClientAsyncBankClient;
+import com.checkout.payment.gateway.infrastructure.bank.RestTemplateBankClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.net.http.HttpClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+
+@Configuration
+public class BankClientConfiguration {
+
+  @Bean
+  public CircuitBreakerRegistry bankCircuitBreakerRegistry(BankConfigurationProperties properties) {
+    BankConfigurationProperties.CircuitBreaker settings = properties.getCircuitBreaker();
+    CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+        .slidingWindowType(SlidingWindowType.COUNT_BASED)
+        .slidingWindowSize(settings.getSlidingWindowSize())
+        .minimumNumberOfCalls(settings.getMinimumNumberOfCalls())
+        .failureRateThreshold(settings.getFailureRateThreshold())
+        .slowCallRateThreshold(settings.getSlowCallRateThreshold())
+        .slowCallDurationThreshold(settings.getSlowCallDurationThreshold())
+        .waitDurationInOpenState(settings.getWaitDurationInOpenState())
+        .permittedNumberOfCallsInHalfOpenState(settings.getPermittedCallsInHalfOpenState())
+        .build();
+    return CircuitBreakerRegistry.of(config);
+  }
+
+  @Bean
+  public CircuitBreaker bankCircuitBreaker(CircuitBreakerRegistry bankCircuitBreakerRegistry) {
+    return bankCircuitBreakerRegistry.circuitBreaker("bank");
+  }
+
+  @Bean
+  public BankCircuitBreakerMetrics bankCircuitBreakerMetrics(
+      CircuitBreakerRegistry bankCircuitBreakerRegistry, CircuitBreaker bankCircuitBreaker) {
+    return new BankCircuitBreakerMetrics(bankCircuitBreakerRegistry);
+  }
+
+  @Bean
+  public BankClient bankClient(RestTemplate restTemplate, BankConfigurationProperties properties,
+                               CircuitBreaker bankCircuitBreaker) {
+    BankClient client = new RestTemplateBankClient(restTemplate, properties.getBaseUrl());
+    if (!properties.getCircuitBreaker().isEnabled()) {
+      return client;
+    }
+    return new CircuitBreakerBankClient(client, bankCircuitBreaker);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "payment.processing", name = "mode", havingValue = "non-blocking")
+  public HttpClient bankAsyncHttpClient(BankConfigurationProperties properties) {
+    return HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(properties.getConnectTimeout())
+        .build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "payment.processing", name = "mode", havingValue = "non-blocking")
+  public AsyncBankClient asyncBankClient(HttpClient bankAsyncHttpClient, ObjectMapper objectMapper,
+                                         BankConfigurationProperties properties,
+                                         CircuitBreaker bankCircuitBreaker) {
+    AsyncBankClient client = new HttpClientAsyncBankClient(bankAsyncHttpClient, objectMapper,
+        properties.getBaseUrl(), properties.getReadTimeout());
+    if (!properties.getCircuitBreaker().isEnabled()) {
+      return client;
+    }
+    return new CircuitBreakerAsyncBankClient(client, bankCircuitBreaker);
+  }
+}
@@ -0,0 +1,215 @@
+package com.checkout.payment.gateway.configuration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "bank")
+public class BankConfigurationProperties {
+  @NotBlank
+  private String baseUrl = "http://localhost:8080";
+  @NotNull
+  private Duration connectTimeout = Duration.ofSeconds(10);
+  @NotNull
+  private Duration readTimeout = Duration.ofSeconds(10);
+  @Valid
+  private final Pool pool = new Pool();
+  @Valid
+  private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+  public String getBaseUrl() {
+    return baseUrl;
+  }
+
+  public void setBaseUrl(String baseUrl) {
+    this.baseUrl = baseUrl;
+  }
+
+  public Duration getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  public void setConnectTimeout(Duration connectTimeout) {
+    this.connectTimeout = connectTimeout;
+  }
+
+  public Duration getReadTimeout() {
+    return readTimeout;
+  }
+
+  public void setReadTimeout(Duration readTimeout) {
+    this.readTimeout = readTimeout;
+  }
+
+  public Pool getPool() {
+    return pool;
+  }
+
+  public CircuitBreaker getCircuitBreaker() {
+    return circuitBreaker;
+  }
+
+  public static class Pool {
+    @Positive
+    private int maxConnections = 200;
+    @Positive
+    private int maxConnectionsPerRoute = 100;
+    @NotNull
+    private Duration connectionRequestTimeout = Duration.ofSeconds(1);
+    @NotNull
+    private Duration timeToLive = Duration.ofMinutes(5);
+    @NotNull
+    private Duration maxIdleTime = Duration.ofSeconds(30);
+    @NotNull
+    private Duration keepAlive = Duration.ofSeconds(30);
+    @NotNull
+    private Duration validateAfterInactivity = Duration.ofSeconds(2);
+
+    public int getMaxConnections() {
+      return maxConnections;
+    }
+
+    public void setMaxConnections(int maxConnections) {
+      this.maxConnections = maxConnections;
+    }
+
+    public int getMaxConnectionsPerRoute() {
+      return maxConnectionsPerRoute;
+    }
+
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+      this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    public Duration getConnectionRequestTimeout() {
+      return connectionRequestTimeout;
+    }
+
+    public void setConnectionRequestTimeout(Duration connectionRequestTimeout) {
+      this.connectionRequestTimeout = connectionRequestTimeout;
+    }
+
+    public Duration getTimeToLive() {
+      return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+      this.timeToLive = timeToLive;
+    }
+
+    public Duration getMaxIdleTime() {
+      return maxIdleTime;
+    }
+
+    public void setMaxIdleTime(Duration maxIdleTime) {
+      this.maxIdleTime = maxIdleTime;
+    }
+
+    public Duration getKeepAlive() {
+      return keepAlive;
+    }
+
+    public void setKeepAlive(Duration keepAlive) {
+      this.keepAlive = keepAlive;
+    }
+
+    public Duration getValidateAfterInactivity() {
+      return validateAfterInactivity;
+    }
+
+    public void setValidateAfterInactivity(Duration validateAfterInactivity) {
+      this.validateAfterInactivity = validateAfterInactivity;
+    }
+  }
+
+  public static class CircuitBreaker {
+    private boolean enabled = true;
+    @DecimalMin("1")
+    @DecimalMax("100")
+    private float failureRateThreshold = 50;
+    @DecimalMin("1")
+    @DecimalMax("100")
+    private float slowCallRateThreshold = 80;
+    @NotNull
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+    @Positive
+    private int slidingWindowSize = 50;
+    @Positive
+    private int minimumNumberOfCalls = 20;
+    @NotNull
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+    @Positive
+    private int permittedCallsInHalfOpenState = 3;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public float getFailureRateThreshold() {
+      return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(float failureRateThreshold) {
+      this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public float getSlowCallRateThreshold() {
+      return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(float slowCallRateThreshold) {
+      this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public Duration getSlowCallDurationThreshold() {
+      return slowCallDurationThreshold;
+    }
+
+    public void setSlowCallDurationThreshold(Duration slowCallDurationThreshold) {
+      this.slowCallDurationThreshold = slowCallDurationThreshold;
+    }
+
+    public int getSlidingWindowSize() {
+      return slidingWindowSize;
+    }
+
+    public void setSlidingWindowSize(int slidingWindowSize) {
+      this.slidingWindowSize = slidingWindowSize;
+    }
+
+    public int getMinimumNumberOfCalls() {
+      return minimumNumberOfCalls;
+    }
+
+    public void setMinimumNumberOfCalls(int minimumNumberOfCalls) {
+      this.minimumNumberOfCalls = minimumNumberOfCalls;
+    }
+
+    public Duration getWaitDurationInOpenState() {
+      return waitDurationInOpenState;
+    }
+
+    public void setWaitDurationInOpenState(Duration waitDurationInOpenState) {
+      this.waitDurationInOpenState = waitDurationInOpenState;
+    }
+
+    public int getPermittedCallsInHalfOpenState() {
+      return permittedCallsInHalfOpenState;
+    }
+
+    public void setPermittedCallsInHalfOpenState(int permittedCallsInHalfOpenState) {
+      this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+  }
+}
@@ -0,0 +1,66 @@
+package com.checkout.payment.gateway.configuration;
+
+import com.checkout.payment.gateway.infrastructure.bank.BankConnectionPoolMetrics;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BankHttpClientConfiguration {
+
+  @Bean
+  public PoolingHttpClientConnectionManager bankConnectionManager(
+      BankConfigurationProperties properties) {
+    BankConfigurationProperties.Pool pool = properties.getPool();
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(pool.getMaxConnections())
+        .setMaxConnPerRoute(pool.getMaxConnectionsPerRoute())
+        .setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(timeout(properties.getConnectTimeout()))
+            .setSocketTimeout(timeout(properties.getReadTimeout()))
+            .setTimeToLive(timeValue(pool.getTimeToLive()))
+            .setValidateAfterInactivity(timeValue(pool.getValidateAfterInactivity()))
+            .build())
+        .build();
+  }
+
+  @Bean
+  public CloseableHttpClient bankHttpClient(PoolingHttpClientConnectionManager bankConnectionManager,
+                                            BankConfigurationProperties properties) {
+    BankConfigurationProperties.Pool pool = properties.getPool();
+    return HttpClients.custom()
+        .setConnectionManager(bankConnectionManager)
+        .setDefaultRequestConfig(RequestConfig.custom()
+            .setConnectionRequestTimeout(timeout(pool.getConnectionRequestTimeout()))
+            .setResponseTimeout(timeout(properties.getReadTimeout()))
+            .setConnectionKeepAlive(timeValue(pool.getKeepAlive()))
+            .build())
+        .evictExpiredConnections()
+        .evictIdleConnections(timeValue(pool.getMaxIdleTime()))
+        // the default strategy re-sends after a 503 or 429, which would authorize twice
+        .disableAutomaticRetries()
+        .build();
+  }
+
+  @Bean
+  public BankConnectionPoolMetrics bankConnectionPoolMetrics(
+      PoolingHttpClientConnectionManager bankConnectionManager) {
+    return new BankConnectionPoolMetrics(bankConnectionManager);
+  }
+
+  private static Timeout timeout(Duration duration) {
+    return Timeout.ofMilliseconds(duration.toMillis());
+  }
+
+  private static TimeValue timeValue(Duration duration) {
+    return TimeValue.ofMilliseconds(duration.toMillis());
+  }
+}
@@ -9,11 +9,14 @@ import org.springframework.stereotype.Component;
 @Component
 public class ConfiguredSupportedCurrencies implements SupportedCurrencies {
   private final Set<String> allowed;
+  // allowed codes packed by pack(), so lookups neither uppercase nor hash a String
+  private final int[] packed;
 
   public ConfiguredSupportedCurrencies(PaymentConfigurationProperties properties) {
     this.allowed = properties.getSupportedCurrencies().stream()
         .map(value -> value.toUpperCase(Locale.ROOT))
         .collect(Collectors.toUnmodifiableSet());
+    this.packed = allowed.stream().mapToInt(ConfiguredSupportedCurrencies::pack).toArray();
   }
 
   @Override
@@ -21,11 +24,40 @@ public class ConfiguredSupportedCurrencies implements SupportedCurrencies {
     if (currency == null) {
       return false;
     }
-    return allowed.contains(currency.toUpperCase(Locale.ROOT));
+    int code = pack(currency);
+    if (code < 0) {
+      return false;
+    }
+    for (int candidate : packed) {
+      if (candidate == code) {
+        return true;
+      }
+    }
+    return false;
   }
 
   @Override
   public Set<String> allowed() {
     return allowed;
   }
+
+  /**
+   * Packs a three-letter code, case-insensitively, into an int; {@code -1} for anything else.
+   */
+  private static int pack(String currency) {
+    if (currency.length() != 3) {
+      return -1;
+    }
+    int code = 0;
+    for (int i = 0; i < 3; i++) {
+      char c = currency.charAt(i);
+      if (c >= 'a' && c <= 'z') {
+        c -= 'a' - 'A';
+      } else if (c < 'A' || c > 'Z') {
+        return -1;
+      }
+      code = code << 8 | c;
+    }
+    return code;
+  }
 }
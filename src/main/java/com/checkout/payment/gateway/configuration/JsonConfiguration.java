@@ -0,0 +1,20 @@
+package com.checkout.payment.gateway.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@code payment.json.codec=streaming} (default) registers {@link PaymentJsonModule} with Spring
+ * Boot's {@code ObjectMapper}, which serves both the MVC message converters and the bank clients;
+ * {@code reflective} leaves every type to Jackson's bean introspection.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "payment.json", name = "codec", havingValue = "streaming",
+    matchIfMissing = true)
+public class JsonConfiguration {
+  @Bean
+  public PaymentJsonModule paymentJsonModule() {
+    return new PaymentJsonModule();
+  }
+}
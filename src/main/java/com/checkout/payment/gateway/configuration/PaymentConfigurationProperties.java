@@ -1,9 +1,19 @@
 package com.checkout.payment.gateway.configuration;
 
+import com.checkout.payment.gateway.application.PipelineWaitStrategy;
+import com.checkout.payment.gateway.application.SlowConsumerPolicy;
+import com.checkout.payment.gateway.infrastructure.repository.FsyncPolicy;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import java.time.Duration;
 import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
 @Validated
@@ -12,6 +22,22 @@ public class PaymentConfigurationProperties {
   @Size(min = 1)
   private List<@Pattern(regexp = "[A-Za-z]{3}") String> supportedCurrencies =
       List.of("USD", "EUR", "GBP");
+  @Valid
+  private final Processing processing = new Processing();
+  @Valid
+  private final Batch batch = new Batch();
+  @Valid
+  private final Idempotency idempotency = new Idempotency();
+  @Valid
+  private final Repository repository = new Repository();
+  @Valid
+  private final ResponseCache responseCache = new ResponseCache();
+  @Valid
+  private final Query query = new Query();
+  @Valid
+  private final Events events = new Events();
+  @Valid
+  private final Pipeline pipeline = new Pipeline();
 
   public List<String> getSupportedCurrencies() {
     return supportedCurrencies;
@@ -20,4 +46,310 @@ public class PaymentConfigurationProperties {
   public void setSupportedCurrencies(List<String> supportedCurrencies) {
     this.supportedCurrencies = supportedCurrencies;
   }
+
+  public Processing getProcessing() {
+    return processing;
+  }
+
+  public Batch getBatch() {
+    return batch;
+  }
+
+  public Idempotency getIdempotency() {
+    return idempotency;
+  }
+
+  public Repository getRepository() {
+    return repository;
+  }
+
+  public ResponseCache getResponseCache() {
+    return responseCache;
+  }
+
+  public Query getQuery() {
+    return query;
+  }
+
+  public Events getEvents() {
+    return events;
+  }
+
+  public Pipeline getPipeline() {
+    return pipeline;
+  }
+
+  /**
+   * Authorization workers for {@code payment.processing.mode=accepted}.
+   */
+  public static class Processing {
+    @Positive
+    private int workers = 16;
+    @Positive
+    private int capacity = 10_000;
+
+    public int getWorkers() {
+      return workers;
+    }
+
+    public void setWorkers(int workers) {
+      this.workers = workers;
+    }
+
+    public int getCapacity() {
+      return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+      this.capacity = capacity;
+    }
+  }
+
+  public static class Batch {
+    @Positive
+    private int maxSize = 1000;
+    @Positive
+    private int parallelism = 16;
+    @Positive
+    private int maxLineLength = 4096;
+
+    public int getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public int getParallelism() {
+      return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+      this.parallelism = parallelism;
+    }
+
+    public int getMaxLineLength() {
+      return maxLineLength;
+    }
+
+    public void setMaxLineLength(int maxLineLength) {
+      this.maxLineLength = maxLineLength;
+    }
+  }
+
+  public static class Idempotency {
+    @Positive
+    private long maxEntries = 100_000;
+    @NotNull
+    private Duration timeToLive = Duration.ofHours(24);
+
+    public long getMaxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    public Duration getTimeToLive() {
+      return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+      this.timeToLive = timeToLive;
+    }
+  }
+
+  public static class Repository {
+    @PositiveOrZero
+    private long maxEntries = 1_000_000;
+    private Duration maxAge;
+    @Valid
+    private final Journal journal = new Journal();
+
+    public long getMaxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    public Duration getMaxAge() {
+      return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+      this.maxAge = maxAge;
+    }
+
+    public Journal getJournal() {
+      return journal;
+    }
+  }
+
+  public static class ResponseCache {
+    @Positive
+    private long maxEntries = 100_000;
+    @NotNull
+    private Duration maxAge = Duration.ofDays(365);
+
+    public long getMaxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+
+    public Duration getMaxAge() {
+      return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+      this.maxAge = maxAge;
+    }
+  }
+
+  public static class Query {
+    private boolean enabled;
+    @Positive
+    private int defaultLimit = 50;
+    @Positive
+    private int maxLimit = 1000;
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+    public int getDefaultLimit() {
+      return defaultLimit;
+    }
+
+    public void setDefaultLimit(int defaultLimit) {
+      this.defaultLimit = defaultLimit;
+    }
+
+    public int getMaxLimit() {
+      return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+      this.maxLimit = maxLimit;
+    }
+  }
+
+  public static class Events {
+    @Positive
+    private int bufferSize = 8192;
+    @NotNull
+    private SlowConsumerPolicy slowConsumerPolicy = SlowConsumerPolicy.DROP;
+    @NotNull
+    private Duration timeout = Duration.ofMinutes(30);
+
+    public int getBufferSize() {
+      return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+    }
+
+    public SlowConsumerPolicy getSlowConsumerPolicy() {
+      return slowConsumerPolicy;
+    }
+
+    public void setSlowConsumerPolicy(SlowConsumerPolicy slowConsumerPolicy) {
+      this.slowConsumerPolicy = slowConsumerPolicy;
+    }
+
+    public Duration getTimeout() {
+      return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+      this.timeout = timeout;
+    }
+  }
+
+  public static class Pipeline {
+    @Positive
+    private int bufferSize = 4096;
+    @Positive
+    private int batchSize = 64;
+    @NotNull
+    private PipelineWaitStrategy waitStrategy = PipelineWaitStrategy.BLOCKING;
+
+    public int getBufferSize() {
+      return bufferSize;
+    }
+
+    public void setBufferSize(int bufferSize) {
+      this.bufferSize = bufferSize;
+    }
+
+    public int getBatchSize() {
+      return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+      this.batchSize = batchSize;
+    }
+
+    public PipelineWaitStrategy getWaitStrategy() {
+      return waitStrategy;
+    }
+
+    public void setWaitStrategy(PipelineWaitStrategy waitStrategy) {
+      this.waitStrategy = waitStrategy;
+    }
+  }
+
+  public static class Journal {
+    @NotBlank
+    private String directory = "data/journal";
+    @NotNull
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+    @NotNull
+    private FsyncPolicy fsync = FsyncPolicy.GROUP_COMMIT;
+    @NotNull
+    private Duration fsyncInterval = Duration.ofMillis(100);
+
+    public String getDirectory() {
+      return directory;
+    }
+
+    public void setDirectory(String directory) {
+      this.directory = directory;
+    }
+
+    public DataSize getSegmentSize() {
+      return segmentSize;
+    }
+
+    public void setSegmentSize(DataSize segmentSize) {
+      this.segmentSize = segmentSize;
+    }
+
+    public FsyncPolicy getFsync() {
+      return fsync;
+    }
+
+    public void setFsync(FsyncPolicy fsync) {
+      this.fsync = fsync;
+    }
+
+    public Duration getFsyncInterval() {
+      return fsyncInterval;
+    }
+
+    public void setFsyncInterval(Duration fsyncInterval) {
+      this.fsyncInterval = fsyncInterval;
+    }
+  }
 }
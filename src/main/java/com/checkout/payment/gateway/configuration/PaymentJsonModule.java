@@ -0,0 +1,26 @@
+package com.checkout.payment.gateway.configuration;
+
+import com.checkout.payment.gateway.api.json.CreatePaymentRequestDeserializer;
+import com.checkout.payment.gateway.api.json.PaymentResponseSerializer;
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.checkout.payment.gateway.infrastructure.bank.json.BankPaymentRequestSerializer;
+import com.checkout.payment.gateway.infrastructure.bank.json.BankPaymentResponseDeserializer;
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentRequest;
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentResponse;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Streaming codecs for the bodies on the payment hot path: API requests and responses, and the
+ * bank's requests and responses. Other types keep Jackson's reflective (de)serializers.
+ */
+public class PaymentJsonModule extends SimpleModule {
+
+  public PaymentJsonModule() {
+    super("PaymentJsonModule");
+    addDeserializer(CreatePaymentRequest.class, new CreatePaymentRequestDeserializer());
+    addSerializer(PaymentResponse.class, new PaymentResponseSerializer());
+    addSerializer(BankPaymentRequest.class, new BankPaymentRequestSerializer());
+    addDeserializer(BankPaymentResponse.class, new BankPaymentResponseDeserializer());
+  }
+}
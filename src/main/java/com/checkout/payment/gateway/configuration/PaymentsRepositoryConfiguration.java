@@ -0,0 +1,50 @@
+package com.checkout.payment.gateway.configuration;
+
+import com.checkout.payment.gateway.infrastructure.repository.InMemoryPaymentsRepository;
+import com.checkout.payment.gateway.infrastructure.repository.JournalPaymentsRepository;
+import com.checkout.payment.gateway.infrastructure.repository.OffHeapPaymentsRepository;
+import com.checkout.payment.gateway.infrastructure.repository.PaymentJournal;
+import java.io.IOException;
+import java.nio.file.Path;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaymentsRepositoryConfiguration {
+
+  @Bean
+  @ConditionalOnProperty(prefix = "payment.repository", name = "type", havingValue = "in-memory",
+      matchIfMissing = true)
+  public InMemoryPaymentsRepository paymentsRepository(PaymentConfigurationProperties properties) {
+    PaymentConfigurationProperties.Repository repository = properties.getRepository();
+    boolean indexed = properties.getQuery().isEnabled();
+    if (repository.getMaxEntries() == 0 && repository.getMaxAge() == null) {
+      return new InMemoryPaymentsRepository(indexed);
+    }
+    return new InMemoryPaymentsRepository(repository.getMaxEntries(), repository.getMaxAge(),
+        indexed);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "payment.repository", name = "type", havingValue = "off-heap")
+  public OffHeapPaymentsRepository offHeapPaymentsRepository(
+      PaymentConfigurationProperties properties) {
+    return new OffHeapPaymentsRepository(OffHeapPaymentsRepository.DEFAULT_CAPACITY,
+        properties.getQuery().isEnabled());
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "payment.repository", name = "type", havingValue = "journal")
+  public JournalPaymentsRepository journalPaymentsRepository(
+      PaymentConfigurationProperties properties) throws IOException {
+    PaymentConfigurationProperties.Journal journal = properties.getRepository().getJournal();
+    if (journal.getSegmentSize().toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("payment.repository.journal.segment-size must be < 2GB");
+    }
+    return new JournalPaymentsRepository(
+        new InMemoryPaymentsRepository(properties.getQuery().isEnabled()),
+        new PaymentJournal(Path.of(journal.getDirectory()), (int) journal.getSegmentSize().toBytes(),
+            journal.getFsync(), journal.getFsyncInterval()));
+  }
+}
@@ -1,14 +1,39 @@
 package com.checkout.payment.gateway.configuration;
 
+import com.checkout.payment.gateway.api.validation.CreatePaymentRequestValidator;
 import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.domain.validation.CardExpiry;
 import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import com.checkout.payment.gateway.domain.validation.PreValidatedPaymentRequestValidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * {@code payment.validation.mode=bean-validation} (default) checks API requests with their Bean
+ * Validation annotations and the domain request again in the service; {@code fused} checks API
+ * requests once with {@link CreatePaymentRequestValidator} and skips the domain re-check.
+ */
 @Configuration
 public class ValidationConfiguration {
   @Bean
+  @ConditionalOnProperty(prefix = "payment.validation", name = "mode",
+      havingValue = "bean-validation", matchIfMissing = true)
   public PaymentRequestValidator paymentRequestValidator(SupportedCurrencies supportedCurrencies) {
     return new PaymentRequestValidator(supportedCurrencies);
   }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "payment.validation", name = "mode", havingValue = "fused")
+  public PaymentRequestValidator preValidatedPaymentRequestValidator(
+      SupportedCurrencies supportedCurrencies) {
+    return new PreValidatedPaymentRequestValidator(supportedCurrencies);
+  }
+
+  @Bean
+  @ConditionalOnProperty(prefix = "payment.validation", name = "mode", havingValue = "fused")
+  public CreatePaymentRequestValidator createPaymentRequestValidator(
+      SupportedCurrencies supportedCurrencies) {
+    return new CreatePaymentRequestValidator(supportedCurrencies, new CardExpiry());
+  }
 }
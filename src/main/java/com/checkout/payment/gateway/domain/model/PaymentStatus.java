@@ -3,7 +3,9 @@ package com.checkout.payment.gateway.domain.model;
 public enum PaymentStatus {
   AUTHORIZED("Authorized"),
   DECLINED("Declined"),
-  REJECTED("Rejected");
+  REJECTED("Rejected"),
+  PENDING("Pending"),
+  FAILED("Failed");
 
   private final String displayName;
 
@@ -0,0 +1,8 @@
+package com.checkout.payment.gateway.domain.port;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import java.util.concurrent.CompletableFuture;
+
+public interface AsyncBankClient {
+  CompletableFuture<Boolean> authorize(PaymentRequest request);
+}
@@ -0,0 +1,33 @@
+package com.checkout.payment.gateway.domain.repository;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of a payment in the newest-first listing order: when it was stored, then its id. A
+ * page resumes strictly after its cursor, so paging stays stable while payments are added.
+ */
+public record PaymentCursor(long timestamp, UUID id) {
+  private static final int BYTES = 3 * Long.BYTES;
+
+  /**
+   * @throws IllegalArgumentException if the value was not produced by {@link #encode()}
+   */
+  public static PaymentCursor decode(String value) {
+    byte[] bytes = Base64.getUrlDecoder().decode(value);
+    if (bytes.length != BYTES) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes);
+    return new PaymentCursor(buffer.getLong(), new UUID(buffer.getLong(), buffer.getLong()));
+  }
+
+  public String encode() {
+    ByteBuffer buffer = ByteBuffer.allocate(BYTES)
+        .putLong(timestamp)
+        .putLong(id.getMostSignificantBits())
+        .putLong(id.getLeastSignificantBits());
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+  }
+}
@@ -0,0 +1,10 @@
+package com.checkout.payment.gateway.domain.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import java.util.List;
+
+/**
+ * One page of a {@link PaymentQuery}. {@code next} is {@code null} on the last page.
+ */
+public record PaymentPage(List<Payment> payments, PaymentCursor next) {
+}
@@ -0,0 +1,22 @@
+package com.checkout.payment.gateway.domain.repository;
+
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import java.time.Instant;
+
+/**
+ * Filters for listing stored payments. {@code null} filters match everything; {@code from} is
+ * inclusive and {@code to} exclusive. {@code after} is the cursor of the previous page, or
+ * {@code null} for the first.
+ */
+public record PaymentQuery(
+    PaymentStatus status,
+    String currency,
+    String cardNumberLastFour,
+    Integer minAmount,
+    Integer maxAmount,
+    Instant from,
+    Instant to,
+    PaymentCursor after,
+    int limit
+) {
+}
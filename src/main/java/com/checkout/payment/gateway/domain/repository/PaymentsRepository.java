@@ -3,9 +3,23 @@ package com.checkout.payment.gateway.domain.repository;
 import com.checkout.payment.gateway.domain.model.Payment;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface PaymentsRepository {
   void save(Payment payment);
 
   Optional<Payment> findById(UUID id);
+
+  /**
+   * Returns the stored payments matching the query, newest first, starting after the query's
+   * cursor.
+   */
+  PaymentPage find(PaymentQuery query);
+
+  /**
+   * Streams the stored payments matching the query, up to its limit, reading each one only as the
+   * stream is consumed, so any number can be walked in constant memory. Newest first where the
+   * store indexes payments, otherwise in storage order.
+   */
+  Stream<Payment> stream(PaymentQuery query);
 }
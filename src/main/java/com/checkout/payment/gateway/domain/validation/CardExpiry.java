@@ -0,0 +1,55 @@
+package com.checkout.payment.gateway.domain.validation;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.temporal.ChronoField;
+
+/**
+ * Decides whether a card expiry month is still in the future without allocating: the current
+ * month is cached and only recomputed once the clock passes the start of the next month.
+ */
+public class CardExpiry {
+  private final Clock clock;
+  private volatile CurrentMonth currentMonth;
+
+  public CardExpiry() {
+    this(Clock.systemDefaultZone());
+  }
+
+  public CardExpiry(Clock clock) {
+    this.clock = clock;
+    this.currentMonth = CurrentMonth.at(clock);
+  }
+
+  /**
+   * Same answer as {@code YearMonth.of(year, month).isAfter(YearMonth.now(clock))}, including the
+   * {@link java.time.DateTimeException} for a year or month out of range.
+   */
+  public boolean isInFuture(int year, int month) {
+    ChronoField.YEAR.checkValidValue(year);
+    ChronoField.MONTH_OF_YEAR.checkValidValue(month);
+    return monthIndex(year, month) > currentMonthIndex();
+  }
+
+  private long currentMonthIndex() {
+    CurrentMonth month = currentMonth;
+    if (clock.millis() >= month.nextMonthStartMillis()) {
+      month = CurrentMonth.at(clock);
+      currentMonth = month;
+    }
+    return month.index();
+  }
+
+  private static long monthIndex(int year, int month) {
+    return year * 12L + month - 1;
+  }
+
+  private record CurrentMonth(long index, long nextMonthStartMillis) {
+    static CurrentMonth at(Clock clock) {
+      YearMonth now = YearMonth.now(clock);
+      long nextMonthStart = now.plusMonths(1).atDay(1).atStartOfDay(clock.getZone())
+          .toInstant().toEpochMilli();
+      return new CurrentMonth(monthIndex(now.getYear(), now.getMonthValue()), nextMonthStart);
+    }
+  }
+}
@@ -3,33 +3,40 @@ package com.checkout.payment.gateway.domain.validation;
 import com.checkout.payment.gateway.domain.model.PaymentRequest;
 import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
 import com.checkout.payment.gateway.exception.PaymentValidationException;
-import java.time.YearMonth;
-import java.util.regex.Pattern;
+import java.time.Clock;
 
+/**
+ * Validates a payment request without allocating on the accepting path: card number and CVV are
+ * checked with plain digit scans and the expiry date against a cached current month
+ * ({@link CardExpiry}).
+ */
 public class PaymentRequestValidator {
-  private static final Pattern CARD_NUMBER_PATTERN = Pattern.compile("\\d{14,19}");
-  private static final Pattern CVV_PATTERN = Pattern.compile("\\d{3,4}");
   private final SupportedCurrencies supportedCurrencies;
+  private final CardExpiry cardExpiry;
 
   public PaymentRequestValidator(SupportedCurrencies supportedCurrencies) {
+    this(supportedCurrencies, Clock.systemDefaultZone());
+  }
+
+  public PaymentRequestValidator(SupportedCurrencies supportedCurrencies, Clock clock) {
     this.supportedCurrencies = supportedCurrencies;
+    this.cardExpiry = new CardExpiry(clock);
   }
 
   public void validate(PaymentRequest request) {
     if (request == null) {
       throw new PaymentValidationException("payment", "Payment request is required");
     }
-    if (request.cardNumber() == null || !CARD_NUMBER_PATTERN.matcher(request.cardNumber()).matches()) {
+    if (!isDigits(request.cardNumber(), 14, 19)) {
       throw new PaymentValidationException("card_number", "Card number must be 14-19 digits");
     }
-    if (request.cvv() == null || !CVV_PATTERN.matcher(request.cvv()).matches()) {
+    if (!isDigits(request.cvv(), 3, 4)) {
       throw new PaymentValidationException("cvv", "CVV must be 3-4 digits");
     }
     if (request.expiryMonth() < 1 || request.expiryMonth() > 12) {
       throw new PaymentValidationException("expiry_month", "Expiry month must be between 1 and 12");
     }
-    YearMonth expiry = YearMonth.of(request.expiryYear(), request.expiryMonth());
-    if (!expiry.isAfter(YearMonth.now())) {
+    if (!cardExpiry.isInFuture(request.expiryYear(), request.expiryMonth())) {
       throw new PaymentValidationException("expiry_year", "Expiry date must be in the future");
     }
     if (request.currency() == null || request.currency().length() != 3
@@ -40,4 +47,21 @@ public class PaymentRequestValidator {
       throw new PaymentValidationException("amount", "Amount must be greater than 0");
     }
   }
+
+  /**
+   * Whether {@code value} is {@code minLength} to {@code maxLength} ASCII digits, as the regex
+   * {@code \d{min,max}} would decide.
+   */
+  public static boolean isDigits(String value, int minLength, int maxLength) {
+    if (value == null || value.length() < minLength || value.length() > maxLength) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
 }
@@ -0,0 +1,24 @@
+package com.checkout.payment.gateway.domain.validation;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+
+/**
+ * For deployments where every entry point has already applied the full set of checks to the API
+ * request before mapping it ({@code payment.validation.mode=fused}); repeating them here would
+ * validate each payment twice. Only a missing request is rejected.
+ */
+public class PreValidatedPaymentRequestValidator extends PaymentRequestValidator {
+
+  public PreValidatedPaymentRequestValidator(SupportedCurrencies supportedCurrencies) {
+    super(supportedCurrencies);
+  }
+
+  @Override
+  public void validate(PaymentRequest request) {
+    if (request == null) {
+      throw new PaymentValidationException("payment", "Payment request is required");
+    }
+  }
+}
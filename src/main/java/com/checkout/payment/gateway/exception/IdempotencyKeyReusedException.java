@@ -0,0 +1,10 @@
+package com.checkout.payment.gateway.exception;
+
+/**
+ * An {@code Idempotency-Key} sent again with a payment other than the one it was first used for.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+  public IdempotencyKeyReusedException(String message) {
+    super(message, null, false, false);
+  }
+}
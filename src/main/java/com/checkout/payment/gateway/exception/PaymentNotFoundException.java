@@ -1,7 +1,10 @@
 package com.checkout.payment.gateway.exception;
 
+/**
+ * Expected outcome of a lookup rather than a fault, so it carries no stack trace.
+ */
 public class PaymentNotFoundException extends RuntimeException {
   public PaymentNotFoundException(String message) {
-    super(message);
+    super(message, null, false, false);
   }
 }
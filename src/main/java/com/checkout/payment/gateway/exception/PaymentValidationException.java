@@ -1,10 +1,14 @@
 package com.checkout.payment.gateway.exception;
 
+/**
+ * A request rejected by a validation rule. Rejections are routine (and the bulk of card-testing
+ * traffic), so the exception skips stack trace capture.
+ */
 public class PaymentValidationException extends RuntimeException {
   private final String field;
 
   public PaymentValidationException(String field, String message) {
-    super(message);
+    super(message, null, false, false);
     this.field = field;
   }
 
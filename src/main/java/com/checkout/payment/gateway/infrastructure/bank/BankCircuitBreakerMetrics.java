@@ -0,0 +1,47 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the bank circuit breakers' state, call outcomes and rejected (not permitted) calls
+ * under {@code resilience4j.circuitbreaker.*}, plus a {@code bank.circuit-breaker.transitions}
+ * counter tagged with the from/to states.
+ */
+public class BankCircuitBreakerMetrics implements MeterBinder {
+  private static final Logger LOG = LoggerFactory.getLogger(BankCircuitBreakerMetrics.class);
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+  public BankCircuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+    this.circuitBreakerRegistry = circuitBreakerRegistry;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(registry);
+    circuitBreakerRegistry.getAllCircuitBreakers()
+        .forEach(circuitBreaker -> countTransitions(circuitBreaker, registry));
+  }
+
+  private static void countTransitions(CircuitBreaker circuitBreaker, MeterRegistry registry) {
+    circuitBreaker.getEventPublisher().onStateTransition(event -> {
+      CircuitBreaker.StateTransition transition = event.getStateTransition();
+      LOG.warn("Circuit breaker '{}' transitioned from {} to {}", circuitBreaker.getName(),
+          transition.getFromState(), transition.getToState());
+      Counter.builder("bank.circuit-breaker.transitions")
+          .description("Bank circuit breaker state transitions")
+          .tag("name", circuitBreaker.getName())
+          .tag("from", transition.getFromState().name())
+          .tag("to", transition.getToState().name())
+          .register(registry)
+          .increment();
+    });
+  }
+}
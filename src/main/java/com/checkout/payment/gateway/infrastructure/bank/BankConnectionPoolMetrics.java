@@ -0,0 +1,35 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.function.ToDoubleFunction;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+
+public class BankConnectionPoolMetrics implements MeterBinder {
+  private final ConnPoolControl<?> pool;
+
+  public BankConnectionPoolMetrics(ConnPoolControl<?> pool) {
+    this.pool = pool;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    gauge(registry, "bank.http.pool.leased", "Connections currently leased to requests",
+        PoolStats::getLeased);
+    gauge(registry, "bank.http.pool.pending", "Requests waiting for a connection",
+        PoolStats::getPending);
+    gauge(registry, "bank.http.pool.available", "Idle connections ready for reuse",
+        PoolStats::getAvailable);
+    gauge(registry, "bank.http.pool.max", "Maximum number of pooled connections",
+        PoolStats::getMax);
+  }
+
+  private void gauge(MeterRegistry registry, String name, String description,
+                     ToDoubleFunction<PoolStats> value) {
+    Gauge.builder(name, pool, p -> value.applyAsDouble(p.getTotalStats()))
+        .description(description)
+        .register(registry);
+  }
+}
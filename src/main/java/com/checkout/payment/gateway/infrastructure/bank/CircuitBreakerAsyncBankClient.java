@@ -0,0 +1,45 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.port.AsyncBankClient;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Non-blocking counterpart of {@link CircuitBreakerBankClient}: a rejected call completes the
+ * returned future with {@link BankUnavailableException} without sending anything to the bank.
+ */
+public class CircuitBreakerAsyncBankClient implements AsyncBankClient {
+  private final AsyncBankClient delegate;
+  private final CircuitBreaker circuitBreaker;
+
+  public CircuitBreakerAsyncBankClient(AsyncBankClient delegate, CircuitBreaker circuitBreaker) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public CompletableFuture<Boolean> authorize(PaymentRequest request) {
+    CompletableFuture<Boolean> result = new CompletableFuture<>();
+    circuitBreaker.executeCompletionStage(() -> delegate.authorize(request))
+        .whenComplete((authorized, ex) -> {
+          if (ex == null) {
+            result.complete(authorized);
+          } else {
+            result.completeExceptionally(translate(ex));
+          }
+        });
+    return result;
+  }
+
+  private static Throwable translate(Throwable ex) {
+    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    if (cause instanceof CallNotPermittedException) {
+      return new BankUnavailableException("Bank unavailable", cause);
+    }
+    return cause;
+  }
+}
@@ -0,0 +1,31 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+/**
+ * Guards a {@link BankClient} with a circuit breaker. While the breaker is open calls fail
+ * immediately with {@link BankUnavailableException} instead of waiting on a bank that is known
+ * to be failing or slow.
+ */
+public class CircuitBreakerBankClient implements BankClient {
+  private final BankClient delegate;
+  private final CircuitBreaker circuitBreaker;
+
+  public CircuitBreakerBankClient(BankClient delegate, CircuitBreaker circuitBreaker) {
+    this.delegate = delegate;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  @Override
+  public boolean authorize(PaymentRequest request) {
+    try {
+      return circuitBreaker.executeSupplier(() -> delegate.authorize(request));
+    } catch (CallNotPermittedException ex) {
+      throw new BankUnavailableException("Bank unavailable", ex);
+    }
+  }
+}
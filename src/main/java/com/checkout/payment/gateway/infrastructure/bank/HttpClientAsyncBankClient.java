@@ -0,0 +1,90 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import static com.checkout.payment.gateway.infrastructure.bank.RestTemplateBankClient.toBankRequest;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.port.AsyncBankClient;
+import com.checkout.payment.gateway.exception.BankClientException;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+public class HttpClientAsyncBankClient implements AsyncBankClient {
+  private final HttpClient httpClient;
+  private final ObjectMapper objectMapper;
+  private final URI paymentsUri;
+  private final Duration readTimeout;
+
+  public HttpClientAsyncBankClient(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl,
+                                   Duration readTimeout) {
+    this.httpClient = httpClient;
+    this.objectMapper = objectMapper;
+    this.paymentsUri = URI.create(baseUrl + "/payments");
+    this.readTimeout = readTimeout;
+  }
+
+  @Override
+  public CompletableFuture<Boolean> authorize(PaymentRequest request) {
+    byte[] body;
+    try {
+      body = objectMapper.writeValueAsBytes(toBankRequest(request));
+    } catch (JsonProcessingException ex) {
+      return CompletableFuture.failedFuture(new BankClientException("Bank error", ex));
+    }
+    HttpRequest httpRequest = HttpRequest.newBuilder(paymentsUri)
+        .timeout(readTimeout)
+        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+        .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+        .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+        .build();
+    return httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+        .handle((response, failure) -> {
+          if (failure != null) {
+            throw new BankUnavailableException("Bank unavailable", unwrap(failure));
+          }
+          return authorized(response);
+        });
+  }
+
+  private boolean authorized(HttpResponse<byte[]> response) {
+    int status = response.statusCode();
+    if (status == HttpStatus.SERVICE_UNAVAILABLE.value()) {
+      throw new BankUnavailableException("Bank unavailable");
+    }
+    if (status >= 400) {
+      throw new BankClientException("Bank error");
+    }
+    if (status < 200 || status >= 300 || response.body().length == 0) {
+      throw new BankClientException("Unexpected response from bank");
+    }
+    BankPaymentResponse body;
+    try {
+      body = objectMapper.readValue(response.body(), BankPaymentResponse.class);
+    } catch (IOException ex) {
+      throw new BankUnavailableException("Bank unavailable", ex);
+    }
+    if (body == null) {
+      throw new BankClientException("Unexpected response from bank");
+    }
+    return body.authorized();
+  }
+
+  private static Throwable unwrap(Throwable failure) {
+    if (failure instanceof CompletionException && failure.getCause() != null) {
+      return failure.getCause();
+    }
+    return failure;
+  }
+}
@@ -9,23 +9,19 @@ import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentRespons
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-@Component
 public class RestTemplateBankClient implements BankClient {
   private static final DateTimeFormatter EXPIRY_FORMATTER = DateTimeFormatter.ofPattern("MM/yyyy");
 
   private final RestTemplate restTemplate;
   private final String paymentsUrl;
 
-  public RestTemplateBankClient(RestTemplate restTemplate,
-                                @Value("${bank.base-url:http://localhost:8080}") String baseUrl) {
+  public RestTemplateBankClient(RestTemplate restTemplate, String baseUrl) {
     this.restTemplate = restTemplate;
     this.paymentsUrl = baseUrl + "/payments";
   }
@@ -51,7 +47,7 @@ public class RestTemplateBankClient implements BankClient {
     }
   }
 
-  private BankPaymentRequest toBankRequest(PaymentRequest request) {
+  static BankPaymentRequest toBankRequest(PaymentRequest request) {
     String expiry = YearMonth.of(request.expiryYear(), request.expiryMonth())
         .format(EXPIRY_FORMATTER);
     return new BankPaymentRequest(
@@ -0,0 +1,45 @@
+package com.checkout.payment.gateway.infrastructure.bank.json;
+
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentRequest;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+
+/**
+ * Writes a {@link BankPaymentRequest} field by field straight to the generator, with pre-encoded
+ * field names.
+ */
+public class BankPaymentRequestSerializer extends StdSerializer<BankPaymentRequest> {
+  private static final SerializedString CARD_NUMBER = new SerializedString("card_number");
+  private static final SerializedString EXPIRY_DATE = new SerializedString("expiry_date");
+  private static final SerializedString CURRENCY = new SerializedString("currency");
+  private static final SerializedString AMOUNT = new SerializedString("amount");
+  private static final SerializedString CVV = new SerializedString("cvv");
+
+  public BankPaymentRequestSerializer() {
+    super(BankPaymentRequest.class);
+  }
+
+  @Override
+  public void serialize(BankPaymentRequest value, JsonGenerator generator,
+                        SerializerProvider provider) throws IOException {
+    generator.writeStartObject(value);
+    generator.writeFieldName(CARD_NUMBER);
+    generator.writeString(value.cardNumber());
+    generator.writeFieldName(EXPIRY_DATE);
+    generator.writeString(value.expiryDate());
+    generator.writeFieldName(CURRENCY);
+    generator.writeString(value.currency());
+    generator.writeFieldName(AMOUNT);
+    if (value.amount() == null) {
+      generator.writeNull();
+    } else {
+      generator.writeNumber(value.amount());
+    }
+    generator.writeFieldName(CVV);
+    generator.writeString(value.cvv());
+    generator.writeEndObject();
+  }
+}
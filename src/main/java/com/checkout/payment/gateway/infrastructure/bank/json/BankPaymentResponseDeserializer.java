@@ -0,0 +1,63 @@
+package com.checkout.payment.gateway.infrastructure.bank.json;
+
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import java.io.IOException;
+
+/**
+ * Reads a {@link BankPaymentResponse} token by token. Unexpected value types fall back to the
+ * context's standard deserializers, as in the reflective path; a missing or null
+ * {@code authorized} reads as {@code false}.
+ */
+public class BankPaymentResponseDeserializer extends StdDeserializer<BankPaymentResponse> {
+
+  public BankPaymentResponseDeserializer() {
+    super(BankPaymentResponse.class);
+  }
+
+  @Override
+  public BankPaymentResponse deserialize(JsonParser parser, DeserializationContext context)
+      throws IOException {
+    JsonToken token = parser.currentToken();
+    if (token == JsonToken.START_OBJECT) {
+      token = parser.nextToken();
+    } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+      return (BankPaymentResponse) context.handleUnexpectedToken(BankPaymentResponse.class,
+          parser);
+    }
+
+    boolean authorized = false;
+    String authorizationCode = null;
+    for (; token == JsonToken.FIELD_NAME; token = parser.nextToken()) {
+      String name = parser.currentName();
+      parser.nextToken();
+      switch (name) {
+        case "authorized" -> authorized = readBoolean(parser, context);
+        case "authorization_code" -> authorizationCode = readString(parser, context);
+        default -> context.handleUnknownProperty(parser, this, BankPaymentResponse.class, name);
+      }
+    }
+    return new BankPaymentResponse(authorized, authorizationCode);
+  }
+
+  private static boolean readBoolean(JsonParser parser, DeserializationContext context)
+      throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_TRUE -> true;
+      case VALUE_FALSE, VALUE_NULL -> false;
+      default -> Boolean.TRUE.equals(context.readValue(parser, Boolean.class));
+    };
+  }
+
+  private static String readString(JsonParser parser, DeserializationContext context)
+      throws IOException {
+    return switch (parser.currentToken()) {
+      case VALUE_STRING -> parser.getText();
+      case VALUE_NULL -> null;
+      default -> context.readValue(parser, String.class);
+    };
+  }
+}
@@ -0,0 +1,50 @@
+package com.checkout.payment.gateway.infrastructure.id;
+
+import com.checkout.payment.gateway.domain.port.PaymentIdGenerator;
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Generates version 7 UUIDs: a 48-bit Unix millisecond timestamp, a 12-bit sequence and 62
+ * random bits. Timestamp and sequence share one atomic word advanced by compare-and-set, so IDs
+ * issued by this node are strictly increasing even when the clock stalls or steps back; when the
+ * sequence overflows within a millisecond it carries into the timestamp. The random bits come
+ * from {@link ThreadLocalRandom}, which avoids the shared {@code SecureRandom} behind
+ * {@link UUID#randomUUID()} but is predictable, so these IDs must not be relied on as
+ * unguessable.
+ */
+@Component
+@ConditionalOnProperty(prefix = "payment", name = "id-generator", havingValue = "time-ordered")
+public class TimeOrderedPaymentIdGenerator implements PaymentIdGenerator {
+  private static final int SEQUENCE_BITS = 12;
+  private static final long VERSION = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  private final Clock clock;
+  private final AtomicLong lastTimestampAndSequence = new AtomicLong();
+
+  public TimeOrderedPaymentIdGenerator() {
+    this(Clock.systemUTC());
+  }
+
+  TimeOrderedPaymentIdGenerator(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public UUID nextId() {
+    long now = clock.millis() << SEQUENCE_BITS;
+    long timestampAndSequence = lastTimestampAndSequence.accumulateAndGet(now,
+        (last, candidate) -> candidate > last ? candidate : last + 1);
+    long mostSigBits = (timestampAndSequence >>> SEQUENCE_BITS) << 16
+        | VERSION
+        | timestampAndSequence & ((1L << SEQUENCE_BITS) - 1);
+    long leastSigBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+}
@@ -2,9 +2,12 @@ package com.checkout.payment.gateway.infrastructure.id;
 
 import com.checkout.payment.gateway.domain.port.PaymentIdGenerator;
 import java.util.UUID;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Component
+@ConditionalOnProperty(prefix = "payment", name = "id-generator", havingValue = "random",
+    matchIfMissing = true)
 public class UuidPaymentIdGenerator implements PaymentIdGenerator {
   @Override
   public UUID nextId() {
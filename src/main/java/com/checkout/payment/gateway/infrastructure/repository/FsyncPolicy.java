@@ -0,0 +1,22 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+/**
+ * When {@link PaymentJournal} forces appended records to disk.
+ */
+public enum FsyncPolicy {
+  /**
+   * Every save forces its own record before returning. Nothing acknowledged is ever lost, at the
+   * cost of one device flush per payment.
+   */
+  PER_WRITE,
+  /**
+   * Saves return once the record is in the page cache; a background thread forces the journal at
+   * a fixed interval. A crash can lose up to one interval of acknowledged payments.
+   */
+  PERIODIC,
+  /**
+   * Saves wait until their record is durable, but concurrent saves share a flush: whichever
+   * thread flushes first covers every record appended before it started.
+   */
+  GROUP_COMMIT
+}
@@ -1,25 +1,185 @@
 package com.checkout.payment.gateway.infrastructure.repository;
 
 import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.repository.PaymentPage;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
 import com.checkout.payment.gateway.domain.repository.PaymentsRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import org.springframework.stereotype.Repository;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
 
-@Repository
-public class InMemoryPaymentsRepository implements PaymentsRepository {
+/**
+ * Keeps payments in memory. When given a maximum entry count and/or age it evicts the payments
+ * saved first, so heap use stays flat on long-running nodes. Payments are written once and rarely
+ * read, so reads do not keep a payment: ids are queued in the order they were first saved, and
+ * after each save, and before each read, the oldest are dropped while there are too many or they
+ * are older than the maximum age. When indexed, payments are also kept in a
+ * {@link PaymentIndex} for listing and evicted payments are dropped from it in the same step;
+ * unindexed, {@link #find} is unsupported and {@link #stream} walks the map unordered.
+ */
+public class InMemoryPaymentsRepository implements PaymentsRepository, MeterBinder {
 
   private final Map<UUID, Payment> payments = new ConcurrentHashMap<>();
+  private final PaymentIndex index;
+  private final long maxEntries;
+  private final long maxAgeNanos;
+  private final LongSupplier nanoTime;
+  // ids in the order first saved, only kept when bounded
+  private final Queue<Insertion> insertions;
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * An unbounded, unindexed repository.
+   */
+  public InMemoryPaymentsRepository() {
+    this(false);
+  }
+
+  /**
+   * @param indexed whether to keep a {@link PaymentIndex} so payments can be listed
+   */
+  public InMemoryPaymentsRepository(boolean indexed) {
+    this(0, null, indexed, System::nanoTime);
+  }
+
+  /**
+   * @param maxEntries maximum number of payments kept, or {@code 0} for no count limit
+   * @param maxAge how long a payment is kept after it was first saved, or {@code null} for no
+   *               age limit
+   * @param indexed whether to keep a {@link PaymentIndex} so payments can be listed
+   */
+  public InMemoryPaymentsRepository(long maxEntries, Duration maxAge, boolean indexed) {
+    this(maxEntries, maxAge, indexed, System::nanoTime);
+  }
+
+  InMemoryPaymentsRepository(long maxEntries, Duration maxAge, boolean indexed,
+                             LongSupplier nanoTime) {
+    this.index = indexed ? new PaymentIndex() : null;
+    this.maxEntries = maxEntries;
+    this.maxAgeNanos = maxAge == null ? 0 : maxAge.toNanos();
+    this.nanoTime = nanoTime;
+    this.insertions = maxEntries > 0 || maxAge != null ? new ConcurrentLinkedQueue<>() : null;
+  }
 
   @Override
   public void save(Payment payment) {
-    payments.put(payment.id(), payment);
+    if (index == null && insertions == null) {
+      payments.put(payment.id(), payment);
+      return;
+    }
+    // indexed and queued inside the map's lock for the key, so an eviction cannot slip in between
+    payments.compute(payment.id(), (id, previous) -> {
+      if (index != null) {
+        index.add(payment);
+      }
+      if (previous == null && insertions != null) {
+        insertions.add(new Insertion(id, nanoTime.getAsLong()));
+      }
+      return payment;
+    });
+    evict();
   }
 
   @Override
   public Optional<Payment> findById(UUID id) {
+    evict();
     return Optional.ofNullable(payments.get(id));
   }
+
+  @Override
+  public PaymentPage find(PaymentQuery query) {
+    PaymentIndex index = requireIndex();
+    evict();
+    return index.find(query, payments::get);
+  }
+
+  @Override
+  public Stream<Payment> stream(PaymentQuery query) {
+    evict();
+    if (index == null) {
+      return PaymentScan.filter(payments.values().stream(), query);
+    }
+    return index.stream(query, payments::get);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("payment.repository.size", this, InMemoryPaymentsRepository::size)
+        .description("Payments currently held in memory")
+        .register(registry);
+    FunctionCounter.builder("payment.repository.evictions", this,
+            InMemoryPaymentsRepository::evictions)
+        .description("Payments evicted by the entry count or age limit")
+        .register(registry);
+  }
+
+  long size() {
+    return payments.size();
+  }
+
+  long evictions() {
+    return evictions.sum();
+  }
+
+  long indexSize() {
+    return requireIndex().size();
+  }
+
+  void cleanUp() {
+    evict();
+  }
+
+  /**
+   * Drops the payments saved first while over either limit. Checking is lock-free; the lock only
+   * keeps concurrent evictions from dropping more than needed, and a caller that finds it held
+   * leaves the work to its holder, or to the next save, instead of waiting.
+   */
+  private void evict() {
+    if (insertions == null || !overLimit() || !evictionLock.tryLock()) {
+      return;
+    }
+    try {
+      while (overLimit()) {
+        payments.computeIfPresent(insertions.poll().id(), (id, payment) -> {
+          if (index != null) {
+            index.remove(id);
+          }
+          evictions.increment();
+          return null;
+        });
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private boolean overLimit() {
+    Insertion oldest = insertions.peek();
+    return oldest != null
+        && (maxEntries > 0 && payments.size() > maxEntries
+        || maxAgeNanos > 0 && nanoTime.getAsLong() - oldest.savedAt() >= maxAgeNanos);
+  }
+
+  private PaymentIndex requireIndex() {
+    if (index == null) {
+      throw new UnsupportedOperationException("Payments are not indexed for listing");
+    }
+    return index;
+  }
+
+  private record Insertion(UUID id, long savedAt) {
+  }
 }
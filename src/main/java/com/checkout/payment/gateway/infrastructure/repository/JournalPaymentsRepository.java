@@ -0,0 +1,109 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentPage;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import com.checkout.payment.gateway.domain.repository.PaymentsRepository;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Durable repository: every payment is appended to a {@link PaymentJournal} before it becomes
+ * visible in the in-memory index, and the index is rebuilt from the journal on startup. Reads
+ * never touch the journal. Payments replayed as {@link PaymentStatus#PENDING} lost their
+ * authorization when the gateway stopped, so they are stored again as
+ * {@link PaymentStatus#FAILED}.
+ */
+public class JournalPaymentsRepository implements PaymentsRepository, MeterBinder, Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(JournalPaymentsRepository.class);
+  private final PaymentsRepository index;
+  private final PaymentJournal journal;
+
+  public JournalPaymentsRepository(PaymentsRepository index, PaymentJournal journal)
+      throws IOException {
+    this.index = index;
+    this.journal = journal;
+    Set<UUID> pending = new HashSet<>();
+    journal.replay(payment -> {
+      index.save(payment);
+      if (payment.status() == PaymentStatus.PENDING) {
+        pending.add(payment.id());
+      } else {
+        pending.remove(payment.id());
+      }
+    });
+    failPending(pending);
+  }
+
+  @Override
+  public void save(Payment payment) {
+    journal.append(payment);
+    index.save(payment);
+  }
+
+  @Override
+  public Optional<Payment> findById(UUID id) {
+    return index.findById(id);
+  }
+
+  @Override
+  public PaymentPage find(PaymentQuery query) {
+    return index.find(query);
+  }
+
+  @Override
+  public Stream<Payment> stream(PaymentQuery query) {
+    return index.stream(query);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    if (index instanceof MeterBinder binder) {
+      binder.bindTo(registry);
+    }
+    FunctionTimer.builder("payment.journal.fsync", journal,
+            PaymentJournal::fsyncCount, j -> j.fsyncTotalTime(TimeUnit.NANOSECONDS),
+            TimeUnit.NANOSECONDS)
+        .description("Journal flushes to disk")
+        .register(registry);
+    Gauge.builder("payment.journal.segments", journal, PaymentJournal::segmentCount)
+        .description("Journal segment files written")
+        .register(registry);
+  }
+
+  private void failPending(Set<UUID> pending) {
+    if (pending.isEmpty()) {
+      return;
+    }
+    LOG.warn("Storing {} payments left pending by the last run as failed", pending.size());
+    for (UUID id : pending) {
+      index.findById(id).ifPresent(payment -> save(new Payment(
+          payment.id(),
+          PaymentStatus.FAILED,
+          payment.cardNumberLastFour(),
+          payment.expiryMonth(),
+          payment.expiryYear(),
+          payment.currency(),
+          payment.amount()
+      )));
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    journal.close();
+  }
+}
@@ -0,0 +1,35 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+/**
+ * Converts a card's last four digits to and from the number they spell, so compact stores can
+ * keep them in 16 bits instead of a {@code String}.
+ */
+final class LastFourDigits {
+
+  private LastFourDigits() {
+  }
+
+  static int encode(String digits) {
+    if (digits == null || digits.length() != 4) {
+      throw new IllegalArgumentException("Card number last four must be 4 digits");
+    }
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      char c = digits.charAt(i);
+      if (c < '0' || c > '9') {
+        throw new IllegalArgumentException("Card number last four must be 4 digits");
+      }
+      value = value * 10 + (c - '0');
+    }
+    return value;
+  }
+
+  static String decode(int value) {
+    char[] digits = new char[4];
+    for (int i = 3; i >= 0; i--) {
+      digits[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    return new String(digits);
+  }
+}
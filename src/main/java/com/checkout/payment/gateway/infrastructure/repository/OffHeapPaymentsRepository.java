@@ -0,0 +1,374 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentPage;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import com.checkout.payment.gateway.domain.repository.PaymentsRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Stores each payment in a fixed-width 32-byte slot of a direct (off-heap) buffer, so millions of
+ * payments cost the garbage collector nothing to trace. Slots live in open-addressing hash tables
+ * split across {@value #SEGMENTS} segments; each segment has its own {@link StampedLock}, writers
+ * take it exclusively and readers use optimistic reads, falling back to the read lock only when a
+ * write raced them.
+ *
+ * <p>Slot layout:
+ * <pre>
+ *  0  long  UUID most significant bits
+ *  8  long  UUID least significant bits
+ * 16  long  amount (high 32 bits) | expiry year &lt;&lt; 4 | expiry month (low 32 bits)
+ * 24  int   last four digits (high 16 bits) | status + 1 (8 bits, 0 = empty) | currency index
+ * 28  int   unused, keeps slots 8-byte aligned
+ * </pre>
+ *
+ * <p>Listing needs the optional {@link PaymentIndex}, which lives on the heap and keeps only the
+ * filtered fields of each payment (about 200 bytes per payment, more than the store saves), so
+ * it is off unless asked for; listed payments are decoded from their slots. Unindexed, streaming
+ * walks the slots segment by segment, unordered.
+ */
+public class OffHeapPaymentsRepository implements PaymentsRepository, MeterBinder {
+  static final int SLOT_BYTES = 32;
+  private static final int SEGMENTS = 64;
+  private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+  private static final int DEFAULT_SEGMENT_CAPACITY = 256;
+  public static final int DEFAULT_CAPACITY = DEFAULT_SEGMENT_CAPACITY * SEGMENTS;
+  // largest power of two whose slots still fit a single ByteBuffer (1 GiB)
+  private static final int MAX_SEGMENT_CAPACITY = 1 << 25;
+  private static final PaymentStatus[] STATUSES = PaymentStatus.values();
+
+  private static final int MSB = 0;
+  private static final int LSB = 8;
+  private static final int FIELDS = 16;
+  private static final int FLAGS = 24;
+
+  private final Segment[] segments = new Segment[SEGMENTS];
+  private final CurrencyCodes currencies = new CurrencyCodes();
+  private final PaymentIndex index;
+
+  public OffHeapPaymentsRepository() {
+    this(DEFAULT_CAPACITY, false);
+  }
+
+  /**
+   * @param initialCapacity number of payments the store can hold before its segments first grow
+   * @param indexed whether to keep a {@link PaymentIndex} so payments can be listed
+   */
+  public OffHeapPaymentsRepository(int initialCapacity, boolean indexed) {
+    this.index = indexed ? new PaymentIndex() : null;
+    int perSegment = (int) Math.min((long) initialCapacity * 4 / 3 / SEGMENTS + 1,
+        MAX_SEGMENT_CAPACITY);
+    int segmentCapacity = Integer.highestOneBit(Math.max(perSegment, 16) * 2 - 1);
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment(Math.min(segmentCapacity, MAX_SEGMENT_CAPACITY));
+    }
+  }
+
+  @Override
+  public void save(Payment payment) {
+    UUID id = payment.id();
+    long msb = id.getMostSignificantBits();
+    long lsb = id.getLeastSignificantBits();
+    long hash = hash(msb, lsb);
+    long fields = (long) payment.amount() << 32
+        | (payment.expiryYear() << 4 | payment.expiryMonth()) & 0xFFFFFFFFL;
+    int flags = LastFourDigits.encode(payment.cardNumberLastFour()) << 16
+        | (payment.status().ordinal() + 1) << 8
+        | currencies.indexOf(payment.currency());
+    segmentFor(hash).put(msb, lsb, hash, fields, flags);
+    if (index != null) {
+      index.add(payment);
+    }
+  }
+
+  @Override
+  public Optional<Payment> findById(UUID id) {
+    long msb = id.getMostSignificantBits();
+    long lsb = id.getLeastSignificantBits();
+    long hash = hash(msb, lsb);
+    return Optional.ofNullable(segmentFor(hash).get(msb, lsb, hash));
+  }
+
+  @Override
+  public PaymentPage find(PaymentQuery query) {
+    return requireIndex().find(query, id -> findById(id).orElse(null));
+  }
+
+  @Override
+  public Stream<Payment> stream(PaymentQuery query) {
+    if (index == null) {
+      return PaymentScan.filter(Arrays.stream(segments).flatMap(Segment::payments), query);
+    }
+    return index.stream(query, id -> findById(id).orElse(null));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("payment.repository.size", this, OffHeapPaymentsRepository::size)
+        .description("Payments currently held in memory")
+        .register(registry);
+    Gauge.builder("payment.repository.off-heap.bytes", this,
+            OffHeapPaymentsRepository::allocatedBytes)
+        .description("Direct memory allocated for payment slots")
+        .baseUnit("bytes")
+        .register(registry);
+    Gauge.builder("payment.repository.bytes-per-entry", this,
+            OffHeapPaymentsRepository::bytesPerEntry)
+        .description("Allocated direct memory per stored payment, including free slots; "
+            + "excludes the heap used by the listing index")
+        .baseUnit("bytes")
+        .register(registry);
+  }
+
+  public long size() {
+    long size = 0;
+    for (Segment segment : segments) {
+      size += segment.size;
+    }
+    return size;
+  }
+
+  public long allocatedBytes() {
+    long bytes = 0;
+    for (Segment segment : segments) {
+      bytes += segment.slots.capacity();
+    }
+    return bytes;
+  }
+
+  public double bytesPerEntry() {
+    long size = size();
+    return size == 0 ? SLOT_BYTES : (double) allocatedBytes() / size;
+  }
+
+  private PaymentIndex requireIndex() {
+    if (index == null) {
+      throw new UnsupportedOperationException("Payments are not indexed for listing");
+    }
+    return index;
+  }
+
+  private Segment segmentFor(long hash) {
+    return segments[(int) (hash >>> SEGMENT_SHIFT)];
+  }
+
+  private Payment decode(long msb, long lsb, long fields, int flags) {
+    int expiry = (int) fields;
+    return new Payment(
+        new UUID(msb, lsb),
+        STATUSES[(flags >>> 8 & 0xFF) - 1],
+        LastFourDigits.decode(flags >>> 16),
+        expiry & 0xF,
+        expiry >>> 4,
+        currencies.codeAt(flags & 0xFF),
+        (int) (fields >>> 32)
+    );
+  }
+
+  private static long hash(long msb, long lsb) {
+    long h = msb ^ Long.rotateLeft(lsb, 32);
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    return h ^ h >>> 33;
+  }
+
+  private final class Segment {
+    private final StampedLock lock = new StampedLock();
+    private ByteBuffer slots;
+    private volatile int size;
+
+    Segment(int capacity) {
+      this.slots = allocate(capacity);
+    }
+
+    void put(long msb, long lsb, long hash, long fields, int flags) {
+      long stamp = lock.writeLock();
+      try {
+        int offset = find(slots, msb, lsb, hash);
+        if (offset < 0) {
+          if ((size + 1) * 4L > slotCount(slots) * 3L) {
+            slots = grow(slots);
+          }
+          offset = vacantSlot(slots, hash);
+          slots.putLong(offset + MSB, msb);
+          slots.putLong(offset + LSB, lsb);
+          size++;
+        }
+        slots.putLong(offset + FIELDS, fields);
+        slots.putInt(offset + FLAGS, flags);
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+    }
+
+    Payment get(long msb, long lsb, long hash) {
+      long stamp = lock.tryOptimisticRead();
+      ByteBuffer table = slots;
+      int offset = find(table, msb, lsb, hash);
+      long fields = offset < 0 ? 0 : table.getLong(offset + FIELDS);
+      int flags = offset < 0 ? 0 : table.getInt(offset + FLAGS);
+      if (!lock.validate(stamp)) {
+        stamp = lock.readLock();
+        try {
+          table = slots;
+          offset = find(table, msb, lsb, hash);
+          fields = offset < 0 ? 0 : table.getLong(offset + FIELDS);
+          flags = offset < 0 ? 0 : table.getInt(offset + FLAGS);
+        } finally {
+          lock.unlockRead(stamp);
+        }
+      }
+      return offset < 0 ? null : decode(msb, lsb, fields, flags);
+    }
+
+    /**
+     * Walks the table as it is when the walk starts. A table replaced by growth is no longer
+     * written, so slots read from it after that are stable, if stale.
+     */
+    Stream<Payment> payments() {
+      ByteBuffer table = currentSlots();
+      return IntStream.range(0, slotCount(table))
+          .mapToObj(slot -> read(table, slot * SLOT_BYTES))
+          .filter(Objects::nonNull);
+    }
+
+    private ByteBuffer currentSlots() {
+      long stamp = lock.readLock();
+      try {
+        return slots;
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    private Payment read(ByteBuffer table, int offset) {
+      long stamp = lock.tryOptimisticRead();
+      long msb = table.getLong(offset + MSB);
+      long lsb = table.getLong(offset + LSB);
+      long fields = table.getLong(offset + FIELDS);
+      int flags = table.getInt(offset + FLAGS);
+      if (!lock.validate(stamp)) {
+        stamp = lock.readLock();
+        try {
+          msb = table.getLong(offset + MSB);
+          lsb = table.getLong(offset + LSB);
+          fields = table.getLong(offset + FIELDS);
+          flags = table.getInt(offset + FLAGS);
+        } finally {
+          lock.unlockRead(stamp);
+        }
+      }
+      return (flags & 0xFF00) == 0 ? null : decode(msb, lsb, fields, flags);
+    }
+
+    private ByteBuffer grow(ByteBuffer table) {
+      int capacity = slotCount(table);
+      if (capacity >= MAX_SEGMENT_CAPACITY) {
+        throw new IllegalStateException("Off-heap payment store segment is full");
+      }
+      ByteBuffer grown = allocate(capacity * 2);
+      for (int offset = 0; offset < table.capacity(); offset += SLOT_BYTES) {
+        if (isOccupied(table, offset)) {
+          long msb = table.getLong(offset + MSB);
+          long lsb = table.getLong(offset + LSB);
+          int target = vacantSlot(grown, hash(msb, lsb));
+          grown.putLong(target + MSB, msb);
+          grown.putLong(target + LSB, lsb);
+          grown.putLong(target + FIELDS, table.getLong(offset + FIELDS));
+          grown.putInt(target + FLAGS, table.getInt(offset + FLAGS));
+        }
+      }
+      return grown;
+    }
+  }
+
+  /**
+   * Returns the offset of the slot holding the key, or {@code -1}. Bounded by the table size so
+   * that an optimistic read over a table being written still terminates.
+   */
+  private static int find(ByteBuffer table, long msb, long lsb, long hash) {
+    int mask = slotCount(table) - 1;
+    int index = (int) hash & mask;
+    for (int probes = 0; probes <= mask; probes++) {
+      int offset = index * SLOT_BYTES;
+      if (!isOccupied(table, offset)) {
+        return -1;
+      }
+      if (table.getLong(offset + MSB) == msb && table.getLong(offset + LSB) == lsb) {
+        return offset;
+      }
+      index = (index + 1) & mask;
+    }
+    return -1;
+  }
+
+  private static int vacantSlot(ByteBuffer table, long hash) {
+    int mask = slotCount(table) - 1;
+    int index = (int) hash & mask;
+    while (isOccupied(table, index * SLOT_BYTES)) {
+      index = (index + 1) & mask;
+    }
+    return index * SLOT_BYTES;
+  }
+
+  private static boolean isOccupied(ByteBuffer table, int offset) {
+    return (table.getInt(offset + FLAGS) & 0xFF00) != 0;
+  }
+
+  private static int slotCount(ByteBuffer table) {
+    return table.capacity() / SLOT_BYTES;
+  }
+
+  private static ByteBuffer allocate(int slots) {
+    return ByteBuffer.allocateDirect(slots * SLOT_BYTES).order(ByteOrder.nativeOrder());
+  }
+
+  /**
+   * Interns currency codes to the one-byte index kept in each slot.
+   */
+  private static final class CurrencyCodes {
+    private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+    private volatile String[] codes = new String[0];
+
+    int indexOf(String currency) {
+      Integer index = indexes.get(currency);
+      return index != null ? index : register(currency);
+    }
+
+    String codeAt(int index) {
+      return codes[index];
+    }
+
+    private synchronized int register(String currency) {
+      Integer index = indexes.get(currency);
+      if (index != null) {
+        return index;
+      }
+      String[] current = codes;
+      if (current.length > 0xFF) {
+        throw new IllegalStateException("Off-heap payment store supports at most 256 currencies");
+      }
+      String[] next = Arrays.copyOf(current, current.length + 1);
+      next[current.length] = currency;
+      codes = next;
+      indexes.put(currency, current.length);
+      return current.length;
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentCursor;
+import com.checkout.payment.gateway.domain.repository.PaymentPage;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Newest-first skip-list indexes by status, currency and last four for keyset-paged listings.
+ */
+public class PaymentIndex {
+  private static final Comparator<Entry> NEWEST_FIRST = Comparator
+      .comparingLong(Entry::timestamp).thenComparing(Entry::id).reversed();
+  private static final UUID MIN_ID = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+
+  private final Clock clock;
+  private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+  private final Bucket all = new Bucket();
+  private final Bucket[] byStatus = new Bucket[PaymentStatus.values().length];
+  private final Map<String, Bucket> byCurrency = new ConcurrentHashMap<>();
+  private final Map<String, Bucket> byLastFour = new ConcurrentHashMap<>();
+
+  public PaymentIndex() {
+    this(Clock.systemUTC());
+  }
+
+  PaymentIndex(Clock clock) {
+    this.clock = clock;
+    for (int i = 0; i < byStatus.length; i++) {
+      byStatus[i] = new Bucket();
+    }
+  }
+
+  // a re-indexed payment keeps the timestamp it was first indexed with
+  public void add(Payment payment) {
+    entries.compute(payment.id(), (id, previous) -> {
+      if (previous != null) {
+        if (previous.matches(payment)) {
+          return previous;
+        }
+        unlink(previous);
+      }
+      Entry entry = new Entry(previous != null ? previous.timestamp() : timestampOf(id), id,
+          payment.status(), payment.currency(), payment.cardNumberLastFour(), payment.amount());
+      link(entry);
+      return entry;
+    });
+  }
+
+  public void remove(UUID id) {
+    entries.computeIfPresent(id, (key, entry) -> {
+      unlink(entry);
+      return null;
+    });
+  }
+
+  public long size() {
+    return entries.size();
+  }
+
+  // store returns null for a payment evicted since it was indexed
+  public PaymentPage find(PaymentQuery query, Function<UUID, Payment> store) {
+    NavigableSet<Entry> candidates = candidates(query);
+    if (candidates.isEmpty() || query.limit() <= 0) {
+      return new PaymentPage(List.of(), null);
+    }
+
+    List<Payment> payments = new ArrayList<>(Math.min(query.limit(), 1024));
+    Entry last = null;
+    for (Entry entry : candidates) {
+      if (!entry.matches(query)) {
+        continue;
+      }
+      Payment payment = store.apply(entry.id());
+      if (payment == null) {
+        continue;
+      }
+      if (payments.size() == query.limit()) {
+        return new PaymentPage(payments, new PaymentCursor(last.timestamp(), last.id()));
+      }
+      payments.add(payment);
+      last = entry;
+    }
+    return new PaymentPage(payments, null);
+  }
+
+  // weakly consistent: payments saved or evicted during the walk may or may not be seen
+  public Stream<Payment> stream(PaymentQuery query, Function<UUID, Payment> store) {
+    Stream<Payment> payments = candidates(query).stream()
+        .filter(entry -> entry.matches(query))
+        .map(entry -> store.apply(entry.id()))
+        .filter(Objects::nonNull);
+    return query.limit() == Integer.MAX_VALUE ? payments : payments.limit(Math.max(query.limit(), 0));
+  }
+
+  private NavigableSet<Entry> candidates(PaymentQuery query) {
+    Bucket bucket = narrowest(query);
+    if (bucket == null) {
+      return Collections.emptyNavigableSet();
+    }
+    NavigableSet<Entry> candidates = bucket.entries;
+    Entry start = null;
+    if (query.to() != null) {
+      start = probe(millis(query.to()), MIN_ID);
+    }
+    if (query.after() != null) {
+      Entry after = probe(query.after().timestamp(), query.after().id());
+      if (start == null || NEWEST_FIRST.compare(after, start) > 0) {
+        start = after;
+      }
+    }
+    Entry end = query.from() == null ? null : probe(millis(query.from()), MIN_ID);
+    if (start != null && end != null) {
+      return NEWEST_FIRST.compare(start, end) > 0
+          ? Collections.emptyNavigableSet()
+          : candidates.subSet(start, false, end, true);
+    } else if (start != null) {
+      return candidates.tailSet(start, false);
+    } else if (end != null) {
+      return candidates.headSet(end, true);
+    }
+    return candidates;
+  }
+
+  // null if one of the query's equality filters matches nothing
+  private Bucket narrowest(PaymentQuery query) {
+    Bucket narrowest = all;
+    if (query.status() != null) {
+      narrowest = byStatus[query.status().ordinal()];
+    }
+    if (query.currency() != null) {
+      narrowest = narrower(narrowest, byCurrency.get(query.currency()));
+    }
+    if (query.cardNumberLastFour() != null && narrowest != null) {
+      narrowest = narrower(narrowest, byLastFour.get(query.cardNumberLastFour()));
+    }
+    return narrowest;
+  }
+
+  private static Bucket narrower(Bucket current, Bucket candidate) {
+    if (current == null || candidate == null) {
+      return null;
+    }
+    return candidate.size.sum() < current.size.sum() ? candidate : current;
+  }
+
+  private void link(Entry entry) {
+    all.add(entry);
+    byStatus[entry.status().ordinal()].add(entry);
+    byCurrency.computeIfAbsent(entry.currency(), currency -> new Bucket()).add(entry);
+    byLastFour.computeIfAbsent(entry.lastFour(), lastFour -> new Bucket()).add(entry);
+  }
+
+  private void unlink(Entry entry) {
+    all.remove(entry);
+    byStatus[entry.status().ordinal()].remove(entry);
+    byCurrency.get(entry.currency()).remove(entry);
+    byLastFour.get(entry.lastFour()).remove(entry);
+  }
+
+  private long timestampOf(UUID id) {
+    return id.version() == 7 ? id.getMostSignificantBits() >>> 16 : clock.millis();
+  }
+
+  private static long millis(Instant instant) {
+    try {
+      return instant.toEpochMilli();
+    } catch (ArithmeticException ex) {
+      return instant.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+  }
+
+  private static Entry probe(long timestamp, UUID id) {
+    return new Entry(timestamp, id, null, null, null, 0);
+  }
+
+  private record Entry(long timestamp, UUID id, PaymentStatus status, String currency,
+                       String lastFour, int amount) {
+
+    boolean matches(Payment payment) {
+      return status == payment.status()
+          && amount == payment.amount()
+          && Objects.equals(currency, payment.currency())
+          && Objects.equals(lastFour, payment.cardNumberLastFour());
+    }
+
+    boolean matches(PaymentQuery query) {
+      return (query.status() == null || status == query.status())
+          && (query.currency() == null || query.currency().equals(currency))
+          && (query.cardNumberLastFour() == null || query.cardNumberLastFour().equals(lastFour))
+          && (query.minAmount() == null || amount >= query.minAmount())
+          && (query.maxAmount() == null || amount <= query.maxAmount());
+    }
+  }
+
+  private static final class Bucket {
+    private final NavigableSet<Entry> entries = new ConcurrentSkipListSet<>(NEWEST_FIRST);
+    private final LongAdder size = new LongAdder();
+
+    void add(Entry entry) {
+      if (entries.add(entry)) {
+        size.increment();
+      }
+    }
+
+    void remove(Entry entry) {
+      if (entries.remove(entry)) {
+        size.decrement();
+      }
+    }
+  }
+}
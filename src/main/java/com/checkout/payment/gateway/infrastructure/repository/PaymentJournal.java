@@ -0,0 +1,344 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal of payments in memory-mapped segment files. Each file is mapped at its full
+ * size up front, so an append is a copy into the page cache; when the next record no longer fits
+ * the journal rolls to a new file. Records have a fixed width and a checksum, so a scan stops at
+ * the first zeroed or torn record.
+ *
+ * <p>Record layout ({@value #RECORD_BYTES} bytes):
+ * <pre>
+ *  0  int   CRC32C of bytes 4-39
+ *  4  byte  record version (0 marks unused space)
+ *  5  byte  status ordinal
+ *  6  short last four digits
+ *  8  long  UUID most significant bits
+ * 16  long  UUID least significant bits
+ * 24  int   amount
+ * 28  short expiry year
+ * 30  byte  expiry month
+ * 31  byte  unused
+ * 32  3     currency, ASCII
+ * 35  5     unused
+ * </pre>
+ */
+public class PaymentJournal implements Closeable {
+  static final int RECORD_BYTES = 40;
+  private static final Logger LOG = LoggerFactory.getLogger(PaymentJournal.class);
+  private static final byte VERSION = 1;
+  private static final String SEGMENT_SUFFIX = ".journal";
+  private static final PaymentStatus[] STATUSES = PaymentStatus.values();
+
+  private final Path directory;
+  private final int segmentBytes;
+  private final FsyncPolicy fsyncPolicy;
+  private final ReentrantLock appendLock = new ReentrantLock();
+  private final ReentrantLock flushLock = new ReentrantLock();
+  private final ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+  private final CRC32C crc = new CRC32C();
+  private final ScheduledExecutorService flusher;
+  private final LongAdder fsyncs = new LongAdder();
+  private final LongAdder fsyncNanos = new LongAdder();
+
+  // guarded by appendLock
+  private long segmentSequence;
+  private FileChannel channel;
+  private MappedByteBuffer segment;
+  private long appended;
+
+  // guarded by flushLock
+  private MappedByteBuffer flushedSegment;
+  private int flushedOffset;
+  private volatile long durable;
+
+  public PaymentJournal(Path directory, int segmentBytes, FsyncPolicy fsyncPolicy,
+                        Duration fsyncInterval) throws IOException {
+    if (segmentBytes < RECORD_BYTES) {
+      throw new IllegalArgumentException("Segment size must hold at least one record");
+    }
+    this.directory = directory;
+    this.segmentBytes = segmentBytes - segmentBytes % RECORD_BYTES;
+    this.fsyncPolicy = fsyncPolicy;
+    Files.createDirectories(directory);
+    this.flusher = fsyncPolicy == FsyncPolicy.PERIODIC ? startFlusher(fsyncInterval) : null;
+  }
+
+  /**
+   * Replays every intact record, oldest first, and positions the journal after the last one.
+   * Must be called once, before the first {@link #append}.
+   */
+  public void replay(Consumer<Payment> consumer) throws IOException {
+    List<Path> segments = segments();
+    long replayed = 0;
+    int end = 0;
+    for (Path path : segments) {
+      try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+        ByteBuffer content = file.map(FileChannel.MapMode.READ_ONLY, 0, file.size());
+        end = 0;
+        while (end + RECORD_BYTES <= content.limit()) {
+          Payment payment = decode(content, end);
+          if (payment == null) {
+            break;
+          }
+          consumer.accept(payment);
+          replayed++;
+          end += RECORD_BYTES;
+        }
+        if (end + RECORD_BYTES <= content.limit() && content.get(end + 4) != 0) {
+          LOG.warn("Journal segment {} has a torn record at offset {}; ignoring the rest", path,
+              end);
+        }
+      }
+    }
+
+    appendLock.lock();
+    try {
+      if (segments.isEmpty()) {
+        openSegment(0, 0);
+      } else if (end + RECORD_BYTES > segmentBytes) {
+        openSegment(sequenceOf(segments.get(segments.size() - 1)) + 1, 0);
+      } else {
+        openSegment(sequenceOf(segments.get(segments.size() - 1)), end);
+      }
+      LOG.info("Journal replayed {} payments from {} segments in {}", replayed, segments.size(),
+          directory);
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  public void append(Payment payment) {
+    long position;
+    appendLock.lock();
+    try {
+      if (segment.position() + RECORD_BYTES > segmentBytes) {
+        roll();
+      }
+      encode(payment);
+      int offset = segment.position();
+      segment.put(record.flip());
+      if (fsyncPolicy == FsyncPolicy.PER_WRITE) {
+        force(segment, offset, RECORD_BYTES);
+      }
+      appended += RECORD_BYTES;
+      position = appended;
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Could not append payment to journal", ex);
+    } finally {
+      appendLock.unlock();
+    }
+    if (fsyncPolicy == FsyncPolicy.GROUP_COMMIT) {
+      awaitDurable(position);
+    }
+  }
+
+  /**
+   * Forces everything appended so far to disk.
+   */
+  public void flush() {
+    awaitDurable(Long.MAX_VALUE);
+  }
+
+  public long fsyncCount() {
+    return fsyncs.sum();
+  }
+
+  public double fsyncTotalTime(TimeUnit unit) {
+    return (double) fsyncNanos.sum() / unit.toNanos(1);
+  }
+
+  public long segmentCount() {
+    appendLock.lock();
+    try {
+      return segmentSequence + 1;
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (flusher != null) {
+      flusher.shutdownNow();
+    }
+    appendLock.lock();
+    try {
+      if (segment != null) {
+        force(segment, 0, segment.position());
+        channel.close();
+        segment = null;
+      }
+    } finally {
+      appendLock.unlock();
+    }
+  }
+
+  /**
+   * Leader/follower group commit: the first waiter to take the flush lock forces every record
+   * appended up to that moment, and the waiters queued behind it find their record already
+   * durable.
+   */
+  private void awaitDurable(long position) {
+    if (durable >= position) {
+      return;
+    }
+    flushLock.lock();
+    try {
+      if (durable >= position) {
+        return;
+      }
+      MappedByteBuffer target;
+      int end;
+      long upTo;
+      appendLock.lock();
+      try {
+        if (segment == null) {
+          return;
+        }
+        target = segment;
+        end = segment.position();
+        upTo = appended;
+      } finally {
+        appendLock.unlock();
+      }
+      int from = target == flushedSegment ? flushedOffset : 0;
+      if (end > from) {
+        force(target, from, end - from);
+      }
+      flushedSegment = target;
+      flushedOffset = end;
+      durable = upTo;
+    } finally {
+      flushLock.unlock();
+    }
+  }
+
+  private void roll() throws IOException {
+    force(segment, 0, segment.position());
+    channel.close();
+    openSegment(segmentSequence + 1, 0);
+  }
+
+  private void openSegment(long sequence, int position) throws IOException {
+    Path path = directory.resolve(String.format("payments-%020d%s", sequence, SEGMENT_SUFFIX));
+    channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+        StandardOpenOption.WRITE);
+    segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+    segment.position(position);
+    segmentSequence = sequence;
+  }
+
+  private void force(MappedByteBuffer buffer, int offset, int length) {
+    long start = System.nanoTime();
+    buffer.force(offset, length);
+    fsyncNanos.add(System.nanoTime() - start);
+    fsyncs.increment();
+  }
+
+  private void encode(Payment payment) {
+    UUID id = payment.id();
+    byte[] currency = payment.currency().getBytes(StandardCharsets.US_ASCII);
+    if (currency.length != 3) {
+      throw new IllegalArgumentException("Currency must be a 3-letter code");
+    }
+    if (payment.expiryYear() > Short.MAX_VALUE) {
+      throw new IllegalArgumentException("Expiry year does not fit the journal record");
+    }
+    record.clear();
+    record.putInt(0)
+        .put(VERSION)
+        .put((byte) payment.status().ordinal())
+        .putShort((short) LastFourDigits.encode(payment.cardNumberLastFour()))
+        .putLong(id.getMostSignificantBits())
+        .putLong(id.getLeastSignificantBits())
+        .putInt(payment.amount())
+        .putShort((short) payment.expiryYear())
+        .put((byte) payment.expiryMonth())
+        .put((byte) 0)
+        .put(currency)
+        .put(new byte[RECORD_BYTES - 35]);
+    crc.reset();
+    crc.update(record.array(), 4, RECORD_BYTES - 4);
+    record.putInt(0, (int) crc.getValue());
+  }
+
+  private Payment decode(ByteBuffer content, int offset) {
+    if (content.get(offset + 4) != VERSION) {
+      return null;
+    }
+    byte[] bytes = new byte[RECORD_BYTES];
+    content.get(offset, bytes);
+    crc.reset();
+    crc.update(bytes, 4, RECORD_BYTES - 4);
+    ByteBuffer stored = ByteBuffer.wrap(bytes);
+    if (stored.getInt(0) != (int) crc.getValue()) {
+      return null;
+    }
+    return new Payment(
+        new UUID(stored.getLong(8), stored.getLong(16)),
+        STATUSES[stored.get(5)],
+        LastFourDigits.decode(stored.getShort(6)),
+        stored.get(30),
+        stored.getShort(28),
+        new String(bytes, 32, 3, StandardCharsets.US_ASCII),
+        stored.getInt(24)
+    );
+  }
+
+  private List<Path> segments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+          .sorted()
+          .toList();
+    }
+  }
+
+  private static long sequenceOf(Path segment) {
+    String name = segment.getFileName().toString();
+    return Long.parseLong(name.substring("payments-".length(),
+        name.length() - SEGMENT_SUFFIX.length()));
+  }
+
+  private ScheduledExecutorService startFlusher(Duration interval) {
+    ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "payment-journal-fsync");
+      thread.setDaemon(true);
+      return thread;
+    });
+    long nanos = interval.toNanos();
+    executor.scheduleWithFixedDelay(() -> {
+      try {
+        flush();
+      } catch (RuntimeException ex) {
+        LOG.error("Periodic journal fsync failed", ex);
+      }
+    }, nanos, nanos, TimeUnit.NANOSECONDS);
+    return executor;
+  }
+}
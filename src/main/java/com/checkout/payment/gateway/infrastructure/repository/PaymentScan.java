@@ -0,0 +1,51 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Filters a walk over every stored payment, for stores without a {@link PaymentIndex}. Creation
+ * time is only known from version 7 ids, so other payments never match a time window.
+ */
+final class PaymentScan {
+
+  private PaymentScan() {
+  }
+
+  static Stream<Payment> filter(Stream<Payment> payments, PaymentQuery query) {
+    Stream<Payment> matching = payments.filter(payment -> matches(payment, query));
+    return query.limit() == Integer.MAX_VALUE
+        ? matching
+        : matching.limit(Math.max(query.limit(), 0));
+  }
+
+  private static boolean matches(Payment payment, PaymentQuery query) {
+    return (query.status() == null || payment.status() == query.status())
+        && (query.currency() == null || query.currency().equals(payment.currency()))
+        && (query.cardNumberLastFour() == null
+            || query.cardNumberLastFour().equals(payment.cardNumberLastFour()))
+        && (query.minAmount() == null || payment.amount() >= query.minAmount())
+        && (query.maxAmount() == null || payment.amount() <= query.maxAmount())
+        && (query.from() == null && query.to() == null || withinWindow(payment.id(), query));
+  }
+
+  private static boolean withinWindow(UUID id, PaymentQuery query) {
+    if (id.version() != 7) {
+      return false;
+    }
+    long created = id.getMostSignificantBits() >>> 16;
+    return (query.from() == null || created >= millis(query.from()))
+        && (query.to() == null || created < millis(query.to()));
+  }
+
+  private static long millis(Instant instant) {
+    try {
+      return instant.toEpochMilli();
+    } catch (ArithmeticException ex) {
+      return instant.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+    }
+  }
+}
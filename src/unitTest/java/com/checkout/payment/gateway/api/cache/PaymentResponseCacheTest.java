@@ -0,0 +1,136 @@
+package com.checkout.payment.gateway.api.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.api.mapper.DefaultApiPaymentMapper;
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.exception.PaymentNotFoundException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class PaymentResponseCacheTest {
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final PaymentResponseCache cache = new PaymentResponseCache(
+      new DefaultApiPaymentMapper(), objectMapper, 2, Duration.ofDays(365));
+
+  @Test
+  void putSerializesTheApiResponse() throws Exception {
+    Payment payment = payment();
+
+    SerializedPaymentResponse response = cache.put(payment);
+
+    assertThat(objectMapper.readValue(response.body(), PaymentResponse.class))
+        .isEqualTo(new DefaultApiPaymentMapper().toResponse(payment));
+  }
+
+  @Test
+  void etagIsQuotedAndDependsOnTheBody() {
+    Payment payment = payment();
+    Payment declined = new Payment(payment.id(), PaymentStatus.DECLINED,
+        payment.cardNumberLastFour(), payment.expiryMonth(), payment.expiryYear(),
+        payment.currency(), payment.amount());
+
+    String etag = cache.put(payment).etag();
+
+    assertThat(etag).matches("\"[0-9a-f]{8}\"");
+    assertThat(cache.put(payment).etag()).isEqualTo(etag);
+    assertThat(cache.put(declined).etag()).isNotEqualTo(etag);
+  }
+
+  @Test
+  void getReturnsCachedResponseWithoutSerializingAgain() {
+    Payment payment = payment();
+    SerializedPaymentResponse saved = cache.put(payment);
+
+    SerializedPaymentResponse read = cache.get(payment.id(), id -> payment);
+
+    assertThat(read).isSameAs(saved);
+  }
+
+  @Test
+  void getSerializesAndCachesMissingResponse() {
+    Payment payment = payment();
+
+    SerializedPaymentResponse first = cache.get(payment.id(), id -> payment);
+    SerializedPaymentResponse second = cache.get(payment.id(), id -> payment);
+
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void paymentsGoneFromTheStoreAreNotServedFromTheCache() {
+    Payment payment = payment();
+    cache.put(payment);
+
+    assertThatThrownBy(() -> cache.get(payment.id(), id -> {
+      throw new PaymentNotFoundException("Payment not found");
+    })).isInstanceOf(PaymentNotFoundException.class);
+  }
+
+  @Test
+  void getPropagatesLoaderFailure() {
+    UUID id = UUID.randomUUID();
+
+    assertThatThrownBy(() -> cache.get(id, missing -> {
+      throw new PaymentNotFoundException("Payment not found");
+    })).isInstanceOf(PaymentNotFoundException.class);
+  }
+
+  @Test
+  void okWritesBytesWithEtagAndImmutableCacheControl() {
+    SerializedPaymentResponse response = cache.put(payment());
+
+    ResponseEntity<byte[]> entity = cache.ok(response);
+
+    assertThat(entity.getBody()).isSameAs(response.body());
+    assertThat(entity.getHeaders().getETag()).isEqualTo(response.etag());
+    assertThat(entity.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+    assertThat(entity.getHeaders().getFirst(HttpHeaders.CACHE_CONTROL))
+        .isEqualTo("max-age=31536000, private, immutable");
+  }
+
+  @Test
+  void pendingPaymentsAreServedUncached() {
+    Payment pending = new Payment(UUID.randomUUID(), PaymentStatus.PENDING, "8877", 4, 2030,
+        "GBP", 100);
+    Payment authorized = new Payment(pending.id(), PaymentStatus.AUTHORIZED, "8877", 4, 2030,
+        "GBP", 100);
+
+    SerializedPaymentResponse response = cache.put(pending);
+
+    assertThat(response.immutable()).isFalse();
+    assertThat(cache.ok(response).getHeaders().getFirst(HttpHeaders.CACHE_CONTROL))
+        .isEqualTo("no-cache");
+    assertThat(cache.of(pending).immutable()).isFalse();
+    assertThat(cache.get(pending.id(), id -> authorized).immutable()).isTrue();
+  }
+
+  @Test
+  void countsHitsAndMisses() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    cache.bindTo(registry);
+    Payment payment = payment();
+
+    cache.get(payment.id(), id -> payment);
+    cache.get(payment.id(), id -> payment);
+
+    assertThat(registry.get("payment.response-cache.requests").tag("result", "miss")
+        .functionCounter().count()).isEqualTo(1);
+    assertThat(registry.get("payment.response-cache.requests").tag("result", "hit")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  private static Payment payment() {
+    return new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "8877", 4, 2030, "GBP", 100);
+  }
+}
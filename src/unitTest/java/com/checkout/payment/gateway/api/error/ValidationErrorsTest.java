@@ -0,0 +1,44 @@
+package com.checkout.payment.gateway.api.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.api.model.ValidationError;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+
+class ValidationErrorsTest {
+
+  @Test
+  void translatesFieldNamesToSnakeCase() {
+    assertThat(ValidationErrors.toSnakeCase("cardNumber")).isEqualTo("card_number");
+    assertThat(ValidationErrors.toSnakeCase("expiryMonth")).isEqualTo("expiry_month");
+    assertThat(ValidationErrors.toSnakeCase("cvv")).isEqualTo("cvv");
+  }
+
+  @Test
+  void repeatedTranslationReturnsTheCachedName() {
+    String first = ValidationErrors.toSnakeCase("cardNumberLastFour");
+
+    assertThat(ValidationErrors.toSnakeCase("cardNumberLastFour")).isSameAs(first);
+  }
+
+  @Test
+  void blankNameBecomesRequest() {
+    assertThat(ValidationErrors.toSnakeCase(null)).isEqualTo("request");
+    assertThat(ValidationErrors.toSnakeCase(" ")).isEqualTo("request");
+  }
+
+  @Test
+  void mapsFieldErrorsBeforeGlobalErrors() {
+    CreatePaymentRequest request = new CreatePaymentRequest(null, 1, 2000, "USD", 1, "123");
+    Errors errors = new BeanPropertyBindingResult(request, "createPaymentRequest");
+    errors.reject("ValidExpiryDate", "Expiry date must be in the future");
+    errors.rejectValue("cardNumber", "NotBlank", "must not be blank");
+
+    assertThat(ValidationErrors.from(errors)).containsExactly(
+        new ValidationError("card_number", "must not be blank"),
+        new ValidationError("create_payment_request", "Expiry date must be in the future"));
+  }
+}
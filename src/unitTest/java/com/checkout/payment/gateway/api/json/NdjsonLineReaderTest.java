@@ -0,0 +1,36 @@
+package com.checkout.payment.gateway.api.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+class NdjsonLineReaderTest {
+
+  @Test
+  void readsLinesWithOrWithoutCarriageReturns() throws IOException {
+    NdjsonLineReader reader = new NdjsonLineReader(new StringReader("a\r\n\nbc\nd"), 10);
+
+    assertThat(reader.readLine()).isEqualTo("a");
+    assertThat(reader.readLine()).isEmpty();
+    assertThat(reader.readLine()).isEqualTo("bc");
+    assertThat(reader.readLine()).isEqualTo("d");
+    assertThat(reader.readLine()).isNull();
+  }
+
+  @Test
+  void skipsLinesOverTheLimitToTheNextNewline() throws IOException {
+    NdjsonLineReader reader = new NdjsonLineReader(
+        new StringReader("x".repeat(20_000) + "\n1234\r\n12345\nlast"), 4);
+
+    assertThat(reader.readLine()).isEmpty();
+    assertThat(reader.tooLong()).isTrue();
+    assertThat(reader.readLine()).isEqualTo("1234");
+    assertThat(reader.tooLong()).isFalse();
+    assertThat(reader.readLine()).isEmpty();
+    assertThat(reader.tooLong()).isTrue();
+    assertThat(reader.readLine()).isEqualTo("last");
+    assertThat(reader.readLine()).isNull();
+  }
+}
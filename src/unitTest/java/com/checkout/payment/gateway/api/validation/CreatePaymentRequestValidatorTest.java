@@ -0,0 +1,121 @@
+package com.checkout.payment.gateway.api.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.checkout.payment.gateway.api.error.ValidationErrors;
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.api.model.ValidationError;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.domain.validation.CardExpiry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+class CreatePaymentRequestValidatorTest {
+  private static final int NEXT_YEAR = YearMonth.now().getYear() + 1;
+
+  private static ValidatorFactory validatorFactory;
+  private static Validator beanValidator;
+
+  private final CreatePaymentRequestValidator validator =
+      new CreatePaymentRequestValidator(new SupportedCurrencies() {
+        @Override
+        public boolean isSupported(String currency) {
+          return allowed().contains(currency.toUpperCase());
+        }
+
+        @Override
+        public Set<String> allowed() {
+          return Set.of("USD", "EUR", "GBP");
+        }
+      }, new CardExpiry());
+
+  @BeforeAll
+  static void setUp() {
+    validatorFactory = Validation.buildDefaultValidatorFactory();
+    beanValidator = new SpringValidatorAdapter(validatorFactory.getValidator());
+  }
+
+  @AfterAll
+  static void tearDown() {
+    validatorFactory.close();
+  }
+
+  @Test
+  void validRequestHasNoErrors() {
+    Errors errors = validate(validator, request("4242424242424242", 12, NEXT_YEAR, "USD", 100,
+        "123"));
+
+    assertThat(errors.hasErrors()).isFalse();
+  }
+
+  @Test
+  void supportsOnlyCreatePaymentRequest() {
+    assertThat(validator.supports(CreatePaymentRequest.class)).isTrue();
+    assertThat(validator.supports(String.class)).isFalse();
+  }
+
+  @ParameterizedTest
+  @MethodSource("requests")
+  void reportsTheSameErrorsAsBeanValidation(CreatePaymentRequest request) {
+    List<ValidationError> expected = ValidationErrors.from(validate(beanValidator, request));
+
+    List<ValidationError> actual = ValidationErrors.from(validate(validator, request));
+
+    assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+  }
+
+  static Stream<CreatePaymentRequest> requests() {
+    return Stream.of(
+        request("4242424242424242", 12, NEXT_YEAR, "USD", 100, "123"),
+        request("4242424242424242", 1, NEXT_YEAR, "usd", 1, "1234"),
+        request(null, 12, NEXT_YEAR, "USD", 100, "123"),
+        request("", 12, NEXT_YEAR, "USD", 100, "123"),
+        request("   ", 12, NEXT_YEAR, "USD", 100, "123"),
+        request("4242", 12, NEXT_YEAR, "USD", 100, "123"),
+        request("42424242424242424242", 12, NEXT_YEAR, "USD", 100, "123"),
+        request("4242x42424242424", 12, NEXT_YEAR, "USD", 100, "123"),
+        request("4242424242424242", null, null, "USD", 100, "123"),
+        request("4242424242424242", 0, NEXT_YEAR, "USD", 100, "123"),
+        request("4242424242424242", 13, NEXT_YEAR, "USD", 100, "123"),
+        request("4242424242424242", 1, 2000, "USD", 100, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, null, 100, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, "", 100, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, "12", 100, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, "XYZ", 100, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, "US1", 100, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, "USD", null, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, "USD", 0, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, "USD", -5, "123"),
+        request("4242424242424242", 12, NEXT_YEAR, "USD", 100, null),
+        request("4242424242424242", 12, NEXT_YEAR, "USD", 100, "12"),
+        request("4242424242424242", 12, NEXT_YEAR, "USD", 100, "12a"),
+        request(null, null, null, null, null, null),
+        request("", 0, 2000, "", 0, "")
+    );
+  }
+
+  private static Errors validate(Validator validator, CreatePaymentRequest request) {
+    Errors errors = new BeanPropertyBindingResult(request, "createPaymentRequest");
+    validator.validate(request, errors);
+    return errors;
+  }
+
+  private static CreatePaymentRequest request(String cardNumber, Integer expiryMonth,
+                                              Integer expiryYear, String currency,
+                                              Integer amount, String cvv) {
+    return new CreatePaymentRequest(cardNumber, expiryMonth, expiryYear, currency, amount, cvv);
+  }
+}
@@ -0,0 +1,210 @@
+package com.checkout.payment.gateway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+import com.checkout.payment.gateway.infrastructure.repository.InMemoryPaymentsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PaymentBatchServiceTest {
+  private static final int NEXT_YEAR = YearMonth.now().plusYears(1).getYear();
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void shutdown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void returnsOneOutcomePerRequestInOrder() {
+    BankClient bankClient = request -> request.amount() % 2 == 0;
+    PaymentBatchService service = service(bankClient, 4);
+
+    List<PaymentOutcome> outcomes = service.processPayments(IntStream.rangeClosed(1, 10)
+        .mapToObj(amount -> request("4242424242424242", amount))
+        .toList());
+
+    assertThat(outcomes).hasSize(10);
+    for (int i = 0; i < outcomes.size(); i++) {
+      assertThat(outcomes.get(i).payment().amount()).isEqualTo(i + 1);
+      assertThat(outcomes.get(i).payment().status()).isEqualTo(
+          (i + 1) % 2 == 0 ? PaymentStatus.AUTHORIZED : PaymentStatus.DECLINED);
+    }
+  }
+
+  @Test
+  void neverExceedsParallelism() {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    BankClient bankClient = request -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(5);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      inFlight.decrementAndGet();
+      return true;
+    };
+    PaymentBatchService service = service(bankClient, 3);
+
+    service.processPayments(IntStream.range(0, 30)
+        .mapToObj(i -> request("4242424242424242", 100))
+        .toList());
+
+    assertThat(maxInFlight.get()).isBetween(1, 3);
+  }
+
+  @Test
+  void failedItemsDoNotFailTheBatch() {
+    BankClient bankClient = request -> {
+      if (request.amount() == 2) {
+        throw new BankUnavailableException("Bank unavailable");
+      }
+      return true;
+    };
+    PaymentBatchService service = service(bankClient, 2);
+
+    List<PaymentOutcome> outcomes = service.processPayments(List.of(
+        request("4242424242424242", 1),
+        request("4242424242424242", 2),
+        request("42", 3)
+    ));
+
+    assertThat(outcomes.get(0).isProcessed()).isTrue();
+    assertThat(outcomes.get(1).failure()).isInstanceOf(BankUnavailableException.class);
+    assertThat(outcomes.get(2).failure()).isInstanceOf(PaymentValidationException.class);
+  }
+
+  @Test
+  void emptyBatchReturnsNoOutcomes() {
+    PaymentBatchService service = service(request -> true, 4);
+
+    assertThat(service.processPayments(List.of())).isEmpty();
+  }
+
+  @Test
+  void streamHandsEveryOutcomeToTheSinkWithItsItem() {
+    PaymentBatchService service = service(request -> request.amount() % 2 == 0, 4);
+    Map<Integer, PaymentOutcome> outcomes = new ConcurrentHashMap<>();
+
+    long taken = service.processPayments(IntStream.rangeClosed(1, 50).iterator(),
+        amount -> request(amount == 7 ? "42" : "4242424242424242", amount), outcomes::put);
+
+    assertThat(taken).isEqualTo(50);
+    assertThat(outcomes).hasSize(50);
+    assertThat(outcomes.get(2).payment().status()).isEqualTo(PaymentStatus.AUTHORIZED);
+    assertThat(outcomes.get(3).payment().status()).isEqualTo(PaymentStatus.DECLINED);
+    assertThat(outcomes.get(7).failure()).isInstanceOf(PaymentValidationException.class);
+  }
+
+  @Test
+  void streamTakesNoMoreItemsThanParallelismAhead() {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    AtomicInteger pulled = new AtomicInteger();
+    AtomicInteger sunk = new AtomicInteger();
+    AtomicInteger maxAhead = new AtomicInteger();
+    BankClient bankClient = request -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(2);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      inFlight.decrementAndGet();
+      return true;
+    };
+    PaymentBatchService service = service(bankClient, 3);
+    Iterator<Integer> items = IntStream.range(0, 60).iterator();
+    Iterator<Integer> counted = new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return items.hasNext();
+      }
+
+      @Override
+      public Integer next() {
+        maxAhead.accumulateAndGet(pulled.incrementAndGet() - sunk.get(), Math::max);
+        return items.next();
+      }
+    };
+
+    service.processPayments(counted, i -> request("4242424242424242", 100),
+        (i, outcome) -> sunk.incrementAndGet());
+
+    assertThat(sunk).hasValue(60);
+    assertThat(maxInFlight.get()).isBetween(1, 3);
+    assertThat(maxAhead.get()).isBetween(1, 3);
+  }
+
+  @Test
+  void streamStopsTakingItemsOnceTheSinkFails() {
+    PaymentBatchService service = service(request -> true, 2);
+    List<Integer> taken = new ArrayList<>();
+    Function<Integer, PaymentRequest> request = i -> {
+      taken.add(i);
+      return request("4242424242424242", 100);
+    };
+
+    assertThatThrownBy(() -> service.processPayments(IntStream.range(0, 1_000).iterator(),
+        request, (i, outcome) -> {
+          throw new IllegalStateException("Client gone");
+        }))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Client gone");
+    assertThat(taken.size()).isBetween(1, 2);
+  }
+
+  private PaymentBatchService service(BankClient bankClient, int parallelism) {
+    PaymentGatewayService paymentGatewayService = new PaymentGatewayService(
+        new InMemoryPaymentsRepository(),
+        bankClient,
+        UUID::randomUUID,
+        new PaymentRequestValidator(new AnySupportedCurrencies()),
+        new PaymentMetrics(new SimpleMeterRegistry(), new AnySupportedCurrencies()),
+        new PaymentStatistics(new AnySupportedCurrencies()),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
+    );
+    return new PaymentBatchService(paymentGatewayService, executor, parallelism);
+  }
+
+  private static PaymentRequest request(String cardNumber, int amount) {
+    return new PaymentRequest(cardNumber, 12, NEXT_YEAR, "USD", amount, "123");
+  }
+
+  private static class AnySupportedCurrencies implements SupportedCurrencies {
+    @Override
+    public boolean isSupported(String currency) {
+      return true;
+    }
+
+    @Override
+    public Set<String> allowed() {
+      return Set.of("USD", "EUR", "GBP");
+    }
+  }
+}
@@ -0,0 +1,178 @@
+package com.checkout.payment.gateway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PaymentEventFeedTest {
+  private static final String CLOSED = "closed";
+
+  private PaymentEventFeed feed;
+
+  @AfterEach
+  void close() {
+    feed.close();
+  }
+
+  @Test
+  void deliversMatchingEventsInPublicationOrder() throws Exception {
+    feed = new PaymentEventFeed(16, SlowConsumerPolicy.DROP);
+    RecordingSubscriber authorized = new RecordingSubscriber();
+    RecordingSubscriber all = new RecordingSubscriber();
+    feed.subscribe(feed.nextSequence(),
+        payment -> payment.status() == PaymentStatus.AUTHORIZED, authorized);
+    feed.subscribe(feed.nextSequence(), payment -> true, all);
+
+    Payment first = payment(PaymentStatus.AUTHORIZED, 1);
+    Payment second = payment(PaymentStatus.DECLINED, 2);
+    Payment third = payment(PaymentStatus.AUTHORIZED, 3);
+    feed.publish(first);
+    feed.publish(second);
+    feed.publish(third);
+
+    assertThat(all.take(3)).containsExactly(new PaymentEvent(0, first),
+        new PaymentEvent(1, second), new PaymentEvent(2, third));
+    assertThat(authorized.take(2)).containsExactly(new PaymentEvent(0, first),
+        new PaymentEvent(2, third));
+  }
+
+  @Test
+  void replaysFromTheOldestBufferedEvent() throws Exception {
+    feed = new PaymentEventFeed(4, SlowConsumerPolicy.DROP);
+    List<Payment> payments = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      payments.add(payment(PaymentStatus.AUTHORIZED, i));
+      feed.publish(payments.get(i));
+    }
+
+    RecordingSubscriber resumed = new RecordingSubscriber();
+    feed.subscribe(4, payment -> true, resumed);
+    assertThat(resumed.take(2)).containsExactly(new PaymentEvent(4, payments.get(4)),
+        new PaymentEvent(5, payments.get(5)));
+
+    RecordingSubscriber fromStart = new RecordingSubscriber();
+    feed.subscribe(0, payment -> true, fromStart);
+    assertThat(fromStart.take(4)).extracting(event -> ((PaymentEvent) event).sequence())
+        .containsExactly(2L, 3L, 4L, 5L);
+    assertThat(fromStart.received.poll(50, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  void slowSubscriberSkipsToTheOldestBufferedEventUnderDrop() throws Exception {
+    feed = new PaymentEventFeed(4, SlowConsumerPolicy.DROP);
+    RecordingSubscriber slow = new RecordingSubscriber(new CountDownLatch(1));
+    feed.subscribe(feed.nextSequence(), payment -> true, slow);
+
+    publishWhileBlocked(slow, 10);
+
+    List<Object> received = slow.take(5);
+    assertThat(received.get(0)).extracting("sequence").isEqualTo(0L);
+    assertThat(received.get(1)).isEqualTo(6L);
+    assertThat(received.subList(2, 5)).extracting("sequence").containsExactly(7L, 8L, 9L);
+  }
+
+  @Test
+  void slowSubscriberIsClosedUnderDisconnect() throws Exception {
+    feed = new PaymentEventFeed(4, SlowConsumerPolicy.DISCONNECT);
+    RecordingSubscriber slow = new RecordingSubscriber(new CountDownLatch(1));
+    feed.subscribe(feed.nextSequence(), payment -> true, slow);
+
+    publishWhileBlocked(slow, 10);
+
+    assertThat(slow.take(2)).last().isEqualTo(CLOSED);
+    feed.publish(payment(PaymentStatus.AUTHORIZED, 10));
+    assertThat(slow.received.poll(50, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  @Test
+  void cancelledSubscriptionReceivesNothingMore() throws Exception {
+    feed = new PaymentEventFeed(16, SlowConsumerPolicy.DROP);
+    RecordingSubscriber subscriber = new RecordingSubscriber();
+    PaymentEventFeed.Subscription subscription =
+        feed.subscribe(feed.nextSequence(), payment -> true, subscriber);
+    feed.publish(payment(PaymentStatus.DECLINED, 1));
+    subscriber.take(1);
+
+    subscription.cancel();
+    feed.publish(payment(PaymentStatus.DECLINED, 2));
+
+    assertThat(subscriber.received.poll(50, TimeUnit.MILLISECONDS)).isNull();
+  }
+
+  /**
+   * Publishes one event, waits until the subscriber is blocked delivering it, publishes the rest
+   * and releases it.
+   */
+  private void publishWhileBlocked(RecordingSubscriber subscriber, int count)
+      throws InterruptedException {
+    feed.publish(payment(PaymentStatus.AUTHORIZED, 0));
+    assertThat(subscriber.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 1; i < count; i++) {
+      feed.publish(payment(PaymentStatus.AUTHORIZED, i));
+    }
+    subscriber.release.countDown();
+  }
+
+  private static Payment payment(PaymentStatus status, int amount) {
+    return new Payment(UUID.randomUUID(), status, "4242", 12, 2035, "USD", amount);
+  }
+
+  /**
+   * Records events, missed counts and {@link #CLOSED}. Delivering an event blocks until
+   * {@code release} is counted down.
+   */
+  private static class RecordingSubscriber implements PaymentEventFeed.Subscriber {
+    private final BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch release;
+
+    RecordingSubscriber() {
+      this(new CountDownLatch(0));
+    }
+
+    RecordingSubscriber(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void onEvent(PaymentEvent event) {
+      blocked.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      received.add(event);
+    }
+
+    @Override
+    public void onMissed(long count) {
+      received.add(count);
+    }
+
+    @Override
+    public void onClose() {
+      received.add(CLOSED);
+    }
+
+    List<Object> take(int count) throws InterruptedException {
+      List<Object> taken = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        Object next = received.poll(5, TimeUnit.SECONDS);
+        assertThat(next).as("item %d of %d", i + 1, count).isNotNull();
+        taken.add(next);
+      }
+      return taken;
+    }
+  }
+}
@@ -14,8 +14,12 @@ import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
 import com.checkout.payment.gateway.exception.BankClientException;
 import com.checkout.payment.gateway.exception.BankUnavailableException;
 import com.checkout.payment.gateway.exception.PaymentNotFoundException;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
 import com.checkout.payment.gateway.infrastructure.repository.InMemoryPaymentsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
@@ -33,7 +37,10 @@ class PaymentGatewayServiceTest {
         repository,
         bankClient,
         idGenerator,
-        validator
+        validator,
+        new PaymentMetrics(new SimpleMeterRegistry(), supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
     );
 
     PaymentRequest request = new PaymentRequest(
@@ -70,7 +77,10 @@ class PaymentGatewayServiceTest {
         repository,
         bankClient,
         idGenerator,
-        validator
+        validator,
+        new PaymentMetrics(new SimpleMeterRegistry(), supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
     );
 
     PaymentRequest request = new PaymentRequest(
@@ -99,7 +109,10 @@ class PaymentGatewayServiceTest {
         repository,
         bankClient,
         idGenerator,
-        validator
+        validator,
+        new PaymentMetrics(new SimpleMeterRegistry(), supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
     );
 
     assertThatThrownBy(() -> service.getPaymentById(UUID.randomUUID()))
@@ -117,7 +130,10 @@ class PaymentGatewayServiceTest {
         repository,
         bankClient,
         idGenerator,
-        validator
+        validator,
+        new PaymentMetrics(new SimpleMeterRegistry(), supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
     );
     UUID id = UUID.randomUUID();
     Payment payment = new Payment(
@@ -151,7 +167,10 @@ class PaymentGatewayServiceTest {
         repository,
         bankClient,
         idGenerator,
-        validator
+        validator,
+        new PaymentMetrics(new SimpleMeterRegistry(), supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
     );
 
     PaymentRequest request = new PaymentRequest(
@@ -180,7 +199,10 @@ class PaymentGatewayServiceTest {
         repository,
         bankClient,
         idGenerator,
-        validator
+        validator,
+        new PaymentMetrics(new SimpleMeterRegistry(), supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
     );
 
     PaymentRequest request = new PaymentRequest(
@@ -196,6 +218,79 @@ class PaymentGatewayServiceTest {
         .isInstanceOf(BankClientException.class);
   }
 
+  @Test
+  void processPaymentRecordsStageTimingsAndOutcome() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SupportedCurrencies supportedCurrencies = new FixedSupportedCurrencies();
+    PaymentGatewayService service = new PaymentGatewayService(
+        new InMemoryPaymentsRepository(),
+        request -> true,
+        UUID::randomUUID,
+        new PaymentRequestValidator(supportedCurrencies),
+        new PaymentMetrics(registry, supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
+    );
+
+    service.processPayment(new PaymentRequest("4242424242424242", 12,
+        YearMonth.now().plusYears(1).getYear(), "USD", 100, "123"));
+
+    for (String stage : List.of("validation", "bank", "id-generation", "save")) {
+      assertThat(registry.get("payment.stage").tag("stage", stage).timer().count())
+          .as(stage).isEqualTo(1);
+    }
+    assertThat(registry.get("payment.processed")
+        .tags("status", "authorized", "currency", "USD").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void processPaymentCountsRejectionsUnderOtherForUnsupportedCurrency() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SupportedCurrencies supportedCurrencies = new FixedSupportedCurrencies();
+    PaymentGatewayService service = new PaymentGatewayService(
+        new InMemoryPaymentsRepository(),
+        request -> true,
+        UUID::randomUUID,
+        new PaymentRequestValidator(supportedCurrencies),
+        new PaymentMetrics(registry, supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
+    );
+
+    assertThatThrownBy(() -> service.processPayment(new PaymentRequest("4242424242424242", 12,
+        YearMonth.now().plusYears(1).getYear(), "XYZ", 0, "123")))
+        .isInstanceOf(PaymentValidationException.class);
+
+    assertThat(registry.get("payment.processed")
+        .tags("status", "rejected", "currency", "other").counter().count()).isEqualTo(1);
+    assertThat(registry.get("payment.stage").tag("stage", "bank").timer().count()).isZero();
+  }
+
+  @Test
+  void processPaymentCountsBankErrorsByExceptionType() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    SupportedCurrencies supportedCurrencies = new FixedSupportedCurrencies();
+    PaymentGatewayService service = new PaymentGatewayService(
+        new InMemoryPaymentsRepository(),
+        request -> {
+          throw new BankUnavailableException("Bank unavailable", new RuntimeException("down"));
+        },
+        UUID::randomUUID,
+        new PaymentRequestValidator(supportedCurrencies),
+        new PaymentMetrics(registry, supportedCurrencies),
+        new PaymentStatistics(supportedCurrencies),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
+    );
+
+    assertThatThrownBy(() -> service.processPayment(new PaymentRequest("4242424242424242", 12,
+        YearMonth.now().plusYears(1).getYear(), "USD", 100, "123")))
+        .isInstanceOf(BankUnavailableException.class);
+
+    assertThat(registry.get("payment.bank.errors")
+        .tag("exception", "BankUnavailableException").counter().count()).isEqualTo(1);
+    assertThat(registry.get("payment.stage").tag("stage", "bank").timer().count()).isEqualTo(1);
+  }
+
   private static class FixedSupportedCurrencies implements SupportedCurrencies {
     @Override
     public boolean isSupported(String currency) {
@@ -0,0 +1,167 @@
+package com.checkout.payment.gateway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.checkout.payment.gateway.exception.IdempotencyKeyReusedException;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PaymentIdempotencyCacheTest {
+  private static final PaymentRequest REQUEST =
+      new PaymentRequest("4242424242424242", 12, 2035, "USD", 100, "123");
+
+  private final AtomicLong nanos = new AtomicLong();
+  private final PaymentIdempotencyCache cache =
+      new PaymentIdempotencyCache(100, Duration.ofMinutes(10), nanos::get);
+  private final AtomicInteger calls = new AtomicInteger();
+
+  @Test
+  void replaysFirstPaymentForSameKey() {
+    Payment first = cache.execute("key-1", REQUEST, this::authorize);
+    Payment second = cache.execute("key-1", REQUEST, this::authorize);
+
+    assertThat(second).isSameAs(first);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void refusesKeyReusedForDifferentPayment() {
+    cache.execute("key-1", REQUEST, this::authorize);
+    PaymentRequest otherAmount =
+        new PaymentRequest("4242424242424242", 12, 2035, "USD", 101, "123");
+
+    assertThatThrownBy(() -> cache.execute("key-1", otherAmount, this::authorize))
+        .isInstanceOf(IdempotencyKeyReusedException.class);
+    assertThatThrownBy(() -> cache.executeAsync("key-1", otherAmount,
+        () -> CompletableFuture.completedFuture(authorize())))
+        .isInstanceOf(IdempotencyKeyReusedException.class);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void refusesKeyReusedWhileFirstPaymentIsInFlight() {
+    CompletableFuture<Payment> bank = new CompletableFuture<>();
+    cache.executeAsync("key-1", REQUEST, () -> bank);
+
+    assertThatThrownBy(() -> cache.executeAsync("key-1",
+        new PaymentRequest("5555555555554444", 12, 2035, "USD", 100, "123"), () -> bank))
+        .isInstanceOf(IdempotencyKeyReusedException.class);
+  }
+
+  @Test
+  void failedAttemptReleasesKey() {
+    assertThatThrownBy(() -> cache.execute("key-1", REQUEST, () -> {
+      throw new BankUnavailableException("Bank unavailable");
+    })).isInstanceOf(BankUnavailableException.class);
+
+    cache.execute("key-1", REQUEST, this::authorize);
+
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void expiredKeyAuthorizesAgain() {
+    cache.execute("key-1", REQUEST, this::authorize);
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(11));
+
+    cache.execute("key-1", REQUEST, this::authorize);
+
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void concurrentDuplicatesCoalesceOntoInFlightAttempt() throws Exception {
+    CompletableFuture<Payment> bank = new CompletableFuture<>();
+    CompletableFuture<Payment> first = cache.executeAsync("key-1", REQUEST, () -> {
+      calls.incrementAndGet();
+      return bank;
+    });
+    CompletableFuture<Payment> duplicate = cache.executeAsync("key-1", REQUEST, () -> {
+      calls.incrementAndGet();
+      return bank;
+    });
+
+    assertThat(duplicate).isNotDone();
+    Payment payment = payment();
+    bank.complete(payment);
+
+    assertThat(first.get()).isSameAs(payment);
+    assertThat(duplicate.get()).isSameAs(payment);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void inFlightClaimOutlastsSizeEviction() {
+    PaymentIdempotencyCache small =
+        new PaymentIdempotencyCache(1, Duration.ofMinutes(10), nanos::get);
+    CompletableFuture<Payment> bank = new CompletableFuture<>();
+    small.executeAsync("key-1", REQUEST, () -> {
+      calls.incrementAndGet();
+      return bank;
+    });
+    for (int i = 0; i < 100; i++) {
+      small.execute("other-" + i, REQUEST, this::authorize);
+    }
+
+    CompletableFuture<Payment> duplicate = small.executeAsync("key-1", REQUEST, () -> {
+      calls.incrementAndGet();
+      return bank;
+    });
+
+    assertThat(duplicate).isNotDone();
+    assertThat(calls).hasValue(101);
+  }
+
+  @Test
+  void countsHitsMissesAndCoalescedRequests() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    cache.bindTo(registry);
+    CompletableFuture<Payment> bank = new CompletableFuture<>();
+
+    cache.executeAsync("key-1", REQUEST, () -> bank);
+    cache.executeAsync("key-1", REQUEST, () -> bank);
+    bank.complete(payment());
+    cache.executeAsync("key-1", REQUEST, () -> bank);
+
+    assertThat(count(registry, "miss")).isEqualTo(1);
+    assertThat(count(registry, "coalesced")).isEqualTo(1);
+    assertThat(count(registry, "hit")).isEqualTo(1);
+    assertThat(count(registry, "mismatch")).isZero();
+    assertThat(registry.get("payment.idempotency.size").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void rejectsBlankAndOverlongKeys() {
+    assertThatThrownBy(() -> cache.execute(" ", REQUEST, this::authorize))
+        .isInstanceOf(PaymentValidationException.class);
+    assertThatThrownBy(() -> cache.execute("k".repeat(256), REQUEST, this::authorize))
+        .isInstanceOf(PaymentValidationException.class);
+    assertThat(calls).hasValue(0);
+  }
+
+  private Payment authorize() {
+    calls.incrementAndGet();
+    return payment();
+  }
+
+  private static Payment payment() {
+    return new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "4242", 12, 2035, "USD", 100);
+  }
+
+  private static double count(SimpleMeterRegistry registry, String result) {
+    return registry.get("payment.idempotency.requests").tag("result", result)
+        .functionCounter().count();
+  }
+}
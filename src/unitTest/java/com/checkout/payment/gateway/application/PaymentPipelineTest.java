@@ -0,0 +1,216 @@
+package com.checkout.payment.gateway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class PaymentPipelineTest {
+
+  private PaymentPipeline pipeline;
+
+  @AfterEach
+  void close() {
+    pipeline.close();
+  }
+
+  @ParameterizedTest
+  @EnumSource(PipelineWaitStrategy.class)
+  void everyHandlerSeesEveryPaymentInOrder(PipelineWaitStrategy waitStrategy) throws Exception {
+    RecordingHandler first = new RecordingHandler();
+    RecordingHandler second = new RecordingHandler();
+    pipeline = new PaymentPipeline(handlers("first", first, "second", second), 8, 4,
+        waitStrategy);
+
+    List<Payment> payments = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      payments.add(payment(i));
+      pipeline.publish(payments.get(i));
+    }
+
+    assertThat(first.take(100)).isEqualTo(payments);
+    assertThat(second.take(100)).isEqualTo(payments);
+  }
+
+  @Test
+  void concurrentPublishersWrapTheRingWithoutLosingPayments() throws Exception {
+    RecordingHandler handler = new RecordingHandler();
+    pipeline = new PaymentPipeline(Map.of("handler", handler), 4, 2,
+        PipelineWaitStrategy.BLOCKING);
+
+    ExecutorService publishers = Executors.newFixedThreadPool(4);
+    try {
+      for (int thread = 0; thread < 4; thread++) {
+        publishers.execute(() -> {
+          for (int i = 0; i < 250; i++) {
+            pipeline.publish(payment(i));
+          }
+        });
+      }
+      assertThat(handler.take(1000)).hasSize(1000);
+      assertThat(handler.received.poll(50, TimeUnit.MILLISECONDS)).isNull();
+    } finally {
+      publishers.shutdown();
+    }
+  }
+
+  @Test
+  void handsOverWhateverIsPublishedInBatches() throws Exception {
+    RecordingHandler handler = new RecordingHandler(new CountDownLatch(1));
+    pipeline = new PaymentPipeline(Map.of("handler", handler), 16, 4,
+        PipelineWaitStrategy.BLOCKING);
+
+    pipeline.publish(payment(0));
+    assertThat(handler.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+    for (int i = 1; i <= 5; i++) {
+      pipeline.publish(payment(i));
+    }
+    handler.release.countDown();
+
+    handler.take(6);
+    assertThat(handler.endOfBatch).containsExactly(true, false, false, false, true, true);
+  }
+
+  @Test
+  void exposesLagPerHandler() throws Exception {
+    RecordingHandler slow = new RecordingHandler(new CountDownLatch(1));
+    RecordingHandler fast = new RecordingHandler();
+    pipeline = new PaymentPipeline(handlers("slow", slow, "fast", fast), 16, 4,
+        PipelineWaitStrategy.BLOCKING);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    pipeline.bindTo(registry);
+
+    pipeline.publish(payment(0));
+    assertThat(slow.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+    pipeline.publish(payment(1));
+    pipeline.publish(payment(2));
+    fast.take(3);
+    awaitLag("fast", 0);
+
+    assertThat(pipeline.lag("slow")).isEqualTo(3);
+    assertThat(registry.get("payment.pipeline.lag").tag("handler", "slow").gauge().value())
+        .isEqualTo(3.0);
+    assertThat(registry.get("payment.pipeline.lag").tag("handler", "fast").gauge().value())
+        .isZero();
+
+    slow.release.countDown();
+    slow.take(3);
+    awaitLag("slow", 0);
+  }
+
+  @Test
+  void failingHandlerIsCountedAndCarriesOn() throws Exception {
+    RecordingHandler handler = new RecordingHandler();
+    PaymentPipeline.Handler failing = (payment, endOfBatch) -> {
+      if (payment.amount() == 1) {
+        throw new IllegalStateException("boom");
+      }
+      handler.onPayment(payment, endOfBatch);
+    };
+    pipeline = new PaymentPipeline(Map.of("failing", failing), 16, 4,
+        PipelineWaitStrategy.BLOCKING);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    pipeline.bindTo(registry);
+
+    pipeline.publish(payment(0));
+    pipeline.publish(payment(1));
+    pipeline.publish(payment(2));
+
+    assertThat(handler.take(2)).extracting(Payment::amount).containsExactly(0, 2);
+    assertThat(registry.get("payment.pipeline.failures").tag("handler", "failing")
+        .functionCounter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void closeFinishesWhatWasPublished() throws Exception {
+    RecordingHandler handler = new RecordingHandler(new CountDownLatch(1));
+    pipeline = new PaymentPipeline(Map.of("handler", handler), 16, 4,
+        PipelineWaitStrategy.SLEEPING);
+
+    pipeline.publish(payment(0));
+    assertThat(handler.blocked.await(5, TimeUnit.SECONDS)).isTrue();
+    pipeline.publish(payment(1));
+    pipeline.publish(payment(2));
+    handler.release.countDown();
+    pipeline.close();
+
+    assertThat(handler.received).hasSize(3);
+    pipeline.publish(payment(3));
+    assertThat(handler.received).hasSize(3);
+  }
+
+  private void awaitLag(String handler, long lag) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (pipeline.lag(handler) != lag && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(pipeline.lag(handler)).as(handler).isEqualTo(lag);
+  }
+
+  private static Map<String, PaymentPipeline.Handler> handlers(
+      String firstName, PaymentPipeline.Handler first,
+      String secondName, PaymentPipeline.Handler second) {
+    Map<String, PaymentPipeline.Handler> handlers = new LinkedHashMap<>();
+    handlers.put(firstName, first);
+    handlers.put(secondName, second);
+    return handlers;
+  }
+
+  private static Payment payment(int amount) {
+    return new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "4242", 12, 2035, "USD",
+        amount);
+  }
+
+  /**
+   * Records payments and their end-of-batch flags. Handling blocks until {@code release} is
+   * counted down.
+   */
+  private static class RecordingHandler implements PaymentPipeline.Handler {
+    private final BlockingQueue<Payment> received = new LinkedBlockingQueue<>();
+    private final List<Boolean> endOfBatch = new ArrayList<>();
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private final CountDownLatch release;
+
+    RecordingHandler() {
+      this(new CountDownLatch(0));
+    }
+
+    RecordingHandler(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void onPayment(Payment payment, boolean endOfBatch) throws InterruptedException {
+      blocked.countDown();
+      release.await();
+      this.endOfBatch.add(endOfBatch);
+      received.add(payment);
+    }
+
+    List<Payment> take(int count) throws InterruptedException {
+      List<Payment> taken = new ArrayList<>();
+      for (int i = 0; i < count; i++) {
+        Payment next = received.poll(5, TimeUnit.SECONDS);
+        assertThat(next).as("payment %d of %d", i + 1, count).isNotNull();
+        taken.add(next);
+      }
+      return taken;
+    }
+  }
+}
@@ -0,0 +1,174 @@
+package com.checkout.payment.gateway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.checkout.payment.gateway.application.PaymentStatistics.Tally;
+import com.checkout.payment.gateway.application.PaymentStatistics.Window;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PaymentStatisticsTest {
+  // starts mid-minute so that minute boundaries are exercised
+  private final AtomicLong millis = new AtomicLong(1_700_000_030_000L);
+  private final PaymentStatistics statistics =
+      new PaymentStatistics(new FixedSupportedCurrencies(), new MutableClock(), false);
+
+  @Test
+  void countsAndSumsByStatusAndCurrency() {
+    statistics.record(PaymentStatus.AUTHORIZED, "USD", 100);
+    statistics.record(PaymentStatus.AUTHORIZED, "USD", 250);
+    statistics.record(PaymentStatus.DECLINED, "GBP", 40);
+
+    assertThat(statistics.snapshot().get(Window.ONE_MINUTE)).containsExactlyInAnyOrder(
+        new Tally(PaymentStatus.AUTHORIZED, "USD", 2, 350),
+        new Tally(PaymentStatus.DECLINED, "GBP", 1, 40));
+  }
+
+  @Test
+  void countsUnsupportedCurrenciesUnderOther() {
+    statistics.record(PaymentStatus.REJECTED, "XYZ", 5);
+    statistics.record(PaymentStatus.REJECTED, null, 7);
+    statistics.record(PaymentStatus.AUTHORIZED, "usd", 1);
+
+    assertThat(statistics.snapshot().get(Window.TOTAL)).containsExactlyInAnyOrder(
+        new Tally(PaymentStatus.AUTHORIZED, "USD", 1, 1),
+        new Tally(PaymentStatus.REJECTED, PaymentStatistics.OTHER_CURRENCY, 2, 12));
+  }
+
+  @Test
+  void windowsRollOffOlderPayments() {
+    statistics.record(PaymentStatus.AUTHORIZED, "USD", 1);
+    advanceSeconds(90);
+    statistics.record(PaymentStatus.AUTHORIZED, "USD", 10);
+    advanceSeconds(240);
+    statistics.record(PaymentStatus.AUTHORIZED, "USD", 100);
+
+    Map<Window, List<Tally>> windows = statistics.snapshot();
+
+    assertThat(windows.get(Window.ONE_MINUTE))
+        .containsExactly(new Tally(PaymentStatus.AUTHORIZED, "USD", 1, 100));
+    assertThat(windows.get(Window.FIVE_MINUTES))
+        .containsExactly(new Tally(PaymentStatus.AUTHORIZED, "USD", 2, 110));
+    assertThat(windows.get(Window.ONE_HOUR))
+        .containsExactly(new Tally(PaymentStatus.AUTHORIZED, "USD", 3, 111));
+    assertThat(windows.get(Window.TOTAL))
+        .containsExactly(new Tally(PaymentStatus.AUTHORIZED, "USD", 3, 111));
+  }
+
+  @Test
+  void windowStartsAtItsFirstSecond() {
+    statistics.record(PaymentStatus.DECLINED, "EUR", 1);
+    advanceSeconds(1);
+    statistics.record(PaymentStatus.DECLINED, "EUR", 2);
+    advanceSeconds(58);
+
+    assertThat(statistics.snapshot().get(Window.ONE_MINUTE))
+        .containsExactly(new Tally(PaymentStatus.DECLINED, "EUR", 2, 3));
+
+    advanceSeconds(1);
+
+    assertThat(statistics.snapshot().get(Window.ONE_MINUTE))
+        .containsExactly(new Tally(PaymentStatus.DECLINED, "EUR", 1, 2));
+  }
+
+  @Test
+  void idlePeriodsLongerThanTheRingsEmptyEveryWindowButTotal() {
+    statistics.record(PaymentStatus.AUTHORIZED, "GBP", 5);
+    advanceSeconds(10);
+    statistics.record(PaymentStatus.AUTHORIZED, "GBP", 5);
+    advanceSeconds(2 * 3600);
+
+    Map<Window, List<Tally>> windows = statistics.snapshot();
+
+    assertThat(windows.get(Window.ONE_MINUTE)).isEmpty();
+    assertThat(windows.get(Window.FIVE_MINUTES)).isEmpty();
+    assertThat(windows.get(Window.ONE_HOUR)).isEmpty();
+    assertThat(windows.get(Window.TOTAL))
+        .containsExactly(new Tally(PaymentStatus.AUTHORIZED, "GBP", 2, 10));
+  }
+
+  @Test
+  void hourWindowKeepsMinutesWithinTheLastHour() {
+    statistics.record(PaymentStatus.AUTHORIZED, "USD", 1);
+    advanceSeconds(40 * 60);
+    statistics.record(PaymentStatus.AUTHORIZED, "USD", 2);
+    advanceSeconds(30 * 60);
+
+    assertThat(statistics.snapshot().get(Window.ONE_HOUR))
+        .containsExactly(new Tally(PaymentStatus.AUTHORIZED, "USD", 1, 2));
+  }
+
+  @Test
+  void concurrentRecordsAreAllCounted() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        tasks.add(executor.submit(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            statistics.record(PaymentStatus.AUTHORIZED, "USD", 2);
+            if (i % 1_000 == 0) {
+              advanceSeconds(1);
+            }
+          }
+        }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(statistics.snapshot().get(Window.TOTAL))
+        .containsExactly(new Tally(PaymentStatus.AUTHORIZED, "USD", 80_000, 160_000));
+  }
+
+  private void advanceSeconds(long seconds) {
+    millis.addAndGet(TimeUnit.SECONDS.toMillis(seconds));
+    statistics.tick();
+  }
+
+  private final class MutableClock extends Clock {
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis.get());
+    }
+  }
+
+  private static class FixedSupportedCurrencies implements SupportedCurrencies {
+    @Override
+    public boolean isSupported(String currency) {
+      return allowed().contains(currency);
+    }
+
+    @Override
+    public Set<String> allowed() {
+      return Set.of("USD", "EUR", "GBP");
+    }
+  }
+}
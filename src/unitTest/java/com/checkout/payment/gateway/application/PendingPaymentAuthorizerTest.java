@@ -0,0 +1,166 @@
+package com.checkout.payment.gateway.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
+import com.checkout.payment.gateway.domain.validation.PaymentRequestValidator;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.checkout.payment.gateway.exception.PaymentValidationException;
+import com.checkout.payment.gateway.infrastructure.repository.InMemoryPaymentsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PendingPaymentAuthorizerTest {
+  private static final int NEXT_YEAR = YearMonth.now().plusYears(1).getYear();
+
+  private final InMemoryPaymentsRepository repository = new InMemoryPaymentsRepository(true);
+  private PendingPaymentAuthorizer authorizer;
+
+  @AfterEach
+  void close() throws InterruptedException {
+    authorizer.close();
+  }
+
+  @Test
+  void storesThePaymentAsPendingThenAsItsOutcome() throws Exception {
+    CountDownLatch bank = new CountDownLatch(1);
+    authorizer = authorizer(request -> {
+      await(bank);
+      return true;
+    }, 1, 10);
+
+    Payment pending = authorizer.submit(request("4242424242424242"));
+
+    assertThat(pending.status()).isEqualTo(PaymentStatus.PENDING);
+    assertThat(repository.findById(pending.id())).contains(pending);
+    bank.countDown();
+    assertThat(awaitOutcome(pending.id())).isEqualTo(PaymentStatus.AUTHORIZED);
+    assertThat(authorizer.pending()).isZero();
+  }
+
+  @Test
+  void storesBankFailuresAsFailed() throws Exception {
+    authorizer = authorizer(request -> {
+      throw new BankUnavailableException("Bank unavailable");
+    }, 1, 10);
+
+    Payment pending = authorizer.submit(request("4242424242424242"));
+
+    assertThat(awaitOutcome(pending.id())).isEqualTo(PaymentStatus.FAILED);
+  }
+
+  @Test
+  void storesPaymentsStillQueuedOnCloseAsFailed() throws Exception {
+    CountDownLatch bank = new CountDownLatch(1);
+    authorizer = authorizer(request -> {
+      await(bank);
+      return true;
+    }, 1, 10);
+
+    Payment inFlight = authorizer.submit(request("4242424242424242"));
+    Payment queued = authorizer.submit(request("4242424242424242"));
+    authorizer.close();
+
+    assertThat(repository.findById(queued.id()).orElseThrow().status())
+        .isEqualTo(PaymentStatus.FAILED);
+    assertThat(awaitOutcome(inFlight.id())).isEqualTo(PaymentStatus.AUTHORIZED);
+    assertThat(authorizer.pending()).isZero();
+  }
+
+  @Test
+  void turnsPaymentsAwayOnceCapacityIsPending() {
+    CountDownLatch bank = new CountDownLatch(1);
+    authorizer = authorizer(request -> {
+      await(bank);
+      return true;
+    }, 1, 2);
+
+    authorizer.submit(request("4242424242424242"));
+    authorizer.submit(request("4242424242424242"));
+
+    assertThatThrownBy(() -> authorizer.submit(request("4242424242424242")))
+        .isInstanceOf(BankUnavailableException.class);
+    assertThat(stored()).isEqualTo(2);
+    bank.countDown();
+  }
+
+  @Test
+  void invalidPaymentsAreNeitherStoredNorCounted() {
+    authorizer = authorizer(request -> true, 1, 1);
+
+    assertThatThrownBy(() -> authorizer.submit(request("42")))
+        .isInstanceOf(PaymentValidationException.class);
+    assertThat(stored()).isZero();
+    assertThat(authorizer.pending()).isZero();
+  }
+
+  private PendingPaymentAuthorizer authorizer(BankClient bankClient, int workers, int capacity) {
+    PaymentGatewayService paymentGatewayService = new PaymentGatewayService(
+        repository,
+        bankClient,
+        UUID::randomUUID,
+        new PaymentRequestValidator(new AnySupportedCurrencies()),
+        new PaymentMetrics(new SimpleMeterRegistry(), new AnySupportedCurrencies()),
+        new PaymentStatistics(new AnySupportedCurrencies()),
+        new PaymentPipeline(Map.of(), 16, 16, PipelineWaitStrategy.BLOCKING)
+    );
+    return new PendingPaymentAuthorizer(paymentGatewayService, workers, capacity,
+        Duration.ofMillis(100));
+  }
+
+  private PaymentStatus awaitOutcome(UUID id) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    PaymentStatus status;
+    do {
+      status = repository.findById(id).orElseThrow().status();
+      if (status != PaymentStatus.PENDING) {
+        return status;
+      }
+      Thread.sleep(5);
+    } while (System.nanoTime() < deadline);
+    return status;
+  }
+
+  private long stored() {
+    return repository.stream(new PaymentQuery(null, null, null, null, null, null, null, null,
+        Integer.MAX_VALUE)).count();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static PaymentRequest request(String cardNumber) {
+    return new PaymentRequest(cardNumber, 12, NEXT_YEAR, "USD", 100, "123");
+  }
+
+  private static class AnySupportedCurrencies implements SupportedCurrencies {
+    @Override
+    public boolean isSupported(String currency) {
+      return true;
+    }
+
+    @Override
+    public Set<String> allowed() {
+      return Set.of("USD", "EUR", "GBP");
+    }
+  }
+}
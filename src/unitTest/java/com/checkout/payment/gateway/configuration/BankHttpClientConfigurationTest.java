@@ -0,0 +1,61 @@
+package com.checkout.payment.gateway.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.checkout.payment.gateway.infrastructure.bank.RestTemplateBankClient;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+class BankHttpClientConfigurationTest {
+  private final BankHttpClientConfiguration configuration = new BankHttpClientConfiguration();
+  private final BankConfigurationProperties properties = new BankConfigurationProperties();
+  private final AtomicInteger requests = new AtomicInteger();
+  private HttpServer bank;
+  private CloseableHttpClient httpClient;
+
+  @BeforeEach
+  void startBank() throws IOException {
+    bank = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    bank.createContext("/payments", exchange -> {
+      requests.incrementAndGet();
+      exchange.getRequestBody().readAllBytes();
+      exchange.getResponseHeaders().add("Retry-After", "1");
+      exchange.sendResponseHeaders(503, -1);
+      exchange.close();
+    });
+    bank.start();
+    httpClient = configuration.bankHttpClient(
+        configuration.bankConnectionManager(properties), properties);
+  }
+
+  @AfterEach
+  void stopBank() throws IOException {
+    httpClient.close();
+    bank.stop(0);
+  }
+
+  @Test
+  void bankUnavailableIsNotRetried() {
+    RestTemplate restTemplate =
+        new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+    RestTemplateBankClient client = new RestTemplateBankClient(restTemplate,
+        "http://localhost:" + bank.getAddress().getPort());
+
+    assertThatThrownBy(() -> client.authorize(
+        new PaymentRequest("4242424242424242", 12, 2035, "USD", 100, "123")))
+        .isInstanceOf(BankUnavailableException.class);
+
+    assertThat(requests.get()).isEqualTo(1);
+  }
+}
@@ -25,4 +25,16 @@ class ConfiguredSupportedCurrenciesTest {
 
     assertThat(supportedCurrencies.isSupported(null)).isFalse();
   }
+
+  @Test
+  void matchesCaseInsensitivelyAndRejectsNonCodes() {
+    PaymentConfigurationProperties properties = new PaymentConfigurationProperties();
+    ConfiguredSupportedCurrencies supportedCurrencies = new ConfiguredSupportedCurrencies(properties);
+
+    assertThat(supportedCurrencies.isSupported("gbp")).isTrue();
+    assertThat(supportedCurrencies.isSupported("uSd")).isTrue();
+    assertThat(supportedCurrencies.isSupported("US")).isFalse();
+    assertThat(supportedCurrencies.isSupported("USDX")).isFalse();
+    assertThat(supportedCurrencies.isSupported("U$D")).isFalse();
+  }
 }
@@ -15,4 +15,10 @@ class PaymentConfigurationPropertiesTest {
 
     assertThat(properties.getSupportedCurrencies()).containsExactly("USD", "JPY");
   }
+
+  @Test
+  void repositoryIsBoundedByDefault() {
+    assertThat(new PaymentConfigurationProperties().getRepository().getMaxEntries())
+        .isEqualTo(1_000_000);
+  }
 }
@@ -0,0 +1,139 @@
+package com.checkout.payment.gateway.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.api.model.CreatePaymentRequest;
+import com.checkout.payment.gateway.api.model.FailedPaymentResponse;
+import com.checkout.payment.gateway.api.model.PaymentResponse;
+import com.checkout.payment.gateway.api.model.PaymentResult;
+import com.checkout.payment.gateway.api.model.RejectedPaymentResponse;
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentRequest;
+import com.checkout.payment.gateway.infrastructure.bank.model.BankPaymentResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class PaymentJsonModuleTest {
+  private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+  private final ObjectMapper streaming = Jackson2ObjectMapperBuilder.json()
+      .modulesToInstall(new PaymentJsonModule())
+      .build();
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "{\"card_number\":\"2222405343248877\",\"expiry_month\":4,\"expiry_year\":2030,"
+          + "\"currency\":\"GBP\",\"amount\":100,\"cvv\":\"123\"}",
+      "{\"cvv\":\"123\",\"amount\":100,\"currency\":\"GBP\",\"expiry_year\":2030,"
+          + "\"expiry_month\":4,\"card_number\":\"2222405343248877\"}",
+      "{\"card_number\":2222405343248877,\"expiry_month\":\"4\",\"expiry_year\":2030.0,"
+          + "\"currency\":\"GBP\",\"amount\":\"100\",\"cvv\":123}",
+      "{\"card_number\":null,\"expiry_month\":null,\"currency\":\"GBP\"}",
+      "{\"card_number\":\"2222405343248877\",\"unknown\":{\"nested\":[1,2,3]},\"amount\":7}",
+      "{\"amount\":1,\"amount\":2}",
+      "{}"
+  })
+  void readsCreatePaymentRequestLikeReflectiveJackson(String json) throws Exception {
+    CreatePaymentRequest expected = reflective.readValue(json, CreatePaymentRequest.class);
+
+    CreatePaymentRequest actual = streaming.readValue(json, CreatePaymentRequest.class);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "[]",
+      "\"card\"",
+      "{\"card_number\":{\"a\":1}}",
+      "{\"amount\":\"lots\"}",
+      "{\"amount\":99999999999}"
+  })
+  void rejectsMalformedCreatePaymentRequestLikeReflectiveJackson(String json) {
+    assertThatThrownBy(() -> reflective.readValue(json, CreatePaymentRequest.class))
+        .isInstanceOf(JsonProcessingException.class);
+    assertThatThrownBy(() -> streaming.readValue(json, CreatePaymentRequest.class))
+        .isInstanceOf(JsonProcessingException.class);
+  }
+
+  @Test
+  void readsBatchOfCreatePaymentRequestsWithNullItems() throws Exception {
+    String json = "[{\"amount\":1},null,{\"amount\":2}]";
+    TypeReference<List<CreatePaymentRequest>> type = new TypeReference<>() {
+    };
+
+    assertThat(streaming.readValue(json, type)).isEqualTo(reflective.readValue(json, type));
+  }
+
+  @Test
+  void writesPaymentResponseLikeReflectiveJackson() throws Exception {
+    PaymentResponse response = new PaymentResponse(UUID.randomUUID(), "Authorized", "8877", 4,
+        2030, "GBP", 100);
+
+    assertThat(streaming.writeValueAsString(response))
+        .isEqualTo(reflective.writeValueAsString(response));
+  }
+
+  @Test
+  void writesPaymentResponseWithNullsLikeReflectiveJackson() throws Exception {
+    PaymentResponse response = new PaymentResponse(null, null, null, 0, 0, null, 0);
+
+    assertThat(streaming.writeValueAsString(response))
+        .isEqualTo(reflective.writeValueAsString(response));
+  }
+
+  @Test
+  void writesUuidsWithLeadingZeros() throws Exception {
+    UUID id = new UUID(0x0000000100020003L, 0x0004000000000005L);
+    PaymentResponse response = new PaymentResponse(id, "Declined", "0001", 1, 2030, "USD", 1);
+
+    assertThat(streaming.readTree(streaming.writeValueAsString(response)).get("id").asText())
+        .isEqualTo("00000001-0002-0003-0004-000000000005")
+        .isEqualTo(id.toString());
+  }
+
+  @Test
+  void writesBatchResultsLikeReflectiveJackson() throws Exception {
+    List<PaymentResult> results = List.of(
+        new PaymentResponse(UUID.randomUUID(), "Authorized", "8877", 4, 2030, "GBP", 100),
+        new RejectedPaymentResponse("Rejected", "Validation failed", List.of()),
+        new FailedPaymentResponse("Failed", "BANK_ERROR", "Bank error"));
+
+    assertThat(streaming.writeValueAsString(results))
+        .isEqualTo(reflective.writeValueAsString(results));
+  }
+
+  @Test
+  void writesBankPaymentRequestLikeReflectiveJackson() throws Exception {
+    BankPaymentRequest request = new BankPaymentRequest("2222405343248877", "04/2030", "GBP", 100,
+        "123");
+    BankPaymentRequest withNulls = new BankPaymentRequest(null, null, null, null, null);
+
+    assertThat(streaming.writeValueAsString(request))
+        .isEqualTo(reflective.writeValueAsString(request));
+    assertThat(streaming.writeValueAsString(withNulls))
+        .isEqualTo(reflective.writeValueAsString(withNulls));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+      "{\"authorized\":true,\"authorization_code\":\"0bb07405-6d44-4b50-a8b3-8a0d4f1a7bce\"}",
+      "{\"authorization_code\":\"\",\"authorized\":false}",
+      "{\"authorized\":\"true\",\"extra\":[{}]}",
+      "{\"authorized\":null,\"authorization_code\":null}",
+      "{}"
+  })
+  void readsBankPaymentResponseLikeReflectiveJackson(String json) throws Exception {
+    BankPaymentResponse expected = reflective.readValue(json, BankPaymentResponse.class);
+
+    BankPaymentResponse actual = streaming.readValue(json, BankPaymentResponse.class);
+
+    assertThat(actual).isEqualTo(expected);
+  }
+}
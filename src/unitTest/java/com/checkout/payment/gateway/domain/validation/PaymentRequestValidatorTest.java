@@ -1,11 +1,17 @@
 package com.checkout.payment.gateway.domain.validation;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.checkout.payment.gateway.domain.model.PaymentRequest;
 import com.checkout.payment.gateway.domain.rules.SupportedCurrencies;
 import com.checkout.payment.gateway.exception.PaymentValidationException;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 
 class PaymentRequestValidatorTest {
@@ -44,6 +50,13 @@ class PaymentRequestValidatorTest {
         .isInstanceOf(PaymentValidationException.class);
   }
 
+  @Test
+  void rejectionCarriesNoStackTrace() {
+    assertThatThrownBy(() -> validator.validate(null))
+        .isInstanceOfSatisfying(PaymentValidationException.class,
+            ex -> assertThat(ex.getStackTrace()).isEmpty());
+  }
+
   @Test
   void nullCardNumberFails() {
     PaymentRequest request = new PaymentRequest(
@@ -209,4 +222,66 @@ class PaymentRequestValidatorTest {
     assertThatThrownBy(() -> validator.validate(request))
         .isInstanceOf(PaymentValidationException.class);
   }
+
+  @Test
+  void nonAsciiDigitsFail() {
+    PaymentRequest request = new PaymentRequest(
+        "\u0664\u0662\u0664\u0662424242424242",
+        12,
+        YearMonth.now().plusYears(1).getYear(),
+        "USD",
+        100,
+        "123"
+    );
+
+    assertThatThrownBy(() -> validator.validate(request))
+        .isInstanceOf(PaymentValidationException.class)
+        .hasMessage("Card number must be 14-19 digits")
+        .extracting("field").isEqualTo("card_number");
+  }
+
+  @Test
+  void expiryInCurrentMonthFailsAndNextMonthPasses() {
+    Clock clock = Clock.fixed(Instant.parse("2030-06-15T12:00:00Z"), ZoneOffset.UTC);
+    PaymentRequestValidator validator = new PaymentRequestValidator(supportedCurrencies, clock);
+
+    assertThatThrownBy(() -> validator.validate(expiringIn(2030, 6)))
+        .isInstanceOf(PaymentValidationException.class)
+        .hasMessage("Expiry date must be in the future")
+        .extracting("field").isEqualTo("expiry_year");
+    validator.validate(expiringIn(2030, 7));
+  }
+
+  @Test
+  void currentMonthIsRefreshedWhenClockEntersNextMonth() {
+    AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2030-06-30T23:59:59Z"));
+    Clock clock = new Clock() {
+      @Override
+      public ZoneId getZone() {
+        return ZoneOffset.UTC;
+      }
+
+      @Override
+      public Clock withZone(ZoneId zone) {
+        return this;
+      }
+
+      @Override
+      public Instant instant() {
+        return now.get();
+      }
+    };
+    PaymentRequestValidator validator = new PaymentRequestValidator(supportedCurrencies, clock);
+    validator.validate(expiringIn(2030, 7));
+
+    now.set(Instant.parse("2030-07-01T00:00:00Z"));
+
+    assertThatThrownBy(() -> validator.validate(expiringIn(2030, 7)))
+        .isInstanceOf(PaymentValidationException.class)
+        .hasMessage("Expiry date must be in the future");
+  }
+
+  private static PaymentRequest expiringIn(int year, int month) {
+    return new PaymentRequest("4242424242424242", month, year, "USD", 100, "123");
+  }
 }
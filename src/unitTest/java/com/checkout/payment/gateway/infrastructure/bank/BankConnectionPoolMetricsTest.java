@@ -0,0 +1,27 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.junit.jupiter.api.Test;
+
+class BankConnectionPoolMetricsTest {
+
+  @Test
+  void registersPoolGauges() {
+    PoolingHttpClientConnectionManager connectionManager =
+        PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(50)
+            .build();
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    new BankConnectionPoolMetrics(connectionManager).bindTo(registry);
+
+    assertThat(registry.get("bank.http.pool.max").gauge().value()).isEqualTo(50);
+    assertThat(registry.get("bank.http.pool.leased").gauge().value()).isZero();
+    assertThat(registry.get("bank.http.pool.pending").gauge().value()).isZero();
+    assertThat(registry.get("bank.http.pool.available").gauge().value()).isZero();
+  }
+}
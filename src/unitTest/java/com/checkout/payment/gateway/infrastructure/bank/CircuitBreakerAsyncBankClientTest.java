@@ -0,0 +1,57 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.port.AsyncBankClient;
+import com.checkout.payment.gateway.exception.BankClientException;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerAsyncBankClientTest {
+  private static final PaymentRequest REQUEST =
+      new PaymentRequest("4242424242424242", 12, 2035, "USD", 100, "123");
+
+  private final CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("bank");
+  private final AsyncBankClient delegate = mock(AsyncBankClient.class);
+  private final CircuitBreakerAsyncBankClient client =
+      new CircuitBreakerAsyncBankClient(delegate, circuitBreaker);
+
+  @Test
+  void passesResultThroughWhenClosed() throws Exception {
+    when(delegate.authorize(any())).thenReturn(CompletableFuture.completedFuture(true));
+
+    assertThat(client.authorize(REQUEST).get()).isTrue();
+    assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void unwrapsBankFailures() {
+    when(delegate.authorize(any())).thenReturn(
+        CompletableFuture.failedFuture(new BankClientException("Bank error")));
+
+    assertThatThrownBy(() -> client.authorize(REQUEST).get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(BankClientException.class);
+    assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void failsFastWhenOpen() {
+    circuitBreaker.transitionToOpenState();
+
+    assertThatThrownBy(() -> client.authorize(REQUEST).get())
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(BankUnavailableException.class);
+    verify(delegate, never()).authorize(any());
+  }
+}
@@ -0,0 +1,74 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.domain.port.BankClient;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerBankClientTest {
+  private static final PaymentRequest REQUEST =
+      new PaymentRequest("4242424242424242", 12, 2035, "USD", 100, "123");
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(
+      CircuitBreakerConfig.custom()
+          .slidingWindowSize(2)
+          .minimumNumberOfCalls(2)
+          .failureRateThreshold(50)
+          .permittedNumberOfCallsInHalfOpenState(1)
+          .build());
+  private final CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker("bank");
+
+  @Test
+  void opensAfterFailuresAndFailsFastWithoutCallingBank() {
+    BankClient delegate = mock(BankClient.class);
+    when(delegate.authorize(any())).thenThrow(new BankUnavailableException("Bank unavailable"));
+    CircuitBreakerBankClient client = new CircuitBreakerBankClient(delegate, circuitBreaker);
+
+    assertThatThrownBy(() -> client.authorize(REQUEST)).isInstanceOf(BankUnavailableException.class);
+    assertThatThrownBy(() -> client.authorize(REQUEST)).isInstanceOf(BankUnavailableException.class);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+    assertThatThrownBy(() -> client.authorize(REQUEST))
+        .isInstanceOf(BankUnavailableException.class)
+        .hasCauseInstanceOf(CallNotPermittedException.class);
+    verify(delegate, times(2)).authorize(any());
+  }
+
+  @Test
+  void closesAgainWhenHalfOpenProbeSucceeds() {
+    BankClient delegate = mock(BankClient.class);
+    when(delegate.authorize(any())).thenReturn(true);
+    CircuitBreakerBankClient client = new CircuitBreakerBankClient(delegate, circuitBreaker);
+    circuitBreaker.transitionToOpenState();
+    circuitBreaker.transitionToHalfOpenState();
+
+    assertThat(client.authorize(REQUEST)).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+  }
+
+  @Test
+  void countsStateTransitions() {
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    new BankCircuitBreakerMetrics(circuitBreakerRegistry).bindTo(registry);
+
+    circuitBreaker.transitionToOpenState();
+
+    assertThat(registry.get("bank.circuit-breaker.transitions")
+        .tag("from", "CLOSED").tag("to", "OPEN").counter().count()).isEqualTo(1);
+    assertThat(registry.get("resilience4j.circuitbreaker.state")
+        .tag("state", "open").gauge().value()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,135 @@
+package com.checkout.payment.gateway.infrastructure.bank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.domain.model.PaymentRequest;
+import com.checkout.payment.gateway.exception.BankClientException;
+import com.checkout.payment.gateway.exception.BankUnavailableException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HttpClientAsyncBankClientTest {
+  private HttpServer bank;
+  private final AtomicReference<String> requestBody = new AtomicReference<>();
+  private volatile int responseStatus;
+  private volatile String responseBody;
+
+  @BeforeEach
+  void startBank() throws IOException {
+    bank = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    bank.createContext("/payments", exchange -> {
+      requestBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+      byte[] body = responseBody.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().add("Content-Type", "application/json");
+      exchange.sendResponseHeaders(responseStatus, body.length == 0 ? -1 : body.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(body);
+      }
+    });
+    bank.start();
+  }
+
+  @AfterEach
+  void stopBank() {
+    bank.stop(0);
+  }
+
+  @Test
+  void authorizeReturnsResponseWhenOk() {
+    respondWith(200, "{\"authorized\":true,\"authorization_code\":\"abc\"}");
+
+    boolean authorized = client(baseUrl()).authorize(request()).join();
+
+    assertThat(authorized).isTrue();
+    assertThat(requestBody.get())
+        .contains("\"card_number\":\"4242424242424242\"")
+        .contains("\"expiry_date\":\"12/2035\"");
+  }
+
+  @Test
+  void authorizeReturnsDeclinedWhenNotAuthorized() {
+    respondWith(200, "{\"authorized\":false,\"authorization_code\":\"\"}");
+
+    boolean authorized = client(baseUrl()).authorize(request()).join();
+
+    assertThat(authorized).isFalse();
+  }
+
+  @Test
+  void authorizeFailsWithUnavailableOn503() {
+    respondWith(503, "{}");
+
+    assertThatThrownBy(() -> client(baseUrl()).authorize(request()).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(BankUnavailableException.class);
+  }
+
+  @Test
+  void authorizeFailsWithClientExceptionOn400() {
+    respondWith(400, "{\"error_message\":\"bad\"}");
+
+    assertThatThrownBy(() -> client(baseUrl()).authorize(request()).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(BankClientException.class);
+  }
+
+  @Test
+  void authorizeFailsWithClientExceptionOnEmptyBody() {
+    respondWith(204, "");
+
+    assertThatThrownBy(() -> client(baseUrl()).authorize(request()).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(BankClientException.class);
+  }
+
+  @Test
+  void authorizeFailsWithUnavailableWhenBankUnreachable() {
+    String baseUrl = baseUrl();
+    bank.stop(0);
+
+    assertThatThrownBy(() -> client(baseUrl).authorize(request()).join())
+        .isInstanceOf(CompletionException.class)
+        .hasCauseInstanceOf(BankUnavailableException.class);
+  }
+
+  private void respondWith(int status, String body) {
+    responseStatus = status;
+    responseBody = body;
+  }
+
+  private String baseUrl() {
+    return "http://localhost:" + bank.getAddress().getPort();
+  }
+
+  private HttpClientAsyncBankClient client(String baseUrl) {
+    return new HttpClientAsyncBankClient(
+        HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build(),
+        new ObjectMapper(),
+        baseUrl,
+        Duration.ofSeconds(5)
+    );
+  }
+
+  private PaymentRequest request() {
+    return new PaymentRequest(
+        "4242424242424242",
+        12,
+        2035,
+        "USD",
+        100,
+        "123"
+    );
+  }
+}
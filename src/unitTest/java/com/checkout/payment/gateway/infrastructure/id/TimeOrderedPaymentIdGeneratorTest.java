@@ -0,0 +1,105 @@
+package com.checkout.payment.gateway.infrastructure.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedPaymentIdGeneratorTest {
+  private static final Instant NOW = Instant.parse("2025-01-15T10:00:00.123Z");
+
+  @Test
+  void producesVersion7UuidsCarryingTheTimestamp() {
+    TimeOrderedPaymentIdGenerator generator =
+        new TimeOrderedPaymentIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    UUID id = generator.nextId();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+  }
+
+  @Test
+  void idsIncreaseWithinTheSameMillisecond() {
+    TimeOrderedPaymentIdGenerator generator =
+        new TimeOrderedPaymentIdGenerator(Clock.fixed(NOW, ZoneOffset.UTC));
+
+    UUID previous = generator.nextId();
+    for (int i = 0; i < 10_000; i++) {
+      UUID next = generator.nextId();
+      assertThat(next).isGreaterThan(previous);
+      previous = next;
+    }
+  }
+
+  @Test
+  void idsKeepIncreasingWhenClockStepsBack() {
+    MutableClock clock = new MutableClock(NOW);
+    TimeOrderedPaymentIdGenerator generator = new TimeOrderedPaymentIdGenerator(clock);
+
+    UUID before = generator.nextId();
+    clock.instant = NOW.minusSeconds(5);
+    UUID after = generator.nextId();
+
+    assertThat(after).isGreaterThan(before);
+  }
+
+  @Test
+  void concurrentCallersGetUniqueIds() throws Exception {
+    TimeOrderedPaymentIdGenerator generator = new TimeOrderedPaymentIdGenerator();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<List<UUID>>> batches = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        batches.add(executor.submit(() -> {
+          List<UUID> ids = new ArrayList<>();
+          for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+          }
+          return ids;
+        }));
+      }
+      Set<Long> timestampsAndSequences = new HashSet<>();
+      for (Future<List<UUID>> batch : batches) {
+        batch.get().forEach(id -> timestampsAndSequences.add(id.getMostSignificantBits()));
+      }
+      assertThat(timestampsAndSequences).hasSize(80_000);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+    private Instant instant;
+
+    MutableClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    @Override
+    public ZoneOffset getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(java.time.ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,160 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class InMemoryPaymentsRepositoryTest {
+  private final AtomicLong nanos = new AtomicLong();
+
+  @Test
+  void unboundedRepositoryKeepsEveryPayment() {
+    InMemoryPaymentsRepository repository = new InMemoryPaymentsRepository();
+
+    for (int i = 0; i < 1_000; i++) {
+      repository.save(payment());
+    }
+
+    assertThat(repository.size()).isEqualTo(1_000);
+    assertThat(repository.evictions()).isZero();
+  }
+
+  @Test
+  void unindexedRepositoryDoesNotList() {
+    InMemoryPaymentsRepository repository = new InMemoryPaymentsRepository();
+    repository.save(payment());
+
+    assertThatThrownBy(() -> repository.find(
+        new PaymentQuery(null, null, null, null, null, null, null, null, 10)))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void unindexedRepositoryStreamsMatchingPayments() {
+    InMemoryPaymentsRepository repository = new InMemoryPaymentsRepository();
+    Payment match = new Payment(UUID.randomUUID(), PaymentStatus.DECLINED, "0042", 12, 2035,
+        "GBP", 500);
+    repository.save(match);
+    repository.save(new Payment(UUID.randomUUID(), PaymentStatus.DECLINED, "0042", 12, 2035,
+        "USD", 500));
+    repository.save(payment());
+
+    assertThat(repository.stream(new PaymentQuery(PaymentStatus.DECLINED, "GBP", "0042", null,
+        null, null, null, null, Integer.MAX_VALUE))).containsExactly(match);
+  }
+
+  @Test
+  void boundedRepositoryEvictsBeyondMaxEntries() {
+    InMemoryPaymentsRepository repository =
+        new InMemoryPaymentsRepository(100, null, true, nanos::get);
+
+    List<Payment> saved = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      saved.add(payment());
+      repository.save(saved.get(i));
+    }
+    repository.cleanUp();
+
+    assertThat(repository.size()).isEqualTo(100);
+    assertThat(repository.evictions()).isEqualTo(900);
+    assertThat(saved.subList(0, 900))
+        .allSatisfy(payment -> assertThat(repository.findById(payment.id())).isEmpty());
+    assertThat(saved.subList(900, 1_000))
+        .allSatisfy(payment -> assertThat(repository.findById(payment.id())).contains(payment));
+  }
+
+  @Test
+  void boundedRepositoryEvictsTheFirstSavedHoweverOftenRead() {
+    InMemoryPaymentsRepository repository =
+        new InMemoryPaymentsRepository(2, null, false, nanos::get);
+    Payment first = payment();
+    Payment second = payment();
+    Payment third = payment();
+
+    repository.save(first);
+    for (int i = 0; i < 100; i++) {
+      repository.findById(first.id());
+    }
+    repository.save(second);
+    repository.save(first);
+    repository.save(third);
+
+    assertThat(repository.findById(first.id())).isEmpty();
+    assertThat(repository.findById(second.id())).contains(second);
+    assertThat(repository.findById(third.id())).contains(third);
+  }
+
+  @Test
+  void boundedRepositoryExpiresPaymentsOlderThanMaxAge() {
+    InMemoryPaymentsRepository repository =
+        new InMemoryPaymentsRepository(0, Duration.ofHours(1), true, nanos::get);
+    Payment payment = payment();
+    repository.save(payment);
+
+    assertThat(repository.findById(payment.id())).contains(payment);
+
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(61));
+
+    assertThat(repository.findById(payment.id())).isEmpty();
+  }
+
+  @Test
+  void evictedPaymentsLeaveTheIndex() {
+    InMemoryPaymentsRepository repository =
+        new InMemoryPaymentsRepository(100, null, true, nanos::get);
+
+    for (int i = 0; i < 1_000; i++) {
+      repository.save(payment());
+    }
+    repository.cleanUp();
+
+    assertThat(repository.indexSize()).isEqualTo(100);
+    assertThat(repository.find(
+        new PaymentQuery(null, "USD", null, null, null, null, null, null, 1_000)).payments())
+        .hasSize(100)
+        .allSatisfy(payment -> assertThat(repository.findById(payment.id())).contains(payment));
+  }
+
+  @Test
+  void expiredPaymentsLeaveTheIndex() {
+    InMemoryPaymentsRepository repository =
+        new InMemoryPaymentsRepository(0, Duration.ofHours(1), true, nanos::get);
+    repository.save(payment());
+
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(61));
+    repository.cleanUp();
+
+    assertThat(repository.indexSize()).isZero();
+  }
+
+  @Test
+  void exportsSizeAndEvictions() {
+    InMemoryPaymentsRepository repository =
+        new InMemoryPaymentsRepository(1, null, false, nanos::get);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    repository.bindTo(registry);
+
+    repository.save(payment());
+    repository.save(payment());
+    repository.cleanUp();
+
+    assertThat(registry.get("payment.repository.size").gauge().value()).isEqualTo(1);
+    assertThat(registry.get("payment.repository.evictions").functionCounter().count())
+        .isEqualTo(1);
+  }
+
+  private static Payment payment() {
+    return new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "4242", 12, 2035, "USD", 100);
+  }
+}
@@ -0,0 +1,182 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class JournalPaymentsRepositoryTest {
+  private static final int SEGMENT_BYTES = PaymentJournal.RECORD_BYTES * 10;
+
+  @TempDir
+  Path directory;
+
+  @ParameterizedTest
+  @EnumSource(FsyncPolicy.class)
+  void paymentsSurviveRestart(FsyncPolicy fsyncPolicy) throws IOException {
+    List<Payment> saved = new ArrayList<>();
+    try (JournalPaymentsRepository repository = open(fsyncPolicy)) {
+      for (int i = 0; i < 25; i++) {
+        Payment payment = payment(i);
+        repository.save(payment);
+        saved.add(payment);
+      }
+    }
+
+    try (JournalPaymentsRepository reopened = open(fsyncPolicy)) {
+      saved.forEach(payment -> assertThat(reopened.findById(payment.id())).contains(payment));
+    }
+  }
+
+  @Test
+  void rollsToNewSegmentWhenFull() throws IOException {
+    try (JournalPaymentsRepository repository = open(FsyncPolicy.GROUP_COMMIT)) {
+      for (int i = 0; i < 25; i++) {
+        repository.save(payment(i));
+      }
+    }
+
+    assertThat(segmentFiles()).hasSize(3);
+  }
+
+  @Test
+  void laterRecordForSameIdWinsOnReplay() throws IOException {
+    UUID id = UUID.randomUUID();
+    try (JournalPaymentsRepository repository = open(FsyncPolicy.PER_WRITE)) {
+      repository.save(new Payment(id, PaymentStatus.AUTHORIZED, "4242", 12, 2035, "USD", 100));
+      repository.save(new Payment(id, PaymentStatus.DECLINED, "4242", 12, 2035, "USD", 100));
+    }
+
+    try (JournalPaymentsRepository reopened = open(FsyncPolicy.PER_WRITE)) {
+      assertThat(reopened.findById(id).orElseThrow().status()).isEqualTo(PaymentStatus.DECLINED);
+    }
+  }
+
+  @Test
+  void paymentsLeftPendingAreStoredAsFailedOnReplay() throws IOException {
+    UUID leftPending = UUID.randomUUID();
+    UUID authorized = UUID.randomUUID();
+    try (JournalPaymentsRepository repository = open(FsyncPolicy.PER_WRITE)) {
+      repository.save(new Payment(leftPending, PaymentStatus.PENDING, "4242", 12, 2035, "USD",
+          100));
+      repository.save(new Payment(authorized, PaymentStatus.PENDING, "4242", 12, 2035, "USD",
+          100));
+      repository.save(new Payment(authorized, PaymentStatus.AUTHORIZED, "4242", 12, 2035, "USD",
+          100));
+    }
+
+    try (JournalPaymentsRepository reopened = open(FsyncPolicy.PER_WRITE)) {
+      assertThat(reopened.findById(leftPending).orElseThrow().status())
+          .isEqualTo(PaymentStatus.FAILED);
+      assertThat(reopened.findById(authorized).orElseThrow().status())
+          .isEqualTo(PaymentStatus.AUTHORIZED);
+    }
+    try (JournalPaymentsRepository reopenedAgain = open(FsyncPolicy.PER_WRITE)) {
+      assertThat(reopenedAgain.findById(leftPending).orElseThrow().status())
+          .isEqualTo(PaymentStatus.FAILED);
+    }
+  }
+
+  @Test
+  void replayedPaymentsAreListedUnderTheirLatestStatus() throws IOException {
+    UUID id = UUID.randomUUID();
+    try (JournalPaymentsRepository repository = open(FsyncPolicy.PER_WRITE)) {
+      repository.save(new Payment(id, PaymentStatus.AUTHORIZED, "4242", 12, 2035, "USD", 100));
+      repository.save(new Payment(id, PaymentStatus.DECLINED, "4242", 12, 2035, "USD", 100));
+    }
+
+    try (JournalPaymentsRepository reopened = open(FsyncPolicy.PER_WRITE)) {
+      assertThat(reopened.find(new PaymentQuery(PaymentStatus.DECLINED, null, "4242", null, null,
+          null, null, null, 10)).payments()).extracting(Payment::id).containsExactly(id);
+      assertThat(reopened.find(new PaymentQuery(PaymentStatus.AUTHORIZED, null, null, null, null,
+          null, null, null, 10)).payments()).isEmpty();
+    }
+  }
+
+  @Test
+  void tornRecordEndsReplayAndIsOverwritten() throws IOException {
+    Payment first = payment(1);
+    Payment second = payment(2);
+    try (JournalPaymentsRepository repository = open(FsyncPolicy.PER_WRITE)) {
+      repository.save(first);
+      repository.save(second);
+    }
+    try (FileChannel file = FileChannel.open(segmentFiles().get(0), StandardOpenOption.WRITE)) {
+      file.write(ByteBuffer.wrap(new byte[] {42}), PaymentJournal.RECORD_BYTES + 20);
+    }
+
+    Payment third = payment(3);
+    try (JournalPaymentsRepository reopened = open(FsyncPolicy.PER_WRITE)) {
+      assertThat(reopened.findById(first.id())).contains(first);
+      assertThat(reopened.findById(second.id())).isEmpty();
+      reopened.save(third);
+    }
+
+    try (JournalPaymentsRepository reopened = open(FsyncPolicy.PER_WRITE)) {
+      assertThat(reopened.findById(third.id())).contains(third);
+    }
+  }
+
+  @Test
+  void groupCommitSharesFlushesBetweenConcurrentSaves() throws Exception {
+    PaymentJournal journal = new PaymentJournal(directory, 1 << 20, FsyncPolicy.GROUP_COMMIT,
+        Duration.ofMillis(100));
+    try (JournalPaymentsRepository repository =
+             new JournalPaymentsRepository(new InMemoryPaymentsRepository(true), journal)) {
+      ExecutorService executor = Executors.newFixedThreadPool(8);
+      try {
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+          tasks.add(executor.submit(() -> {
+            for (int i = 0; i < 200; i++) {
+              repository.save(payment(i));
+            }
+          }));
+        }
+        for (Future<?> task : tasks) {
+          task.get();
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+
+      assertThat(journal.fsyncCount()).isBetween(1L, 1_600L);
+    }
+  }
+
+  private JournalPaymentsRepository open(FsyncPolicy fsyncPolicy) throws IOException {
+    return new JournalPaymentsRepository(new InMemoryPaymentsRepository(true),
+        new PaymentJournal(directory, SEGMENT_BYTES, fsyncPolicy, Duration.ofMillis(10)));
+  }
+
+  private List<Path> segmentFiles() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.sorted().toList();
+    }
+  }
+
+  private static Payment payment(int i) {
+    String[] currencies = {"USD", "EUR", "GBP"};
+    return new Payment(UUID.randomUUID(), PaymentStatus.values()[i % 3],
+        String.format("%04d", i % 10_000), i % 12 + 1, 2030 + i % 20, currencies[i % 3], i + 1);
+  }
+}
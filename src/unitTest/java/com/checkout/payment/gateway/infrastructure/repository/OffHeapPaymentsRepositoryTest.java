@@ -0,0 +1,147 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class OffHeapPaymentsRepositoryTest {
+
+  @Test
+  void roundTripsEveryField() {
+    OffHeapPaymentsRepository repository = new OffHeapPaymentsRepository();
+    Payment payment = new Payment(UUID.randomUUID(), PaymentStatus.DECLINED, "0042", 3, 2031,
+        "GBP", Integer.MAX_VALUE);
+
+    repository.save(payment);
+
+    assertThat(repository.findById(payment.id())).contains(payment);
+    assertThat(repository.findById(UUID.randomUUID())).isEmpty();
+  }
+
+  @Test
+  void listsPaymentsDecodedFromTheirSlots() {
+    OffHeapPaymentsRepository repository = new OffHeapPaymentsRepository(64, true);
+    Payment declined = new Payment(UUID.randomUUID(), PaymentStatus.DECLINED, "0042", 3, 2031,
+        "GBP", 700);
+    repository.save(declined);
+    repository.save(new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "0042", 3, 2031,
+        "GBP", 700));
+
+    assertThat(repository.find(new PaymentQuery(PaymentStatus.DECLINED, "GBP", "0042", null, null,
+        null, null, null, 10)).payments()).containsExactly(declined);
+  }
+
+  @Test
+  void streamsMatchingPaymentsWithoutTheIndex() {
+    OffHeapPaymentsRepository repository = new OffHeapPaymentsRepository(64, false);
+    List<Payment> saved = new ArrayList<>();
+    for (int i = 0; i < 1_000; i++) {
+      saved.add(payment(i));
+      repository.save(saved.get(i));
+    }
+
+    try (Stream<Payment> stream = repository.stream(new PaymentQuery(PaymentStatus.DECLINED,
+        "EUR", null, 100, null, null, null, null, Integer.MAX_VALUE))) {
+      assertThat(stream.toList()).containsExactlyInAnyOrderElementsOf(saved.stream()
+          .filter(payment -> payment.status() == PaymentStatus.DECLINED
+              && payment.currency().equals("EUR") && payment.amount() >= 100)
+          .toList());
+    }
+    assertThat(repository.stream(new PaymentQuery(null, null, null, null, null, null, null, null,
+        10))).hasSize(10);
+  }
+
+  @Test
+  void saveOverwritesExistingPayment() {
+    OffHeapPaymentsRepository repository = new OffHeapPaymentsRepository();
+    UUID id = UUID.randomUUID();
+
+    repository.save(new Payment(id, PaymentStatus.AUTHORIZED, "4242", 12, 2035, "USD", 100));
+    repository.save(new Payment(id, PaymentStatus.DECLINED, "4242", 12, 2035, "USD", 100));
+
+    assertThat(repository.findById(id).orElseThrow().status()).isEqualTo(PaymentStatus.DECLINED);
+    assertThat(repository.size()).isEqualTo(1);
+  }
+
+  @Test
+  void growsBeyondInitialCapacity() {
+    OffHeapPaymentsRepository repository = new OffHeapPaymentsRepository(64, false);
+    List<Payment> payments = new ArrayList<>();
+    for (int i = 0; i < 50_000; i++) {
+      Payment payment = payment(i);
+      payments.add(payment);
+      repository.save(payment);
+    }
+
+    assertThat(repository.size()).isEqualTo(50_000);
+    payments.forEach(payment -> assertThat(repository.findById(payment.id())).contains(payment));
+  }
+
+  @Test
+  void concurrentWritersAndReadersSeeConsistentPayments() throws Exception {
+    OffHeapPaymentsRepository repository = new OffHeapPaymentsRepository(64, false);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<?>> tasks = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        int thread = t;
+        tasks.add(executor.submit(() -> {
+          for (int i = 0; i < 10_000; i++) {
+            Payment payment = payment(thread * 10_000 + i);
+            repository.save(payment);
+            assertThat(repository.findById(payment.id())).contains(payment);
+          }
+        }));
+      }
+      for (Future<?> task : tasks) {
+        task.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(repository.size()).isEqualTo(80_000);
+  }
+
+  @Test
+  void rejectsNonNumericLastFour() {
+    OffHeapPaymentsRepository repository = new OffHeapPaymentsRepository();
+
+    assertThatThrownBy(() -> repository.save(
+        new Payment(UUID.randomUUID(), PaymentStatus.AUTHORIZED, "42a2", 12, 2035, "USD", 1)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void reportsBytesPerEntry() {
+    OffHeapPaymentsRepository repository = new OffHeapPaymentsRepository(40_000, false);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    repository.bindTo(registry);
+    for (int i = 0; i < 40_000; i++) {
+      repository.save(payment(i));
+    }
+
+    double bytesPerEntry = registry.get("payment.repository.bytes-per-entry").gauge().value();
+    assertThat(bytesPerEntry).isBetween((double) OffHeapPaymentsRepository.SLOT_BYTES,
+        OffHeapPaymentsRepository.SLOT_BYTES * 2.0);
+    assertThat(registry.get("payment.repository.size").gauge().value()).isEqualTo(40_000);
+  }
+
+  private static Payment payment(int i) {
+    String[] currencies = {"USD", "EUR", "GBP"};
+    return new Payment(UUID.randomUUID(), PaymentStatus.values()[i % 3],
+        String.format("%04d", i % 10_000), i % 12 + 1, 2030 + i % 20, currencies[i % 3], i + 1);
+  }
+}
@@ -0,0 +1,277 @@
+package com.checkout.payment.gateway.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.checkout.payment.gateway.domain.model.Payment;
+import com.checkout.payment.gateway.domain.model.PaymentStatus;
+import com.checkout.payment.gateway.domain.repository.PaymentCursor;
+import com.checkout.payment.gateway.domain.repository.PaymentPage;
+import com.checkout.payment.gateway.domain.repository.PaymentQuery;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PaymentIndexTest {
+  private final AtomicLong millis = new AtomicLong(1_700_000_000_000L);
+  private final Map<UUID, Payment> store = new ConcurrentHashMap<>();
+  private final PaymentIndex index = new PaymentIndex(new MutableClock());
+
+  @Test
+  void pagesThroughEveryPaymentNewestFirst() {
+    List<Payment> saved = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      saved.add(save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 100)));
+      millis.incrementAndGet();
+    }
+
+    List<Payment> listed = new ArrayList<>();
+    PaymentCursor cursor = null;
+    int pages = 0;
+    do {
+      PaymentPage page = find(query(null, null, null, cursor, 10));
+      listed.addAll(page.payments());
+      cursor = page.next();
+      pages++;
+    } while (cursor != null);
+
+    assertThat(pages).isEqualTo(3);
+    assertThat(listed).containsExactlyElementsOf(saved.reversed());
+  }
+
+  @Test
+  void lastPageHasNoCursor() {
+    save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 100));
+    save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 100));
+
+    PaymentPage page = find(query(null, null, null, null, 2));
+
+    assertThat(page.payments()).hasSize(2);
+    assertThat(page.next()).isNull();
+  }
+
+  @Test
+  void paymentsSavedAfterFirstPageDoNotShiftLaterPages() {
+    for (int i = 0; i < 4; i++) {
+      save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", i));
+      millis.incrementAndGet();
+    }
+    PaymentPage first = find(query(null, null, null, null, 2));
+
+    save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 99));
+    PaymentPage second = find(query(null, null, null, first.next(), 2));
+
+    assertThat(second.payments()).extracting(Payment::amount).containsExactly(1, 0);
+  }
+
+  @Test
+  void filtersByStatusCurrencyLastFourAndAmount() {
+    Payment match = save(payment(PaymentStatus.DECLINED, "GBP", "0001", 500));
+    save(payment(PaymentStatus.AUTHORIZED, "GBP", "0001", 500));
+    save(payment(PaymentStatus.DECLINED, "USD", "0001", 500));
+    save(payment(PaymentStatus.DECLINED, "GBP", "0002", 500));
+    save(payment(PaymentStatus.DECLINED, "GBP", "0001", 5_000));
+
+    PaymentPage page = find(new PaymentQuery(PaymentStatus.DECLINED, "GBP", "0001", 100, 1_000,
+        null, null, null, 10));
+
+    assertThat(page.payments()).containsExactly(match);
+  }
+
+  @Test
+  void unknownFilterValuesMatchNothing() {
+    save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 100));
+
+    assertThat(find(query(null, "JPY", null, null, 10)).payments()).isEmpty();
+    assertThat(find(query(PaymentStatus.REJECTED, null, null, null, 10)).payments()).isEmpty();
+    assertThat(find(query(null, null, "9999", null, 10)).payments()).isEmpty();
+  }
+
+  @Test
+  void timeWindowIncludesFromAndExcludesTo() {
+    Instant start = Instant.ofEpochMilli(millis.get());
+    Payment[] payments = new Payment[5];
+    for (int i = 0; i < payments.length; i++) {
+      payments[i] = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", i));
+      millis.addAndGet(1_000);
+    }
+
+    PaymentPage page = find(new PaymentQuery(null, null, null, null, null,
+        start.plusSeconds(1), start.plusSeconds(3), null, 10));
+
+    assertThat(page.payments()).containsExactly(payments[2], payments[1]);
+  }
+
+  @Test
+  void cursorOutsideTimeWindowYieldsEmptyPage() {
+    Instant start = Instant.ofEpochMilli(millis.get());
+    save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 1));
+    PaymentCursor old = new PaymentCursor(start.minusSeconds(60).toEpochMilli(), UUID.randomUUID());
+
+    PaymentPage page = find(new PaymentQuery(null, null, null, null, null,
+        start.minusSeconds(1), null, old, 10));
+
+    assertThat(page.payments()).isEmpty();
+    assertThat(page.next()).isNull();
+  }
+
+  @Test
+  void extremeInstantsAreClamped() {
+    Payment payment = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 1));
+
+    PaymentPage page = find(new PaymentQuery(null, null, null, null, null,
+        Instant.MIN, Instant.MAX, null, 10));
+
+    assertThat(page.payments()).containsExactly(payment);
+  }
+
+  @Test
+  void resavedPaymentIsReindexedAndKeepsItsPosition() {
+    Payment first = save(payment(PaymentStatus.DECLINED, "USD", "4242", 100));
+    millis.incrementAndGet();
+    Payment second = save(payment(PaymentStatus.DECLINED, "USD", "4242", 100));
+    millis.incrementAndGet();
+
+    Payment updated = save(new Payment(first.id(), PaymentStatus.AUTHORIZED, "4242", 12, 2035,
+        "USD", 100));
+
+    assertThat(find(query(PaymentStatus.DECLINED, null, null, null, 10)).payments())
+        .containsExactly(second);
+    assertThat(find(query(PaymentStatus.AUTHORIZED, null, null, null, 10)).payments())
+        .containsExactly(updated);
+    assertThat(find(query(null, null, null, null, 10)).payments())
+        .containsExactly(second, updated);
+    assertThat(index.size()).isEqualTo(2);
+  }
+
+  @Test
+  void removedPaymentsAreNotListed() {
+    Payment kept = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 1));
+    Payment removed = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 2));
+
+    index.remove(removed.id());
+
+    assertThat(find(query(null, "USD", "4242", null, 10)).payments()).containsExactly(kept);
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @Test
+  void skipsPaymentsTheStoreNoLongerHolds() {
+    Payment kept = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 1));
+    millis.incrementAndGet();
+    Payment evicted = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 2));
+    store.remove(evicted.id());
+
+    PaymentPage page = find(query(null, null, null, null, 1));
+
+    assertThat(page.payments()).containsExactly(kept);
+    assertThat(page.next()).isNull();
+  }
+
+  @Test
+  void timeOrderedIdsAreListedByTheirEmbeddedTimestamp() {
+    long created = millis.get() - 60_000;
+    UUID id = new UUID(created << 16 | 0x7000L, 0x8000000000000000L);
+    Payment replayed = save(new Payment(id, PaymentStatus.AUTHORIZED, "4242", 12, 2035, "USD", 1));
+    Payment recent = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 2));
+
+    PaymentPage page = find(new PaymentQuery(null, null, null, null, null, null,
+        Instant.ofEpochMilli(created + 1), null, 10));
+
+    assertThat(page.payments()).containsExactly(replayed);
+    assertThat(find(query(null, null, null, null, 10)).payments())
+        .containsExactly(recent, replayed);
+  }
+
+  @Test
+  void streamsEveryMatchingPaymentNewestFirstAsItIsConsumed() {
+    List<Payment> declined = new ArrayList<>();
+    for (int i = 0; i < 2_000; i++) {
+      PaymentStatus status = i % 2 == 0 ? PaymentStatus.DECLINED : PaymentStatus.AUTHORIZED;
+      Payment payment = save(payment(status, "USD", "4242", i));
+      if (payment.status() == PaymentStatus.DECLINED) {
+        declined.add(payment);
+      }
+      millis.incrementAndGet();
+    }
+    AtomicLong reads = new AtomicLong();
+
+    List<Payment> firstThree = index.stream(query(PaymentStatus.DECLINED, null, null, null,
+            Integer.MAX_VALUE), id -> {
+          reads.incrementAndGet();
+          return store.get(id);
+        })
+        .limit(3)
+        .toList();
+
+    assertThat(firstThree).containsExactlyElementsOf(declined.reversed().subList(0, 3));
+    assertThat(reads).hasValue(3);
+    assertThat(index.stream(query(PaymentStatus.DECLINED, null, null, null, Integer.MAX_VALUE),
+        store::get)).containsExactlyElementsOf(declined.reversed());
+  }
+
+  @Test
+  void streamSkipsEvictedPaymentsAndHonoursTheLimit() {
+    Payment oldest = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 1));
+    millis.incrementAndGet();
+    Payment middle = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 2));
+    millis.incrementAndGet();
+    Payment evicted = save(payment(PaymentStatus.AUTHORIZED, "USD", "4242", 3));
+    store.remove(evicted.id());
+
+    assertThat(index.stream(query(null, null, null, null, 2), store::get))
+        .containsExactly(middle, oldest);
+    assertThat(index.stream(query(null, "JPY", null, null, 2), store::get)).isEmpty();
+  }
+
+  @Test
+  void cursorRoundTripsThroughItsEncoding() {
+    PaymentCursor cursor = new PaymentCursor(millis.get(), UUID.randomUUID());
+
+    assertThat(PaymentCursor.decode(cursor.encode())).isEqualTo(cursor);
+  }
+
+  private Payment save(Payment payment) {
+    store.put(payment.id(), payment);
+    index.add(payment);
+    return payment;
+  }
+
+  private PaymentPage find(PaymentQuery query) {
+    return index.find(query, store::get);
+  }
+
+  private static PaymentQuery query(PaymentStatus status, String currency, String lastFour,
+                                    PaymentCursor after, int limit) {
+    return new PaymentQuery(status, currency, lastFour, null, null, null, null, after, limit);
+  }
+
+  private static Payment payment(PaymentStatus status, String currency, String lastFour,
+                                 int amount) {
+    return new Payment(UUID.randomUUID(), status, lastFour, 12, 2035, currency, amount);
+  }
+
+  private final class MutableClock extends Clock {
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return Instant.ofEpochMilli(millis.get());
+    }
+  }
+}